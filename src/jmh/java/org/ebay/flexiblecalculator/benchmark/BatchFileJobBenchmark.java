@@ -0,0 +1,84 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.job.BatchFileFormat;
+import org.ebay.flexiblecalculator.job.BatchFileJob;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the batch file job over 4M records of mixed operations and operand types, from a fresh
+ * output file each time, with small and large chunks
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BatchFileJobBenchmark {
+
+    private static final int RECORDS = 4 << 20;
+
+    @Param({"65536", "1048576"})
+    private int chunkSize;
+
+    private Path directory;
+    private Path input;
+    private Path output;
+    private ForkJoinPool executor;
+    private BatchFileJob job;
+
+    @Setup
+    public void setUp() throws IOException {
+        BenchmarkSupport.setApplicationLogLevel("WARN");
+        directory = Files.createTempDirectory("batch-job");
+        input = directory.resolve("calculations.bin");
+        output = directory.resolve("results.bin");
+
+        Operation[] operations = Operation.values();
+        String[] types = {"INT", "LONG", "FLOAT", "DOUBLE"};
+        Random random = new Random(42);
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0,
+                    BatchFileFormat.INPUT_HEADER_SIZE + (long) RECORDS * BatchFileFormat.RECORD_SIZE);
+            BatchFileFormat.writeInputHeader(buffer, RECORDS);
+            for (int i = 0; i < RECORDS; i++) {
+                BatchFileFormat.writeRecord(buffer, i, operations[random.nextInt(operations.length)],
+                        BenchmarkSupport.operand(types[random.nextInt(types.length)], random.nextInt(1000)),
+                        BenchmarkSupport.operand(types[random.nextInt(types.length)], 1 + random.nextInt(1000)));
+            }
+        }
+
+        executor = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+        job = new BatchFileJob(BenchmarkSupport.newRegistry(), executor, chunkSize);
+    }
+
+    @Setup(Level.Invocation)
+    public void deleteOutput() throws IOException {
+        Files.deleteIfExists(output);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        executor.shutdown();
+        Files.deleteIfExists(output);
+        Files.deleteIfExists(input);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public BatchFileJob.Summary run() throws IOException {
+        return job.run(input, output);
+    }
+}
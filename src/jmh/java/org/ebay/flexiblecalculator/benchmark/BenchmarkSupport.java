@@ -0,0 +1,58 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+
+/**
+ * Shared fixtures for the JMH benchmarks
+ */
+final class BenchmarkSupport {
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Create a registry with the built-in operation strategies, as Spring would
+     */
+    static OperationRegistry newRegistry() {
+        return new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+    }
+
+    /**
+     * Create calculator metrics backed by an in-memory registry, as with the default actuator setup
+     */
+    static CalculatorMetrics newMetrics() {
+        return new CalculatorMetrics(new SimpleMeterRegistry());
+    }
+
+    /**
+     * Set the log level of the application loggers, to measure logging cost on the hot path
+     */
+    static void setApplicationLogLevel(String level) {
+        ((Logger) LoggerFactory.getLogger("org.ebay.flexiblecalculator")).setLevel(Level.toLevel(level));
+    }
+
+    /**
+     * Create an operand of the given type: INT, LONG, FLOAT or DOUBLE
+     */
+    static Number operand(String type, int value) {
+        return switch (type) {
+            case "INT" -> value;
+            case "LONG" -> (long) value;
+            case "FLOAT" -> value + 0.5f;
+            case "DOUBLE" -> value + 0.5;
+            default -> throw new IllegalArgumentException("Unknown operand type: " + type);
+        };
+    }
+}
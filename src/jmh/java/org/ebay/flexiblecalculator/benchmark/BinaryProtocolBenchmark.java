@@ -0,0 +1,118 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.FlexibleCalculatorApplication;
+import org.ebay.flexiblecalculator.binary.BinaryCalculatorClient;
+import org.ebay.flexiblecalculator.binary.BinaryCalculatorServer;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks calculation throughput of the binary protocol against the REST endpoint, all served
+ * by the application running in process:
+ * <ul>
+ *     <li>rest - POST /calculate on a kept-alive HTTP/1.1 connection, one request at a time</li>
+ *     <li>tcp - one binary request at a time over loopback TCP</li>
+ *     <li>unix - one binary request at a time over a Unix domain socket</li>
+ *     <li>tcpPipelined - {@value #PIPELINE_DEPTH} binary requests written together, then awaited</li>
+ * </ul>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BinaryProtocolBenchmark {
+
+    private static final int PIPELINE_DEPTH = 100;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest restRequest;
+    private BinaryCalculatorClient binaryClient;
+    private BinaryCalculatorClient unixClient;
+    private List<CalculateRequest> pipeline;
+
+    @Setup
+    public void setUp() throws Exception {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Path socketPath = Files.createTempDirectory("calculator").resolve("calculator.sock");
+        SpringApplication application = new SpringApplication(FlexibleCalculatorApplication.class);
+        application.setBannerMode(Banner.Mode.OFF);
+        // Command line arguments, unlike default properties, take precedence over application.yml
+        String[] arguments = {
+                "--server.port=0",
+                "--calculator.binary.tcp.enabled=true",
+                "--calculator.binary.tcp.port=0",
+                "--calculator.binary.unix.enabled=true",
+                "--calculator.binary.unix.path=" + socketPath,
+                "--calculator.logging.sample-rate=0",
+                "--springdoc.api-docs.enabled=false",
+                "--springdoc.swagger-ui.enabled=false"
+        };
+        context = application.run(arguments);
+
+        int httpPort = ((WebServerApplicationContext) context).getWebServer().getPort();
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        restRequest = HttpRequest.newBuilder(URI.create("http://localhost:" + httpPort + "/api/v1/calculator/calculate"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"operation\":\"MULTIPLY\",\"num1\":1000,\"num2\":7}"))
+                .build();
+
+        int tcpPort = context.getBean("tcpCalculatorServer", BinaryCalculatorServer.class).getPort();
+        binaryClient = BinaryCalculatorClient.connect("localhost", tcpPort);
+        unixClient = BinaryCalculatorClient.connect(socketPath);
+        pipeline = new ArrayList<>(PIPELINE_DEPTH);
+        for (int i = 0; i < PIPELINE_DEPTH; i++) {
+            pipeline.add(new CalculateRequest(Operation.MULTIPLY, 1000, 7));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        binaryClient.close();
+        unixClient.close();
+        context.close();
+    }
+
+    @Benchmark
+    public String rest() throws Exception {
+        return httpClient.send(restRequest, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @Benchmark
+    public Number tcp() {
+        return binaryClient.calculate(Operation.MULTIPLY, 1000, 7);
+    }
+
+    @Benchmark
+    public Number unix() {
+        return unixClient.calculate(Operation.MULTIPLY, 1000, 7);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(PIPELINE_DEPTH)
+    public Number tcpPipelined() {
+        Number last = null;
+        for (CompletableFuture<Number> result : binaryClient.calculateAll(pipeline)) {
+            last = result.join();
+        }
+        return last;
+    }
+}
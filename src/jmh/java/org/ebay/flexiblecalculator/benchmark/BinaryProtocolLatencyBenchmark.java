@@ -0,0 +1,16 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the {@link BinaryProtocolBenchmark} calls for round-trip latency percentiles instead of throughput,
+ * comparing the median round trip over a Unix domain socket with loopback TCP and loopback HTTP.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryProtocolLatencyBenchmark extends BinaryProtocolBenchmark {
+}
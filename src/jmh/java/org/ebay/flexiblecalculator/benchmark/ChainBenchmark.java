@@ -0,0 +1,72 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.ebay.flexiblecalculator.service.chain.ChainedCalculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks chain evaluation of 10, 1k and 100k mixed operations
+ * through ChainedCalculator and ChainEvaluator
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ChainBenchmark {
+
+    private static final Operation[] OPERATIONS = {
+            Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE
+    };
+
+    @Param({"10", "1000", "100000"})
+    private int length;
+
+    @Param({"INT", "DOUBLE"})
+    private String operandType;
+
+    @Param({"WARN"})
+    private String logLevel;
+
+    private ChainedCalculator chainedCalculator;
+    private ChainEvaluator chainEvaluator;
+    private Number initialValue;
+    private List<ChainOperation> operations;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.setApplicationLogLevel(logLevel);
+        CalculatorImpl calculator = new CalculatorImpl(BenchmarkSupport.newRegistry(), BenchmarkSupport.newMetrics());
+        chainedCalculator = new ChainedCalculator(calculator);
+        chainEvaluator = new ChainEvaluator(calculator);
+
+        initialValue = BenchmarkSupport.operand(operandType, 1_000);
+        operations = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            operations.add(new ChainOperation(OPERATIONS[i % OPERATIONS.length],
+                    BenchmarkSupport.operand(operandType, 1 + i % 3)));
+        }
+    }
+
+    @Benchmark
+    public Number chainedCalculator() {
+        chainedCalculator.start(initialValue);
+        for (ChainOperation operation : operations) {
+            chainedCalculator.apply(operation.getOperation(), operation.getValue());
+        }
+        return chainedCalculator.getResult();
+    }
+
+    @Benchmark
+    public Number chainEvaluator() {
+        return chainEvaluator.evaluate(initialValue, operations);
+    }
+}
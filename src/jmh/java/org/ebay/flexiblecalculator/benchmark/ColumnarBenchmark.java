@@ -0,0 +1,110 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernel;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernels;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks one operation over 64k long or double operand pairs, with 1% division by zero:
+ * the scalar and Vector API column kernels, and a loop calling the strategy's primitive method per pair
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class ColumnarBenchmark {
+
+    @Param({"65536"})
+    private int size;
+
+    @Param({"ADD", "MULTIPLY", "DIVIDE"})
+    private Operation operation;
+
+    @Param({"LONG", "DOUBLE"})
+    private String type;
+
+    private ColumnarKernel scalar;
+    private ColumnarKernel vector;
+    private OperationStrategy strategy;
+    private long[] longs1;
+    private long[] longs2;
+    private double[] doubles1;
+    private double[] doubles2;
+    private long[] longResults;
+    private double[] doubleResults;
+    private boolean[] failed;
+
+    @Setup
+    public void setUp() {
+        scalar = ColumnarKernels.scalar();
+        vector = ColumnarKernels.best();
+        if (vector == scalar) {
+            throw new IllegalStateException("The Vector API module is not available");
+        }
+        strategy = BenchmarkSupport.newRegistry().getStrategy(operation).orElseThrow();
+
+        Random random = new Random(42);
+        longs1 = new long[size];
+        longs2 = new long[size];
+        doubles1 = new double[size];
+        doubles2 = new double[size];
+        for (int i = 0; i < size; i++) {
+            longs1[i] = random.nextInt();
+            longs2[i] = random.nextInt(100) == 0 ? 0 : random.nextInt();
+            doubles1[i] = longs1[i] / 7.0;
+            doubles2[i] = longs2[i] / 3.0;
+        }
+        longResults = new long[size];
+        doubleResults = new double[size];
+        failed = new boolean[size];
+    }
+
+    @Benchmark
+    public int scalarKernel() {
+        return run(scalar);
+    }
+
+    @Benchmark
+    public int vectorKernel() {
+        return run(vector);
+    }
+
+    /**
+     * The strategy's primitive methods reject a lane by throwing, so zero divisors are skipped here
+     */
+    @Benchmark
+    public int strategyLoop() {
+        int failures = 0;
+        boolean divide = operation == Operation.DIVIDE;
+        boolean longOperands = "LONG".equals(type);
+        boolean longResult = longOperands && !divide;
+        for (int i = 0; i < size; i++) {
+            if (divide && (longOperands ? longs2[i] == 0 : doubles2[i] == 0)) {
+                failures++;
+            } else if (longResult) {
+                longResults[i] = strategy.executeLong(longs1[i], longs2[i]);
+            } else if (longOperands) {
+                doubleResults[i] = strategy.executeDouble(longs1[i], longs2[i]);
+            } else {
+                doubleResults[i] = strategy.executeDouble(doubles1[i], doubles2[i]);
+            }
+        }
+        return failures;
+    }
+
+    private int run(ColumnarKernel kernel) {
+        if (!"LONG".equals(type)) {
+            return kernel.doubles(operation, doubles1, doubles2, doubleResults, failed);
+        }
+        return operation == Operation.DIVIDE
+                ? kernel.divideLongs(longs1, longs2, doubleResults, failed)
+                : kernel.longs(operation, longs1, longs2, longResults, failed);
+    }
+}
@@ -0,0 +1,53 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks strategy lookup in the OperationRegistry and the full CalculatorImpl.calculate call,
+ * with application loggers at INFO (as shipped) and WARN; the two should match now that
+ * the calculation path no longer logs
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DispatchBenchmark {
+
+    @Param({"INFO", "WARN"})
+    private String logLevel;
+
+    private OperationRegistry registry;
+    private CalculatorImpl calculator;
+    private Operation operation;
+    private Number num1;
+    private Number num2;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.setApplicationLogLevel(logLevel);
+        registry = BenchmarkSupport.newRegistry();
+        calculator = new CalculatorImpl(registry, BenchmarkSupport.newMetrics());
+        operation = Operation.MULTIPLY;
+        num1 = 1_000;
+        num2 = 7;
+    }
+
+    @Benchmark
+    public Optional<OperationStrategy> registryLookup() {
+        return registry.getStrategy(operation);
+    }
+
+    @Benchmark
+    public Number calculatorCalculate() {
+        return calculator.calculate(operation, num1, num2);
+    }
+}
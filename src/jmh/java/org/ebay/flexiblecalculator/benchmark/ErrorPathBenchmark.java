@@ -0,0 +1,87 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.config.BatchProperties;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.batch.BatchCalculator;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks an error-heavy workload: batches of 1k divisions of which a given percentage divide by zero,
+ * evaluated sequentially as a batch, as error results, and by catching the exception of the throwing calculate
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ErrorPathBenchmark {
+
+    @Param({"1024"})
+    private int size;
+
+    @Param({"0", "50", "100"})
+    private int errorPercent;
+
+    private CalculatorImpl calculator;
+    private BatchCalculator batchCalculator;
+    private ForkJoinPool batchExecutor;
+    private List<CalculateRequest> calculations;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.setApplicationLogLevel("WARN");
+        calculator = new CalculatorImpl(BenchmarkSupport.newRegistry(), BenchmarkSupport.newMetrics());
+
+        // Keep the batch sequential, so only the error handling differs between the benchmarks
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setParallelThreshold(Integer.MAX_VALUE);
+        batchExecutor = new ForkJoinPool(1);
+        batchCalculator = new BatchCalculator(calculator, batchExecutor, batchProperties);
+
+        calculations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            int divisor = i * 100 / size < errorPercent ? 0 : 1 + i % 7;
+            calculations.add(new CalculateRequest(Operation.DIVIDE, i, divisor));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        batchExecutor.shutdown();
+    }
+
+    @Benchmark
+    public List<Response> batch() {
+        return batchCalculator.calculate(calculations);
+    }
+
+    @Benchmark
+    public void evaluate(Blackhole blackhole) {
+        for (CalculateRequest request : calculations) {
+            blackhole.consume(calculator.evaluate(request.getOperation(), request.getNum1(), request.getNum2()));
+        }
+    }
+
+    @Benchmark
+    public void calculateCatching(Blackhole blackhole) {
+        for (CalculateRequest request : calculations) {
+            try {
+                blackhole.consume(calculator.calculate(request.getOperation(), request.getNum1(), request.getNum2()));
+            } catch (CalculationException e) {
+                blackhole.consume(CalculationResult.error(e.getMessage()));
+            }
+        }
+    }
+}
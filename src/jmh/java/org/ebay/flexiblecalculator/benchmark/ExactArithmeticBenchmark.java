@@ -0,0 +1,91 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the overflow-checked integer arithmetic on the small values most requests carry:
+ * a copy of the previous wrapping int/long arithmetic against the strategies' boxed and in-place paths,
+ * over 1024 operand pairs per invocation
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExactArithmeticBenchmark {
+
+    private static final int PAIRS = 1024;
+
+    @Param({"ADD", "MULTIPLY"})
+    private Operation operation;
+
+    @Param({"INT", "LONG"})
+    private String operandType;
+
+    private OperationStrategy strategy;
+    private Number[] left;
+    private Number[] right;
+    private NumericAccumulator[] rightAccumulators;
+    private NumericAccumulator accumulator;
+
+    @Setup
+    public void setUp() {
+        strategy = BenchmarkSupport.newRegistry().getStrategy(operation).orElseThrow();
+        Random random = new Random(42);
+        left = new Number[PAIRS];
+        right = new Number[PAIRS];
+        rightAccumulators = new NumericAccumulator[PAIRS];
+        for (int i = 0; i < PAIRS; i++) {
+            left[i] = BenchmarkSupport.operand(operandType, random.nextInt(10_000) - 5_000);
+            right[i] = BenchmarkSupport.operand(operandType, random.nextInt(100) - 50);
+            rightAccumulators[i] = NumericAccumulator.of(right[i]);
+        }
+        accumulator = new NumericAccumulator();
+    }
+
+    @Benchmark
+    public void wrappingBoxed(Blackhole blackhole) {
+        boolean add = operation == Operation.ADD;
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(wrapping(add, left[i], right[i]));
+        }
+    }
+
+    @Benchmark
+    public void exactBoxed(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            blackhole.consume(strategy.execute(left[i], right[i]));
+        }
+    }
+
+    @Benchmark
+    public void exactInPlace(Blackhole blackhole) {
+        for (int i = 0; i < PAIRS; i++) {
+            accumulator.set(left[i]);
+            strategy.executeInPlace(accumulator, rightAccumulators[i]);
+            blackhole.consume(accumulator.longValue());
+        }
+    }
+
+    /**
+     * AddOperation and MultiplyOperation before overflow promotion
+     */
+    private static Number wrapping(boolean add, Number num1, Number num2) {
+        if (num1 instanceof Double || num2 instanceof Double) {
+            return add ? num1.doubleValue() + num2.doubleValue() : num1.doubleValue() * num2.doubleValue();
+        } else if (num1 instanceof Float || num2 instanceof Float) {
+            return add ? num1.floatValue() + num2.floatValue() : num1.floatValue() * num2.floatValue();
+        } else if (num1 instanceof Long || num2 instanceof Long) {
+            return add ? num1.longValue() + num2.longValue() : num1.longValue() * num2.longValue();
+        }
+        return add ? num1.intValue() + num2.intValue() : num1.intValue() * num2.intValue();
+    }
+}
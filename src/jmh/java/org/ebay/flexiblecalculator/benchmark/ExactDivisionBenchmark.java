@@ -0,0 +1,55 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.model.DivisionMode;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks integer chains of 1k operations that divide and multiply by the same small values,
+ * evaluated with floating point division and with exact fractions
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExactDivisionBenchmark {
+
+    @Param({"1000"})
+    private int length;
+
+    @Param({"DOUBLE", "EXACT"})
+    private DivisionMode divisionMode;
+
+    private ChainEvaluator chainEvaluator;
+    private List<ChainOperation> operations;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.setApplicationLogLevel("WARN");
+        chainEvaluator = new ChainEvaluator(new CalculatorImpl(BenchmarkSupport.newRegistry(), BenchmarkSupport.newMetrics()));
+
+        // DIVIDE k, ADD 1, MULTIPLY k, SUBTRACT k for k = 2..9
+        operations = new ArrayList<>(length);
+        for (int i = 0; operations.size() < length; i++) {
+            int k = 2 + i % 8;
+            operations.add(new ChainOperation(Operation.DIVIDE, k));
+            operations.add(new ChainOperation(Operation.ADD, 1));
+            operations.add(new ChainOperation(Operation.MULTIPLY, k));
+            operations.add(new ChainOperation(Operation.SUBTRACT, k));
+        }
+    }
+
+    @Benchmark
+    public Number evaluate() {
+        return chainEvaluator.evaluate(1_000, operations, divisionMode);
+    }
+}
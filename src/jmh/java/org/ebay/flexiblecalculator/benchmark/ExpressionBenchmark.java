@@ -0,0 +1,80 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.config.ExpressionProperties;
+import org.ebay.flexiblecalculator.service.expression.Expression;
+import org.ebay.flexiblecalculator.service.expression.ExpressionEvaluator;
+import org.ebay.flexiblecalculator.service.expression.ExpressionParser;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the cost of parsing an infix expression against evaluating it, for a short expression and
+ * a longer one with nesting and several variables. The bindings alternate between calls, as with clients
+ * that repeat an expression with different values.
+ * <p>
+ * {@code parse} parses the text only; {@code parseAndEvaluate} is the cost of a cache miss, {@code cachedEvaluate}
+ * the cost of a hit through the cache, and {@code evaluate} the evaluation of an already parsed expression.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ExpressionBenchmark {
+
+    @Param({"SHORT", "LONG"})
+    private String shape;
+
+    private String text;
+    private Map<String, Number>[] bindings;
+    private int next;
+    private Expression parsed;
+    private ExpressionEvaluator evaluator;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        if (shape.equals("SHORT")) {
+            text = "(3 + 4) * 2 / x";
+            bindings = new Map[]{Map.of("x", 7), Map.of("x", 2.5)};
+        } else {
+            text = "(price * quantity - discount) * (1 + tax / 100) / (quantity + (shipping - 2 * 3.5)) - fee";
+            bindings = new Map[]{
+                    Map.of("price", 120, "quantity", 3, "discount", 15, "tax", 20, "shipping", 12, "fee", 1),
+                    Map.of("price", 99.5, "quantity", 7, "discount", 0, "tax", 8, "shipping", 9, "fee", 2.5)
+            };
+        }
+        evaluator = new ExpressionEvaluator(BenchmarkSupport.newRegistry(), new ExpressionProperties(),
+                new SimpleMeterRegistry());
+        parsed = evaluator.parse(text);
+    }
+
+    @Benchmark
+    public Expression parse() {
+        return ExpressionParser.parse(text);
+    }
+
+    @Benchmark
+    public Number parseAndEvaluate() {
+        return evaluator.evaluate(ExpressionParser.parse(text), nextBindings());
+    }
+
+    @Benchmark
+    public Number cachedEvaluate() {
+        return evaluator.evaluate(text, nextBindings());
+    }
+
+    @Benchmark
+    public Number evaluate() {
+        return evaluator.evaluate(parsed, nextBindings());
+    }
+
+    private Map<String, Number> nextBindings() {
+        next ^= 1;
+        return bindings[next];
+    }
+}
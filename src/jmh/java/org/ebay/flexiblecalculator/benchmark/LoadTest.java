@@ -0,0 +1,205 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.FlexibleCalculatorApplication;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load test comparing the deployments of the calculator API:
+ * <ul>
+ *     <li>platform - Spring MVC on Tomcat worker threads</li>
+ *     <li>virtual - Spring MVC on Tomcat with virtual threads</li>
+ *     <li>reactive - Spring WebFlux on Netty</li>
+ * </ul>
+ * For each mode the application is started in process on a random port, then /calculate and /chain
+ * are driven with a fixed number of requests in flight, each on its own connection. Reported per run:
+ * throughput, latency percentiles, errors and the peak number of platform threads, which is what
+ * grows with the connection count when requests are handled on platform threads.
+ * <p>
+ * Run with: {@code mvn -Pbenchmark test-compile exec:exec@load-test -Dloadtest.args="--concurrency=10000"}
+ * <br>Options: {@code --modes=platform,virtual,reactive --concurrency=1000 --warmup=5 --duration=20 --chain-length=100}
+ * <br>High connection counts need a matching open file limit ({@code ulimit -n}).
+ * <p>
+ * Virtual threads need Java 21; on older JVMs the virtual run falls back to platform threads and says so.
+ */
+public final class LoadTest {
+
+    private static final String CALCULATE_BODY = "{\"operation\":\"MULTIPLY\",\"num1\":1000,\"num2\":7}";
+
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final String chainBody;
+    private final HttpClient client;
+    private final ExecutorService clientExecutor;
+
+    private LoadTest(Map<String, String> options) {
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "1000"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "20")));
+        this.chainBody = chainBody(Integer.parseInt(options.getOrDefault("chain-length", "100")));
+        // A small fixed client pool, so the client's own thread count is the same in both modes
+        this.clientExecutor = Executors.newFixedThreadPool(4);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientExecutor)
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        // DevTools would restart this main class in its own class loader, without the arguments
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        Map<String, String> options = parseOptions(args);
+        LoadTest loadTest = new LoadTest(options);
+        try {
+            for (String mode : options.getOrDefault("modes", "platform,virtual,reactive").split(",")) {
+                loadTest.run(mode.trim());
+            }
+        } finally {
+            loadTest.clientExecutor.shutdownNow();
+        }
+    }
+
+    private void run(String mode) throws InterruptedException {
+        boolean virtual = "virtual".equals(mode);
+        if (virtual && Runtime.version().feature() < 21) {
+            System.out.printf("%nJava %d has no virtual threads; the virtual run uses platform threads%n",
+                    Runtime.version().feature());
+        }
+
+        SpringApplication application = new SpringApplication(FlexibleCalculatorApplication.class);
+        application.setBannerMode(Banner.Mode.OFF);
+        // Command line arguments, unlike default properties, take precedence over application.yml
+        String[] arguments = {
+                "--server.port=0",
+                "--spring.main.web-application-type=" + ("reactive".equals(mode) ? "reactive" : "servlet"),
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--calculator.logging.sample-rate=0",
+                "--springdoc.api-docs.enabled=false",
+                "--springdoc.swagger-ui.enabled=false"
+        };
+
+        try (ConfigurableApplicationContext context = application.run(arguments)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/v1/calculator";
+            System.out.printf("%n%-8s %-10s %11s %10s %10s %10s %8s %14s%n",
+                    "mode", "endpoint", "requests/s", "p50 ms", "p99 ms", "max ms", "errors", "peak threads");
+
+            drive(mode, "calculate", URI.create(baseUrl + "/calculate"), CALCULATE_BODY);
+            drive(mode, "chain", URI.create(baseUrl + "/chain"), chainBody);
+        }
+    }
+
+    private void drive(String mode, String endpoint, URI uri, String body) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        load(request, warmup, null);
+
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        threads.resetPeakThreadCount();
+        Timer latency = Timer.builder("loadtest.latency")
+                .publishPercentiles(0.5, 0.99)
+                .distributionStatisticExpiry(duration.multipliedBy(2))
+                .distributionStatisticBufferLength(1)
+                .register(new SimpleMeterRegistry());
+        LongAdder errors = load(request, duration, latency);
+
+        Map<Double, Double> percentiles = new HashMap<>();
+        for (ValueAtPercentile value : latency.takeSnapshot().percentileValues()) {
+            percentiles.put(value.percentile(), value.value(TimeUnit.MILLISECONDS));
+        }
+        System.out.printf("%-8s %-10s %11.0f %10.2f %10.2f %10.2f %8d %14d%n",
+                mode, endpoint,
+                latency.count() / (double) duration.toSeconds(),
+                percentiles.get(0.5), percentiles.get(0.99), latency.max(TimeUnit.MILLISECONDS),
+                errors.sum(), threads.getPeakThreadCount());
+    }
+
+    /**
+     * Keep {@link #concurrency} requests in flight for the given time; each completion sends the next request
+     *
+     * @return the number of failed requests
+     */
+    private LongAdder load(HttpRequest request, Duration time, Timer latency) throws InterruptedException {
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch finished = new CountDownLatch(concurrency);
+        LongAdder errors = new LongAdder();
+
+        for (int i = 0; i < concurrency; i++) {
+            send(request, running, finished, errors, latency);
+        }
+        Thread.sleep(time.toMillis());
+        running.set(false);
+        finished.await(60, TimeUnit.SECONDS);
+        return errors;
+    }
+
+    private void send(HttpRequest request, AtomicBoolean running, CountDownLatch finished,
+                      LongAdder errors, Timer latency) {
+        long start = System.nanoTime();
+        client.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((response, failure) -> {
+            if (failure != null || response.statusCode() != 200) {
+                errors.increment();
+            } else if (latency != null && running.get()) {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+
+            if (running.get()) {
+                send(request, running, finished, errors, latency);
+            } else {
+                finished.countDown();
+            }
+        });
+    }
+
+    private static String chainBody(int length) {
+        StringBuilder body = new StringBuilder("{\"initialValue\":1000,\"operations\":[");
+        String[] operations = {"ADD", "MULTIPLY", "SUBTRACT", "DIVIDE"};
+        for (int i = 0; i < length; i++) {
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"operation\":\"").append(operations[i % operations.length])
+                    .append("\",\"value\":").append(1 + i % 3).append('}');
+        }
+        return body.append("]}").toString();
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+}
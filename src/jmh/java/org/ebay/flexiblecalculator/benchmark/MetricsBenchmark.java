@@ -0,0 +1,78 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the overhead of calculation metrics on CalculatorImpl.calculate:
+ * NOOP has no registry attached, SIMPLE is the default in-memory registry and
+ * HISTOGRAM also publishes percentile histogram buckets, as configured in application.yml
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetricsBenchmark {
+
+    @Param({"NOOP", "SIMPLE", "HISTOGRAM"})
+    private String registryType;
+
+    private CalculatorImpl calculator;
+    private Operation operation;
+    private Number num1;
+    private Number num2;
+
+    @Setup
+    public void setUp() {
+        BenchmarkSupport.setApplicationLogLevel("WARN");
+        calculator = new CalculatorImpl(BenchmarkSupport.newRegistry(), new CalculatorMetrics(newMeterRegistry()));
+        operation = Operation.MULTIPLY;
+        num1 = 1_000;
+        num2 = 7;
+    }
+
+    @Benchmark
+    public Number calculate() {
+        return calculator.calculate(operation, num1, num2);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Number calculateContended() {
+        return calculator.calculate(operation, num1, num2);
+    }
+
+    private MeterRegistry newMeterRegistry() {
+        return switch (registryType) {
+            // a composite without children hands out no-op meters
+            case "NOOP" -> new CompositeMeterRegistry();
+            case "SIMPLE" -> new SimpleMeterRegistry();
+            case "HISTOGRAM" -> {
+                SimpleMeterRegistry registry = new SimpleMeterRegistry();
+                registry.config().meterFilter(new MeterFilter() {
+                    @Override
+                    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                        return DistributionStatisticConfig.builder()
+                                .percentilesHistogram(true)
+                                .build()
+                                .merge(config);
+                    }
+                });
+                yield registry;
+            }
+            default -> throw new IllegalArgumentException("Unknown registry type: " + registryType);
+        };
+    }
+}
@@ -0,0 +1,80 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.ebay.flexiblecalculator.config.JacksonNumbersConfig;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading and writing a chain request of 100k values:
+ * the default mapper, ignoring the OperandDeserializer annotations and formatting doubles with Double.toString,
+ * against the fast number parser, writer and OperandDeserializer
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NumberCodecBenchmark {
+
+    private static final Operation[] OPERATIONS = {
+            Operation.ADD, Operation.MULTIPLY, Operation.SUBTRACT, Operation.DIVIDE
+    };
+
+    @Param({"100000"})
+    private int length;
+
+    @Param({"INT", "DOUBLE"})
+    private String operandType;
+
+    private ObjectMapper defaultMapper;
+    private ObjectMapper fastMapper;
+    private ChainRequest request;
+    private byte[] body;
+
+    @Setup
+    public void setUp() throws IOException {
+        defaultMapper = JsonMapper.builder().disable(MapperFeature.USE_ANNOTATIONS).build();
+        fastMapper = new ObjectMapper(JacksonNumbersConfig.jsonFactory());
+
+        Random random = new Random(42);
+        List<ChainOperation> operations = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            Number value = "INT".equals(operandType) ? random.nextInt(1_000_000) : random.nextDouble() * 1_000;
+            operations.add(new ChainOperation(OPERATIONS[i % OPERATIONS.length], value));
+        }
+        request = new ChainRequest(1_000, operations);
+        body = fastMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public ChainRequest readDefault() throws IOException {
+        return defaultMapper.readValue(body, ChainRequest.class);
+    }
+
+    @Benchmark
+    public ChainRequest readFast() throws IOException {
+        return fastMapper.readValue(body, ChainRequest.class);
+    }
+
+    @Benchmark
+    public byte[] writeDefault() throws IOException {
+        return defaultMapper.writeValueAsBytes(request);
+    }
+
+    @Benchmark
+    public byte[] writeFast() throws IOException {
+        return fastMapper.writeValueAsBytes(request);
+    }
+}
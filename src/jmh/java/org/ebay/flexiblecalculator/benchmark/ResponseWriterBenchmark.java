@@ -0,0 +1,100 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.config.ResultHttpMessageConverter;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks writing one calculation result to the response body:
+ * the Response envelope built per result and serialized by Jackson, as before,
+ * the envelope written from precomputed bytes, and the raw number.
+ * Run with -prof gc to compare bytes allocated per result.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseWriterBenchmark {
+
+    @Param({"INT", "DOUBLE"})
+    private String resultType;
+
+    private Number result;
+    private MappingJackson2HttpMessageConverter jackson;
+    private ResultHttpMessageConverter envelope;
+    private ResultHttpMessageConverter raw;
+    private Body body;
+
+    @Setup
+    public void setUp() {
+        result = BenchmarkSupport.operand(resultType, 7_000);
+        jackson = new MappingJackson2HttpMessageConverter(new ObjectMapper());
+        envelope = ResultHttpMessageConverter.envelope();
+        raw = ResultHttpMessageConverter.raw();
+        body = new Body();
+    }
+
+    @Benchmark
+    public int jacksonEnvelope() throws IOException {
+        Response response = Response.builder()
+                .code("200")
+                .message("Success")
+                .data(result)
+                .build();
+        jackson.write(response, MediaType.APPLICATION_JSON, body.reset());
+        return body.size();
+    }
+
+    @Benchmark
+    public int fastEnvelope() throws IOException {
+        envelope.write(result, MediaType.APPLICATION_JSON, body.reset());
+        return body.size();
+    }
+
+    @Benchmark
+    public int rawNumber() throws IOException {
+        raw.write(result, MediaType.TEXT_PLAIN, body.reset());
+        return body.size();
+    }
+
+    /**
+     * Response body reused across invocations, so only the writers' own allocations are measured
+     */
+    private static final class Body implements HttpOutputMessage {
+
+        private final HttpHeaders headers = new HttpHeaders();
+        private final ByteArrayOutputStream stream = new ByteArrayOutputStream(256);
+
+        Body reset() {
+            headers.clear();
+            stream.reset();
+            return this;
+        }
+
+        int size() {
+            return stream.size();
+        }
+
+        @Override
+        public OutputStream getBody() {
+            return stream;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
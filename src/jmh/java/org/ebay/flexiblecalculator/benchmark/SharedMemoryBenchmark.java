@@ -0,0 +1,57 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.shm.SharedMemoryCalculatorClient;
+import org.ebay.flexiblecalculator.shm.SharedMemoryCalculatorServer;
+import org.ebay.flexiblecalculator.shm.WaitStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the round trip of a calculation through the shared memory ring, reporting latency
+ * percentiles for each wait strategy, used by both the poller and the caller.
+ * BUSY_SPIN needs a free core for each of them; with fewer cores the spinning threads take turns
+ * and latency becomes the scheduler's time slice.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SharedMemoryBenchmark {
+
+    @Param({"BUSY_SPIN", "YIELD", "PARK"})
+    private WaitStrategy waitStrategy;
+
+    private Path directory;
+    private SharedMemoryCalculatorServer server;
+    private SharedMemoryCalculatorClient client;
+
+    @Setup
+    public void setUp() throws Exception {
+        BenchmarkSupport.setApplicationLogLevel("WARN");
+        Path shm = Path.of("/dev/shm");
+        directory = Files.isDirectory(shm) ? Files.createTempDirectory(shm, "calculator")
+                : Files.createTempDirectory("calculator");
+        Path ringPath = directory.resolve("calculator.ring");
+        server = new SharedMemoryCalculatorServer(BenchmarkSupport.newRegistry(), ringPath, 1024, waitStrategy);
+        server.start();
+        client = SharedMemoryCalculatorClient.open(ringPath, waitStrategy);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        client.close();
+        server.stop();
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public Number roundTrip() {
+        return client.calculate(Operation.MULTIPLY, 1000, 7);
+    }
+}
@@ -0,0 +1,57 @@
+package org.ebay.flexiblecalculator.benchmark;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks each operation strategy across Integer/Long/Float/Double operand mixes,
+ * comparing the boxed execute path with the primitive in-place path
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StrategyBenchmark {
+
+    @Param({"ADD", "SUBTRACT", "MULTIPLY", "DIVIDE"})
+    private Operation operation;
+
+    @Param({"INT", "LONG", "FLOAT", "DOUBLE"})
+    private String leftType;
+
+    @Param({"INT", "DOUBLE"})
+    private String rightType;
+
+    private OperationStrategy strategy;
+    private Number num1;
+    private Number num2;
+    private NumericAccumulator accumulator;
+    private NumericAccumulator operand;
+
+    @Setup
+    public void setUp() {
+        strategy = BenchmarkSupport.newRegistry().getStrategy(operation).orElseThrow();
+        num1 = BenchmarkSupport.operand(leftType, 1_000);
+        num2 = BenchmarkSupport.operand(rightType, 7);
+        accumulator = new NumericAccumulator();
+        operand = NumericAccumulator.of(num2);
+    }
+
+    @Benchmark
+    public Number boxedExecute() {
+        return strategy.execute(num1, num2);
+    }
+
+    @Benchmark
+    public double primitiveExecuteInPlace() {
+        accumulator.set(num1);
+        strategy.executeInPlace(accumulator, operand);
+        return accumulator.doubleValue();
+    }
+}
@@ -0,0 +1,298 @@
+package org.ebay.flexiblecalculator.binary;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Client for the {@link BinaryProtocol}.
+ * <p>
+ * A client holds one connection and is safe for use by multiple threads. Requests are written as soon as
+ * they are made and answered asynchronously, so any number of them can be in flight at once; a reader thread
+ * completes them as their responses arrive.
+ */
+@Slf4j
+public class BinaryCalculatorClient implements AutoCloseable {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SocketChannel channel;
+    private final ByteBuffer writeBuffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final Map<Integer, CompletableFuture<Number>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger nextRequestId = new AtomicInteger();
+    private final Thread reader;
+    private volatile boolean closed;
+
+    private BinaryCalculatorClient(SocketChannel channel) {
+        this.channel = channel;
+        this.reader = new Thread(this::readResponses, "binary-client-reader");
+        this.reader.setDaemon(true);
+        this.reader.start();
+    }
+
+    /**
+     * Connect to a server over TCP
+     */
+    public static BinaryCalculatorClient connect(String host, int port) throws IOException {
+        return connect(new InetSocketAddress(host, port));
+    }
+
+    /**
+     * Connect to a server over a Unix domain socket
+     */
+    public static BinaryCalculatorClient connect(Path socketPath) throws IOException {
+        return connect(UnixDomainSocketAddress.of(socketPath));
+    }
+
+    /**
+     * Connect to a server at the given address
+     */
+    public static BinaryCalculatorClient connect(SocketAddress address) throws IOException {
+        SocketChannel channel = SocketChannel.open(address);
+        if (address instanceof InetSocketAddress) {
+            channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+        }
+        return new BinaryCalculatorClient(channel);
+    }
+
+    /**
+     * Perform a calculation and wait for its result
+     *
+     * @throws CalculationException if the server rejects the calculation
+     */
+    public Number calculate(Operation operation, Number num1, Number num2) {
+        try {
+            return calculateAsync(operation, num1, num2).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Send a calculation without waiting for its result
+     *
+     * @return a future completed with the result, or with a CalculationException if the server rejects it
+     */
+    public CompletableFuture<Number> calculateAsync(Operation operation, Number num1, Number num2) {
+        return calculateAll(List.of(new CalculateRequest(operation, num1, num2))).get(0);
+    }
+
+    /**
+     * Send several calculations in as few writes as possible
+     *
+     * @return one future per request, in request order
+     */
+    public List<CompletableFuture<Number>> calculateAll(List<CalculateRequest> requests) {
+        List<CompletableFuture<Number>> results = new ArrayList<>(requests.size());
+        synchronized (writeBuffer) {
+            try {
+                writeBuffer.clear();
+                for (CalculateRequest request : requests) {
+                    results.add(send(BinaryProtocol.REQUEST_SIZE, requestId -> BinaryProtocol.writeRequest(
+                            writeBuffer, requestId, request.getOperation(), request.getNum1(), request.getNum2())));
+                }
+                writeFully();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Perform a chain calculation and wait for its result
+     *
+     * @throws CalculationException if the server rejects the chain
+     * @throws IllegalArgumentException if the chain is longer than {@value BinaryProtocol#MAX_CHAIN_LENGTH}
+     *                                  operations or holds unsupported number types
+     */
+    public Number calculateChain(ChainRequest request) {
+        try {
+            return calculateChainAsync(request).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Send a chain calculation without waiting for its result
+     *
+     * @return a future completed with the result, or with a CalculationException if the server rejects it
+     */
+    public CompletableFuture<Number> calculateChainAsync(ChainRequest request) {
+        List<ChainOperation> operations = request.getOperations();
+        synchronized (writeBuffer) {
+            try {
+                writeBuffer.clear();
+                CompletableFuture<Number> result = send(BinaryProtocol.chainRequestSize(operations.size()),
+                        requestId -> BinaryProtocol.writeChainRequest(
+                                writeBuffer, requestId, request.getInitialValue(), operations));
+                writeFully();
+                return result;
+            } catch (IOException e) {
+                fail(e);
+                return CompletableFuture.failedFuture(new UncheckedIOException(e));
+            }
+        }
+    }
+
+    /**
+     * Add a request frame to the write buffer, writing out the buffer first if the frame does not fit
+     */
+    private CompletableFuture<Number> send(int frameSize, IntConsumer writer) throws IOException {
+        CompletableFuture<Number> result = new CompletableFuture<>();
+        if (closed) {
+            result.completeExceptionally(new IllegalStateException("Client is closed"));
+            return result;
+        }
+        if (frameSize > BinaryProtocol.MAX_REQUEST_SIZE) {
+            result.completeExceptionally(new IllegalArgumentException("Request of " + frameSize
+                    + " bytes exceeds the maximum of " + BinaryProtocol.MAX_REQUEST_SIZE));
+            return result;
+        }
+        if (writeBuffer.remaining() < frameSize) {
+            writeFully();
+        }
+        int requestId = nextRequestId.getAndIncrement();
+        int position = writeBuffer.position();
+        try {
+            writer.accept(requestId);
+        } catch (IllegalArgumentException e) {
+            writeBuffer.position(position);
+            result.completeExceptionally(e);
+            return result;
+        }
+        inFlight.put(requestId, result);
+        if (closed && inFlight.remove(requestId) != null) {
+            // the connection failed while the request was being added
+            result.completeExceptionally(new IllegalStateException("Client is closed"));
+        }
+        return result;
+    }
+
+    private void writeFully() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    /**
+     * Number of requests sent and not yet answered
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private void readResponses() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        try {
+            while (true) {
+                if (channel.read(buffer) < 0) {
+                    throw new EOFException("Connection closed by server");
+                }
+                buffer.flip();
+                while (readResponse(buffer)) {
+                    // complete every whole response in the buffer
+                }
+                buffer.compact();
+            }
+        } catch (IOException e) {
+            fail(e);
+        }
+    }
+
+    /**
+     * Complete the request of the next response, if the buffer holds all of it
+     */
+    private boolean readResponse(ByteBuffer buffer) {
+        if (buffer.remaining() < BinaryProtocol.RESPONSE_HEADER_SIZE) {
+            return false;
+        }
+        int start = buffer.position();
+        int requestId = buffer.getInt(start);
+        byte status = buffer.get(start + 4);
+        if (status == BinaryProtocol.STATUS_OK) {
+            if (buffer.remaining() < BinaryProtocol.SUCCESS_RESPONSE_SIZE) {
+                return false;
+            }
+            Number value = BinaryProtocol.decode(buffer.get(start + 5), buffer.getLong(start + 8));
+            buffer.position(start + BinaryProtocol.SUCCESS_RESPONSE_SIZE);
+            complete(requestId).complete(value);
+        } else {
+            int length = buffer.getShort(start + 6);
+            if (buffer.remaining() < BinaryProtocol.RESPONSE_HEADER_SIZE + length) {
+                return false;
+            }
+            byte[] message = new byte[length];
+            buffer.position(start + BinaryProtocol.RESPONSE_HEADER_SIZE).get(message);
+            complete(requestId).completeExceptionally(
+                    new CalculationException(new String(message, StandardCharsets.UTF_8)));
+        }
+        return true;
+    }
+
+    private CompletableFuture<Number> complete(int requestId) {
+        CompletableFuture<Number> result = inFlight.remove(requestId);
+        // an unknown id can only come from a broken server; completing a throwaway future ignores it
+        return result != null ? result : new CompletableFuture<>();
+    }
+
+    /**
+     * Fail every request in flight and stop accepting new ones
+     */
+    private void fail(IOException cause) {
+        if (!closed) {
+            log.debug("Binary client connection failed: {}", cause.getMessage());
+        }
+        closed = true;
+        UncheckedIOException failure = new UncheckedIOException(cause);
+        inFlight.keySet().forEach(requestId -> {
+            CompletableFuture<Number> result = inFlight.remove(requestId);
+            if (result != null) {
+                result.completeExceptionally(failure);
+            }
+        });
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        channel.close();
+        try {
+            reader.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package org.ebay.flexiblecalculator.binary;
+
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.CalculatorService;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Non-blocking server for the {@link BinaryProtocol}, listening on a TCP port or a Unix domain socket.
+ * <p>
+ * An acceptor thread hands new connections round-robin to a fixed set of worker threads, each running
+ * its own selector. A worker decodes every complete request frame it has read, dispatches it to the
+ * {@link CalculatorService} and queues the response, so clients can pipeline any number of requests on a connection.
+ * When a client does not read its responses, the worker stops reading its requests until the output drains.
+ */
+@Slf4j
+public class BinaryCalculatorServer implements SmartLifecycle {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final CalculatorService calculatorService;
+    private final SocketAddress address;
+    private final int workerCount;
+    private final String name;
+
+    /**
+     * Permissions applied to the socket file when listening on a Unix domain socket; null keeps the umask default
+     */
+    @Setter
+    private Set<PosixFilePermission> socketPermissions;
+
+    private ServerSocketChannel serverChannel;
+    private Worker[] workers;
+    private Thread acceptor;
+    private volatile boolean running;
+
+    /**
+     * @param calculatorService the service requests are dispatched to, as by the REST controller
+     * @param address the address to listen on
+     * @param workerCount number of worker threads; 0 means one per available processor
+     * @param name name used for the server's threads and log messages
+     */
+    public BinaryCalculatorServer(CalculatorService calculatorService, SocketAddress address, int workerCount,
+                                  String name) {
+        this.calculatorService = calculatorService;
+        this.address = address;
+        this.workerCount = workerCount > 0 ? workerCount : Runtime.getRuntime().availableProcessors();
+        this.name = name;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            if (address instanceof UnixDomainSocketAddress unixAddress) {
+                serverChannel = ServerSocketChannel.open(StandardProtocolFamily.UNIX);
+                removeStaleSocket(unixAddress.getPath());
+                serverChannel.bind(address);
+                if (socketPermissions != null) {
+                    Files.setPosixFilePermissions(unixAddress.getPath(), socketPermissions);
+                }
+            } else {
+                serverChannel = ServerSocketChannel.open();
+                serverChannel.bind(address);
+            }
+            workers = new Worker[workerCount];
+            for (int i = 0; i < workerCount; i++) {
+                workers[i] = new Worker(name + "-worker-" + i);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start " + name + " on " + address, e);
+        }
+
+        running = true;
+        for (Worker worker : workers) {
+            worker.thread.start();
+        }
+        acceptor = new Thread(this::acceptConnections, name + "-acceptor");
+        acceptor.start();
+        log.info("{} listening on {} with {} workers", name, getLocalAddress(), workerCount);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            serverChannel.close();
+            acceptor.join();
+            for (Worker worker : workers) {
+                worker.selector.wakeup();
+                worker.thread.join();
+            }
+            if (address instanceof UnixDomainSocketAddress unixAddress) {
+                Files.deleteIfExists(unixAddress.getPath());
+            }
+        } catch (IOException e) {
+            log.warn("Error closing {}", name, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("{} stopped", name);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Get the address the server is bound to, including the actual port when bound to port 0
+     */
+    public SocketAddress getLocalAddress() {
+        try {
+            return serverChannel.getLocalAddress();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Get the bound TCP port
+     */
+    public int getPort() {
+        return ((InetSocketAddress) getLocalAddress()).getPort();
+    }
+
+    /**
+     * Remove a socket file left behind by a server that did not shut down cleanly; any other file is kept
+     * and makes the bind fail
+     */
+    private void removeStaleSocket(Path path) throws IOException {
+        if (Files.exists(path, LinkOption.NOFOLLOW_LINKS)
+                && Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS).isOther()) {
+            log.info("{} removing stale socket file {}", name, path);
+            Files.delete(path);
+        }
+    }
+
+    private void acceptConnections() {
+        int next = 0;
+        while (running) {
+            try {
+                SocketChannel channel = serverChannel.accept();
+                channel.configureBlocking(false);
+                if (channel.getLocalAddress() instanceof InetSocketAddress) {
+                    // Responses are small and written in batches; do not hold them back
+                    channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                }
+                workers[next].register(channel);
+                next = (next + 1) % workers.length;
+            } catch (ClosedChannelException e) {
+                break;
+            } catch (IOException e) {
+                if (running) {
+                    log.warn("{} failed to accept a connection", name, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Selector loop serving a share of the connections
+     */
+    private final class Worker implements Runnable {
+
+        private final Selector selector;
+        private final Queue<SocketChannel> pending = new ConcurrentLinkedQueue<>();
+        private final Thread thread;
+
+        Worker(String threadName) throws IOException {
+            this.selector = Selector.open();
+            this.thread = new Thread(this, threadName);
+        }
+
+        void register(SocketChannel channel) {
+            pending.add(channel);
+            selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (running) {
+                try {
+                    selector.select();
+                    registerPending();
+                    Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                    while (keys.hasNext()) {
+                        SelectionKey key = keys.next();
+                        keys.remove();
+                        Connection connection = (Connection) key.attachment();
+                        try {
+                            if (key.isValid() && key.isReadable()) {
+                                connection.onReadable(key);
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.onWritable(key);
+                            }
+                        } catch (IOException e) {
+                            log.debug("{} closing connection after error: {}", name, e.getMessage());
+                            connection.close(key);
+                        }
+                    }
+                } catch (IOException e) {
+                    log.error("{} selector failed", name, e);
+                }
+            }
+            closeAll();
+        }
+
+        private void registerPending() throws ClosedChannelException {
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                channel.register(selector, SelectionKey.OP_READ, new Connection(channel));
+            }
+        }
+
+        private void closeAll() {
+            for (SelectionKey key : selector.keys()) {
+                ((Connection) key.attachment()).close(key);
+            }
+            SocketChannel channel;
+            while ((channel = pending.poll()) != null) {
+                closeQuietly(channel);
+            }
+            try {
+                selector.close();
+            } catch (IOException e) {
+                log.debug("{} failed to close selector", name, e);
+            }
+        }
+    }
+
+    /**
+     * Per-connection buffers; both are kept in write mode between events
+     */
+    private final class Connection {
+
+        private final SocketChannel channel;
+        private final ByteBuffer input = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private final ByteBuffer output = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        private boolean closing;
+
+        Connection(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void onReadable(SelectionKey key) throws IOException {
+            if (channel.read(input) < 0) {
+                close(key);
+                return;
+            }
+            process(key);
+        }
+
+        void onWritable(SelectionKey key) throws IOException {
+            if (flush(key)) {
+                // Requests may have been left unread while the output was full
+                process(key);
+            }
+        }
+
+        /**
+         * Answer every complete request whose response fits in the output buffer, then flush
+         */
+        private void process(SelectionKey key) throws IOException {
+            input.flip();
+            while (!closing && output.remaining() >= BinaryProtocol.MAX_RESPONSE_SIZE) {
+                int size;
+                try {
+                    size = BinaryProtocol.requestSize(input);
+                } catch (IllegalArgumentException e) {
+                    // The stream cannot be framed past this request; answer it and hang up
+                    BinaryProtocol.writeError(output, input.getInt(input.position()), e.getMessage());
+                    closing = true;
+                    break;
+                }
+                if (size < 0 || input.remaining() < size) {
+                    break;
+                }
+                handle(input, output);
+            }
+            input.compact();
+            flush(key);
+        }
+
+        /**
+         * Write as much output as the socket accepts
+         *
+         * @return true if all output was written
+         */
+        private boolean flush(SelectionKey key) throws IOException {
+            output.flip();
+            channel.write(output);
+            boolean drained = !output.hasRemaining();
+            output.compact();
+            if (drained && closing) {
+                close(key);
+                return false;
+            }
+            // Stop reading requests while responses are backed up
+            key.interestOps(drained ? SelectionKey.OP_READ : SelectionKey.OP_WRITE);
+            return drained;
+        }
+
+        void close(SelectionKey key) {
+            key.cancel();
+            closeQuietly(channel);
+        }
+    }
+
+    private void handle(ByteBuffer request, ByteBuffer response) {
+        int requestId = request.getInt();
+        byte operationCode = request.get();
+        byte type1 = request.get();
+        byte type2 = request.get();
+        byte kind = request.get();
+        long bits1 = request.getLong();
+        long bits2 = request.getLong();
+        // A chain's operations follow its header; they are skipped if the chain is rejected
+        int end = kind == BinaryProtocol.KIND_CHAIN
+                ? request.position() + (int) bits2 * BinaryProtocol.CHAIN_OPERATION_SIZE
+                : request.position();
+
+        try {
+            Number result = kind == BinaryProtocol.KIND_CHAIN
+                    ? calculatorService.calculateChain(readChain(request, type1, bits1, (int) bits2))
+                    : calculatorService.calculate(new CalculateRequest(BinaryProtocol.operation(operationCode),
+                            BinaryProtocol.decode(type1, bits1), BinaryProtocol.decode(type2, bits2)));
+            BinaryProtocol.writeResult(response, requestId, result);
+        } catch (CalculationException | IllegalArgumentException e) {
+            BinaryProtocol.writeError(response, requestId, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("{} unexpected error handling request {}", name, requestId, e);
+            BinaryProtocol.writeError(response, requestId, "An unexpected error occurred");
+        } finally {
+            request.position(end);
+        }
+    }
+
+    private ChainRequest readChain(ByteBuffer request, byte initialType, long initialBits, int length) {
+        if (length == 0) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        List<ChainOperation> operations = new ArrayList<>(length);
+        for (int i = 0; i < length; i++) {
+            Operation operation = BinaryProtocol.operation(request.get());
+            byte type = request.get();
+            operations.add(new ChainOperation(operation, BinaryProtocol.decode(type, request.getLong())));
+        }
+        return new ChainRequest(BinaryProtocol.decode(initialType, initialBits), operations);
+    }
+
+    private void closeQuietly(SocketChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            log.debug("{} failed to close connection", name, e);
+        }
+    }
+}
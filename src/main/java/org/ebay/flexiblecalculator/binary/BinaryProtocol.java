@@ -0,0 +1,258 @@
+package org.ebay.flexiblecalculator.binary;
+
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.model.NumericType;
+import org.ebay.flexiblecalculator.model.Operation;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Fixed-layout binary frames of the calculator socket protocol. All values are big-endian.
+ * <pre>
+ * Calculate request, 24 bytes:
+ *   int  requestId    chosen by the client, echoed in the response
+ *   byte operation    Operation ordinal
+ *   byte type1        NumericType ordinal of num1
+ *   byte type2        NumericType ordinal of num2
+ *   byte kind         0
+ *   long num1         operand bits, see below
+ *   long num2
+ *
+ * Chain request, 24 bytes + 10 bytes per operation:
+ *   int  requestId
+ *   byte reserved     0
+ *   byte type         NumericType ordinal of the initial value
+ *   byte reserved     0
+ *   byte kind         1
+ *   long initialValue
+ *   long length       number of operations, at most 4096
+ *   then per operation:
+ *     byte operation
+ *     byte type
+ *     long value
+ *
+ * Success response, 16 bytes:
+ *   int  requestId
+ *   byte status       0
+ *   byte type         NumericType ordinal of the result
+ *   short reserved    0
+ *   long value
+ *
+ * Error response, 8 bytes + message:
+ *   int  requestId
+ *   byte status       1
+ *   byte reserved     0
+ *   short length      length of the message
+ *   byte[length]      UTF-8 error message
+ * </pre>
+ * Operand bits: INT and LONG hold the sign-extended value, FLOAT the float bits in the low 32 bits,
+ * DOUBLE the double bits.
+ * <p>
+ * Each connection is a stream of frames: a client may send any number of requests without waiting,
+ * and matches responses to requests by requestId. A chain request that is too long cannot be skipped,
+ * so the server answers it with an error and closes the connection.
+ */
+public final class BinaryProtocol {
+
+    public static final int REQUEST_SIZE = 24;
+    public static final int CHAIN_OPERATION_SIZE = 10;
+    public static final int MAX_CHAIN_LENGTH = 4096;
+    public static final int MAX_REQUEST_SIZE = REQUEST_SIZE + MAX_CHAIN_LENGTH * CHAIN_OPERATION_SIZE;
+    public static final int RESPONSE_HEADER_SIZE = 8;
+    public static final int SUCCESS_RESPONSE_SIZE = 16;
+    public static final int MAX_ERROR_MESSAGE_LENGTH = 1024;
+    public static final int MAX_RESPONSE_SIZE = RESPONSE_HEADER_SIZE + MAX_ERROR_MESSAGE_LENGTH;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+
+    public static final byte KIND_CALCULATE = 0;
+    public static final byte KIND_CHAIN = 1;
+
+    private static final int KIND_OFFSET = 7;
+    private static final int CHAIN_LENGTH_OFFSET = 16;
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final NumericType[] TYPES = NumericType.values();
+
+    private BinaryProtocol() {
+    }
+
+    /**
+     * Write a calculate request frame
+     *
+     * @throws IllegalArgumentException if an operand is not an Integer, Long, Float or Double
+     */
+    public static void writeRequest(ByteBuffer buffer, int requestId, Operation operation, Number num1, Number num2) {
+        NumericType type1 = typeOf(num1);
+        NumericType type2 = typeOf(num2);
+        buffer.putInt(requestId)
+                .put((byte) operation.ordinal())
+                .put((byte) type1.ordinal())
+                .put((byte) type2.ordinal())
+                .put(KIND_CALCULATE)
+                .putLong(encode(type1, num1))
+                .putLong(encode(type2, num2));
+    }
+
+    /**
+     * Write a chain request frame of {@link #chainRequestSize} bytes
+     *
+     * @throws IllegalArgumentException if the chain is longer than {@value #MAX_CHAIN_LENGTH} operations,
+     *                                  or a value is not an Integer, Long, Float or Double
+     */
+    public static void writeChainRequest(ByteBuffer buffer, int requestId, Number initialValue,
+                                         List<ChainOperation> operations) {
+        if (operations.size() > MAX_CHAIN_LENGTH) {
+            throw new IllegalArgumentException("Chain length " + operations.size()
+                    + " exceeds the maximum of " + MAX_CHAIN_LENGTH);
+        }
+        NumericType initialType = typeOf(initialValue);
+        int start = buffer.position();
+        buffer.putInt(requestId)
+                .put((byte) 0)
+                .put((byte) initialType.ordinal())
+                .put((byte) 0)
+                .put(KIND_CHAIN)
+                .putLong(encode(initialType, initialValue))
+                .putLong(operations.size());
+        try {
+            for (ChainOperation operation : operations) {
+                NumericType type = typeOf(operation.getValue());
+                buffer.put((byte) operation.getOperation().ordinal())
+                        .put((byte) type.ordinal())
+                        .putLong(encode(type, operation.getValue()));
+            }
+        } catch (RuntimeException e) {
+            buffer.position(start);
+            throw e;
+        }
+    }
+
+    /**
+     * Get the size of a chain request frame
+     */
+    public static int chainRequestSize(int length) {
+        return REQUEST_SIZE + length * CHAIN_OPERATION_SIZE;
+    }
+
+    /**
+     * Get the size of the request frame starting at the buffer's position, from its header
+     *
+     * @return the frame size, or -1 if the buffer does not hold the whole header yet
+     * @throws IllegalArgumentException if the frame kind is unknown or the chain length is out of range
+     */
+    public static int requestSize(ByteBuffer buffer) {
+        if (buffer.remaining() < REQUEST_SIZE) {
+            return -1;
+        }
+        int start = buffer.position();
+        byte kind = buffer.get(start + KIND_OFFSET);
+        if (kind == KIND_CALCULATE) {
+            return REQUEST_SIZE;
+        }
+        if (kind != KIND_CHAIN) {
+            throw new IllegalArgumentException("Unsupported frame kind: " + kind);
+        }
+        long length = buffer.getLong(start + CHAIN_LENGTH_OFFSET);
+        if (length < 0 || length > MAX_CHAIN_LENGTH) {
+            throw new IllegalArgumentException("Chain length " + length
+                    + " is outside the supported range of 0 to " + MAX_CHAIN_LENGTH);
+        }
+        return chainRequestSize((int) length);
+    }
+
+    /**
+     * Write a success response frame
+     *
+     * @throws IllegalArgumentException if the result is not an Integer, Long, Float or Double
+     */
+    public static void writeResult(ByteBuffer buffer, int requestId, Number result) {
+        NumericType type = typeOf(result);
+        buffer.putInt(requestId)
+                .put(STATUS_OK)
+                .put((byte) type.ordinal())
+                .putShort((short) 0)
+                .putLong(encode(type, result));
+    }
+
+    /**
+     * Write an error response frame; messages longer than {@value #MAX_ERROR_MESSAGE_LENGTH} bytes are truncated
+     */
+    public static void writeError(ByteBuffer buffer, int requestId, String message) {
+        int start = buffer.position() + RESPONSE_HEADER_SIZE;
+        int length = putMessage(buffer, start, Math.min(MAX_ERROR_MESSAGE_LENGTH, buffer.limit() - start), message);
+        buffer.putInt(requestId)
+                .put(STATUS_ERROR)
+                .put((byte) 0)
+                .putShort((short) length)
+                .position(start + length);
+    }
+
+    /**
+     * Write a message as UTF-8 at an absolute index, truncated at the last whole character that fits,
+     * so a truncated message stays valid UTF-8. The buffer's position is not changed.
+     *
+     * @param maxLength the most bytes to write
+     * @return the number of bytes written
+     */
+    public static int putMessage(ByteBuffer buffer, int index, int maxLength, String message) {
+        ByteBuffer target = buffer.slice(index, maxLength);
+        // The encoder stops at the end of the target before a character that does not fit whole
+        StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE)
+                .encode(CharBuffer.wrap(message != null ? message : ""), target, true);
+        return target.position();
+    }
+
+    /**
+     * Resolve an operation code
+     *
+     * @throws IllegalArgumentException if the code is not an Operation ordinal
+     */
+    public static Operation operation(byte code) {
+        if (code < 0 || code >= OPERATIONS.length) {
+            throw new IllegalArgumentException("Unsupported operation code: " + code);
+        }
+        return OPERATIONS[code];
+    }
+
+    /**
+     * Decode an operand or result from its type tag and bits
+     *
+     * @throws IllegalArgumentException if the tag is not a NumericType ordinal
+     */
+    public static Number decode(byte typeTag, long bits) {
+        if (typeTag < 0 || typeTag >= TYPES.length) {
+            throw new IllegalArgumentException("Unsupported type tag: " + typeTag);
+        }
+        return switch (TYPES[typeTag]) {
+            case INT -> (int) bits;
+            case LONG -> bits;
+            case FLOAT -> Float.intBitsToFloat((int) bits);
+            case DOUBLE -> Double.longBitsToDouble(bits);
+        };
+    }
+
+    private static long encode(NumericType type, Number value) {
+        return switch (type) {
+            case INT, LONG -> value.longValue();
+            case FLOAT -> Float.floatToRawIntBits(value.floatValue());
+            case DOUBLE -> Double.doubleToRawLongBits(value.doubleValue());
+        };
+    }
+
+    private static NumericType typeOf(Number value) {
+        NumericType type = NumericType.of(value);
+        if (type == null) {
+            throw new IllegalArgumentException("Unsupported number type: "
+                    + (value != null ? value.getClass().getSimpleName() : "null"));
+        }
+        return type;
+    }
+}
@@ -0,0 +1,26 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration for the executor that evaluates batch calculations
+ */
+@Configuration
+@EnableConfigurationProperties(BatchProperties.class)
+public class BatchConfig {
+
+    /**
+     * Dedicated fork-join pool so batch work does not compete with the common pool
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool batchExecutor(BatchProperties batchProperties) {
+        int parallelism = batchProperties.getParallelism() > 0
+                ? batchProperties.getParallelism()
+                : Runtime.getRuntime().availableProcessors();
+        return new ForkJoinPool(parallelism);
+    }
+}
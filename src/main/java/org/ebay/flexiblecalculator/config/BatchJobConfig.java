@@ -0,0 +1,42 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.ebay.flexiblecalculator.job.BatchFileJob;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration for the optional batch file job
+ */
+@Configuration
+@EnableConfigurationProperties(BatchJobProperties.class)
+@ConditionalOnProperty(prefix = "calculator.job", name = "enabled", havingValue = "true")
+public class BatchJobConfig {
+
+    /**
+     * Job evaluating its chunks on the batch executor
+     */
+    @Bean
+    public BatchFileJob batchFileJob(OperationRegistry operationRegistry, ForkJoinPool batchExecutor,
+                                     BatchJobProperties properties) {
+        return new BatchFileJob(operationRegistry, batchExecutor, properties.getChunkSize());
+    }
+
+    /**
+     * Runs the job once the application has started; a failed job fails the startup
+     */
+    @Bean
+    public ApplicationRunner batchFileJobRunner(BatchFileJob batchFileJob, BatchJobProperties properties) {
+        return args -> {
+            if (properties.getInput() == null || properties.getOutput() == null) {
+                throw new IllegalStateException("calculator.job.input and calculator.job.output must be set");
+            }
+            batchFileJob.run(properties.getInput(), properties.getOutput());
+        };
+    }
+}
@@ -0,0 +1,34 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for the batch file job
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.job")
+public class BatchJobProperties {
+
+    /**
+     * Whether the job runs on startup
+     */
+    private boolean enabled = false;
+
+    /**
+     * Input file of fixed-width calculation records
+     */
+    private Path input;
+
+    /**
+     * Output file of results; an existing output of the same input is resumed
+     */
+    private Path output;
+
+    /**
+     * Records per chunk: the unit of parallel work, of progress reporting and of resumption
+     */
+    private int chunkSize = 1 << 20;
+}
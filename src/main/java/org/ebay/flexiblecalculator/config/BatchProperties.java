@@ -0,0 +1,27 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for batch calculation
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.batch")
+public class BatchProperties {
+
+    /**
+     * Number of worker threads evaluating batch items; 0 means one per available processor
+     */
+    private int parallelism = 0;
+
+    /**
+     * Batches smaller than this are evaluated on the request thread
+     */
+    private int parallelThreshold = 64;
+
+    /**
+     * Longest line accepted by the streaming batch endpoint, in bytes; longer lines are answered with an error
+     */
+    private int maxLineLength = 1 << 20;
+}
@@ -0,0 +1,45 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.ebay.flexiblecalculator.binary.BinaryCalculatorServer;
+import org.ebay.flexiblecalculator.service.CalculatorService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.net.UnixDomainSocketAddress;
+import java.nio.file.attribute.PosixFilePermissions;
+
+/**
+ * Configuration for the optional binary protocol listeners
+ */
+@Configuration
+@EnableConfigurationProperties(BinaryServerProperties.class)
+public class BinaryServerConfig {
+
+    /**
+     * TCP listener, started and stopped with the application context
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "calculator.binary.tcp", name = "enabled", havingValue = "true")
+    public BinaryCalculatorServer tcpCalculatorServer(CalculatorService calculatorService,
+                                                      BinaryServerProperties properties) {
+        return new BinaryCalculatorServer(calculatorService, new InetSocketAddress(properties.getTcp().getPort()),
+                properties.getWorkers(), "binary-tcp");
+    }
+
+    /**
+     * Unix domain socket listener, started and stopped with the application context
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "calculator.binary.unix", name = "enabled", havingValue = "true")
+    public BinaryCalculatorServer unixCalculatorServer(CalculatorService calculatorService,
+                                                       BinaryServerProperties properties) {
+        BinaryServerProperties.Unix unix = properties.getUnix();
+        BinaryCalculatorServer server = new BinaryCalculatorServer(calculatorService,
+                UnixDomainSocketAddress.of(unix.getPath()), properties.getWorkers(), "binary-unix");
+        server.setSocketPermissions(PosixFilePermissions.fromString(unix.getPermissions()));
+        return server;
+    }
+}
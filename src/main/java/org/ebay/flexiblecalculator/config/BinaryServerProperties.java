@@ -0,0 +1,56 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration properties for the binary protocol listeners
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.binary")
+public class BinaryServerProperties {
+
+    /**
+     * Number of worker threads per listener; 0 means one per available processor
+     */
+    private int workers = 0;
+
+    private Tcp tcp = new Tcp();
+
+    private Unix unix = new Unix();
+
+    @Data
+    public static class Tcp {
+
+        /**
+         * Whether the TCP listener is started
+         */
+        private boolean enabled = false;
+
+        /**
+         * Port of the TCP listener; 0 picks a free port
+         */
+        private int port = 9090;
+    }
+
+    @Data
+    public static class Unix {
+
+        /**
+         * Whether the Unix domain socket listener is started, for callers on the same host
+         */
+        private boolean enabled = false;
+
+        /**
+         * Path of the socket file; a stale socket file at this path is replaced on startup
+         */
+        private Path path = Path.of("/tmp/flexible-calculator.sock");
+
+        /**
+         * POSIX permissions of the socket file, which control who may connect
+         */
+        private String permissions = "rw-rw----";
+    }
+}
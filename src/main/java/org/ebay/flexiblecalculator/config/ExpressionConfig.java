@@ -0,0 +1,23 @@
+package org.ebay.flexiblecalculator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.service.expression.ExpressionEvaluator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for infix expression evaluation and its parsed expression cache
+ */
+@Configuration
+@EnableConfigurationProperties(ExpressionProperties.class)
+public class ExpressionConfig {
+
+    @Bean
+    public ExpressionEvaluator expressionEvaluator(OperationRegistry operationRegistry,
+                                                   ExpressionProperties expressionProperties,
+                                                   MeterRegistry meterRegistry) {
+        return new ExpressionEvaluator(operationRegistry, expressionProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,22 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for infix expression evaluation
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.expression")
+public class ExpressionProperties {
+
+    /**
+     * Longest accepted expression, in characters
+     */
+    private int maxLength = 1024;
+
+    /**
+     * Maximum number of parsed expressions kept, keyed by their text
+     */
+    private long cacheSize = 1024;
+}
@@ -0,0 +1,116 @@
+package org.ebay.flexiblecalculator.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.reactivestreams.Publisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.cbor.Jackson2CborDecoder;
+import org.springframework.http.codec.cbor.Jackson2CborEncoder;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.reactive.accept.RequestedContentTypeResolverBuilder;
+import org.springframework.util.MimeType;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * Configuration for the binary Jackson formats CBOR and Smile, accepted and produced by every endpoint
+ * alongside JSON, as negotiated through Content-Type and Accept.
+ * <p>
+ * Their mappers are built from Spring Boot's Jackson builder, so they share the spring.jackson settings
+ * and modules of the JSON mapper; Spring's defaults for these formats would not.
+ */
+@Configuration
+public class JacksonFormatsConfig {
+
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+    public static final MediaType APPLICATION_SMILE = MediaType.valueOf(APPLICATION_SMILE_VALUE);
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    static class ServletFormats {
+
+        @Bean
+        public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+        }
+
+        @Bean
+        public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+            return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+        }
+    }
+
+    @Configuration
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    static class ReactiveFormats {
+
+        @Bean
+        public CodecCustomizer cborCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+            ObjectMapper mapper = builder.factory(new CBORFactory()).build();
+            return configurer -> {
+                configurer.customCodecs().register(new Jackson2CborDecoder(mapper, MediaType.APPLICATION_CBOR));
+                configurer.customCodecs().register(new SingleValueCborEncoder(mapper));
+            };
+        }
+
+        @Bean
+        public CodecCustomizer smileCodecCustomizer(Jackson2ObjectMapperBuilder builder) {
+            ObjectMapper mapper = builder.factory(new SmileFactory()).build();
+            return configurer -> {
+                configurer.defaultCodecs().jackson2SmileDecoder(new Jackson2SmileDecoder(mapper, APPLICATION_SMILE));
+                configurer.defaultCodecs().jackson2SmileEncoder(new Jackson2SmileEncoder(mapper, APPLICATION_SMILE));
+            };
+        }
+
+        /**
+         * Custom codecs are ordered before the default JSON one, so without this a request with no Accept
+         * header would be answered in CBOR. JSON stays the default; other types are still used when asked for
+         * or when an endpoint produces nothing else.
+         */
+        @Bean
+        public WebFluxConfigurer jsonByDefaultConfigurer() {
+            return new WebFluxConfigurer() {
+                @Override
+                public void configureContentTypeResolver(RequestedContentTypeResolverBuilder builder) {
+                    builder.headerResolver();
+                    builder.fixedResolver(MediaType.APPLICATION_JSON, MediaType.ALL);
+                }
+            };
+        }
+    }
+
+    /**
+     * Spring's CBOR encoder rejects every call to encode, but the response writer passes single values
+     * through it as a Mono as well. Single values are encoded here; streams are still unsupported.
+     */
+    static class SingleValueCborEncoder extends Jackson2CborEncoder {
+
+        SingleValueCborEncoder(ObjectMapper mapper) {
+            super(mapper, MediaType.APPLICATION_CBOR);
+        }
+
+        @Override
+        public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                       ResolvableType elementType, MimeType mimeType, Map<String, Object> hints) {
+            if (inputStream instanceof Mono<?> mono) {
+                return mono.map(value -> encodeValue(value, bufferFactory, elementType, mimeType, hints)).flux();
+            }
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.ebay.flexiblecalculator.config;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.StreamWriteFeature;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for how the JSON mapper reads and writes numbers.
+ * <p>
+ * Floating point values are parsed with Jackson's FastDoubleParser and written with its Schubfach formatter,
+ * which produces the shortest text that reads back to the same double. Double.toString on Java 17 does not
+ * always, printing 2e23 as 1.9999999999999998E23.
+ */
+@Configuration
+public class JacksonNumbersConfig {
+
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer fastNumbersCustomizer() {
+        return builder -> builder.factory(jsonFactory());
+    }
+
+    /**
+     * Create a JSON factory with the fast number parser and writer. Each mapper needs its own factory.
+     */
+    public static JsonFactory jsonFactory() {
+        return JsonFactory.builder()
+                .enable(StreamReadFeature.USE_FAST_DOUBLE_PARSER)
+                .enable(StreamWriteFeature.USE_FAST_DOUBLE_WRITER)
+                .build();
+    }
+}
@@ -0,0 +1,23 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.math.MathContext;
+
+/**
+ * Configuration for the precision of the arbitrary-precision arithmetic tier
+ */
+@Configuration
+@EnableConfigurationProperties(PrecisionProperties.class)
+public class PrecisionConfig {
+
+    /**
+     * MathContext the arithmetic strategies round BigDecimal results to
+     */
+    @Bean
+    public MathContext calculatorMathContext(PrecisionProperties precisionProperties) {
+        return new MathContext(precisionProperties.getPrecision(), precisionProperties.getRoundingMode());
+    }
+}
@@ -0,0 +1,24 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.math.RoundingMode;
+
+/**
+ * Configuration properties for BigDecimal results
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.precision")
+public class PrecisionProperties {
+
+    /**
+     * Significant digits kept in BigDecimal results; 0 keeps them exact, failing on non-terminating quotients
+     */
+    private int precision = 34;
+
+    /**
+     * Rounding applied when a BigDecimal result exceeds the precision
+     */
+    private RoundingMode roundingMode = RoundingMode.HALF_EVEN;
+}
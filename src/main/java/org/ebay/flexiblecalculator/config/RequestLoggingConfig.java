@@ -0,0 +1,39 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.ebay.flexiblecalculator.logging.CorrelationIdFilter;
+import org.ebay.flexiblecalculator.logging.ReactiveCorrelationIdFilter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration for request logging and correlation ids
+ */
+@Configuration
+@EnableConfigurationProperties(RequestLoggingProperties.class)
+public class RequestLoggingConfig {
+
+    /**
+     * Run first so every log line of a request, including error handling, carries its correlation id
+     */
+    @Bean
+    public FilterRegistrationBean<CorrelationIdFilter> correlationIdFilter(RequestLoggingProperties properties) {
+        FilterRegistrationBean<CorrelationIdFilter> registration =
+                new FilterRegistrationBean<>(new CorrelationIdFilter(properties.getCorrelationHeader()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+
+    /**
+     * Correlation ids for the reactive deployment, carried to the MDC through the Reactor context
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveCorrelationIdFilter reactiveCorrelationIdFilter(RequestLoggingProperties properties) {
+        ReactiveCorrelationIdFilter.enableMdcPropagation();
+        return new ReactiveCorrelationIdFilter(properties.getCorrelationHeader());
+    }
+}
@@ -0,0 +1,32 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for request logging
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.logging")
+public class RequestLoggingProperties {
+
+    /**
+     * Fraction of requests that are logged, from 0 (none) to 1 (all)
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * Number of chain operations or batch items included in a request summary
+     */
+    private int maxSummaryItems = 3;
+
+    /**
+     * Header carrying the correlation id of a request, echoed on the response
+     */
+    private String correlationHeader = "X-Correlation-Id";
+
+    /**
+     * Capacity of the asynchronous appender queue; once full, events are dropped instead of blocking
+     */
+    private int asyncQueueSize = 1024;
+}
@@ -8,6 +8,7 @@ import org.ebay.flexiblecalculator.dto.response.Response;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.MediaType;
 import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
 import org.springframework.http.server.ServerHttpRequest;
 import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -15,7 +16,10 @@ import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
 
 /**
  * Global response handler that wraps all controller responses in a standard Response object
- * while ensuring Swagger/OpenAPI endpoints are not affected
+ * while ensuring Swagger/OpenAPI endpoints are not affected.
+ * The envelope is left to the negotiated message converter, so it is written as JSON, CBOR or Smile.
+ * Numeric results bound for {@link ResultHttpMessageConverter} are passed through unwrapped, as that converter
+ * writes the envelope, or the bare number in raw mode, itself.
  */
 @RestControllerAdvice
 @RequiredArgsConstructor
@@ -48,6 +52,11 @@ public class ResponseAdvice implements ResponseBodyAdvice<Object> {
                                   Class<? extends HttpMessageConverter<?>> selectedConverterType,
                                   ServerHttpRequest request, ServerHttpResponse response) {
 
+        // Numeric results selected for the fast converter are written, envelope included, by the converter itself
+        if (body instanceof Number && ResultHttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
+            return body;
+        }
+
         // Skip for Swagger/OpenAPI endpoints
         String path = request.getURI().getPath();
         if (path.contains("/v3/api-docs") ||
@@ -70,8 +79,10 @@ public class ResponseAdvice implements ResponseBodyAdvice<Object> {
                     .build();
         }
 
-        // Special handling for String responses (common issue with ResponseBodyAdvice)
-        if (body instanceof String) {
+        // A String body is written by StringHttpMessageConverter, which only accepts a String, so the
+        // envelope has to be serialized here. Any other converter, whether JSON, CBOR or Smile,
+        // serializes the Response object below in its own format.
+        if (body instanceof String && StringHttpMessageConverter.class.isAssignableFrom(selectedConverterType)) {
             try {
                 response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
                 return objectMapper.writeValueAsString(
@@ -90,7 +101,7 @@ public class ResponseAdvice implements ResponseBodyAdvice<Object> {
             }
         }
 
-        // Wrap the response in a standard Response object
+        // Wrap the response in a standard Response object, serialized in the negotiated format
         return Response.builder()
                 .code("200")
                 .message("Success")
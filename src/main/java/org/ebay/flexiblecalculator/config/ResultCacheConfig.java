@@ -0,0 +1,34 @@
+package org.ebay.flexiblecalculator.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.service.calculator.CachingCalculator;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Configuration for the optional calculation result cache
+ */
+@Configuration
+@EnableConfigurationProperties(ResultCacheProperties.class)
+public class ResultCacheConfig {
+
+    /**
+     * Caching calculator that takes precedence over CalculatorImpl when the cache is enabled
+     */
+    @Bean
+    @Primary
+    @ConditionalOnProperty(prefix = "calculator.cache", name = "enabled", havingValue = "true")
+    public Calculator cachingCalculator(CalculatorImpl calculatorImpl, OperationRegistry operationRegistry,
+                                        CalculatorMetrics calculatorMetrics,
+                                        ResultCacheProperties resultCacheProperties, MeterRegistry meterRegistry) {
+        return new CachingCalculator(calculatorImpl, operationRegistry, calculatorMetrics, resultCacheProperties,
+                meterRegistry);
+    }
+}
@@ -0,0 +1,29 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for the calculation result cache
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.cache")
+public class ResultCacheProperties {
+
+    /**
+     * Whether single calculation results are cached
+     */
+    private boolean enabled = false;
+
+    /**
+     * Maximum number of cached results
+     */
+    private long maxEntries = 10_000;
+
+    /**
+     * Time after which a cached result expires
+     */
+    private Duration ttl = Duration.ofMinutes(10);
+}
@@ -0,0 +1,25 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+/**
+ * Registers the fast calculation result converters.
+ * <p>
+ * The envelope converter goes first, so it writes every numeric result requested as JSON, and the raw converter
+ * goes last, so plain text is only chosen when the client asks for it and errors stay JSON by default.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ResultConvertersConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, ResultHttpMessageConverter.envelope());
+        converters.add(ResultHttpMessageConverter.raw());
+    }
+}
@@ -0,0 +1,164 @@
+package org.ebay.flexiblecalculator.config;
+
+import com.fasterxml.jackson.core.io.NumberOutput;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Writes numeric calculation results without going through Jackson.
+ * <p>
+ * The {@link #envelope() envelope} converter writes a result as {@code application/json} inside the standard
+ * Response envelope, which only ever differs in the number, so the bytes around it are precomputed.
+ * The {@link #raw() raw} converter writes only the number as {@code text/plain}, and an error Response as
+ * its message. Each response is assembled in one exactly sized array and written with a single call
+ * and a known Content-Length.
+ */
+public class ResultHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private static final byte[] ENVELOPE_PREFIX =
+            "{\"code\":\"200\",\"message\":\"Success\",\"data\":".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] ENVELOPE_SUFFIX = "}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_ENVELOPE =
+            "{\"code\":\"200\",\"message\":\"Success\",\"data\":null}".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EMPTY = new byte[0];
+
+    private final boolean raw;
+    private final MediaType contentType;
+
+    private ResultHttpMessageConverter(boolean raw, MediaType contentType) {
+        super(contentType);
+        this.raw = raw;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Converter for numbers wrapped in the Response envelope as JSON
+     */
+    public static ResultHttpMessageConverter envelope() {
+        return new ResultHttpMessageConverter(false, MediaType.APPLICATION_JSON);
+    }
+
+    /**
+     * Converter for bare numbers and error messages as plain text
+     */
+    public static ResultHttpMessageConverter raw() {
+        return new ResultHttpMessageConverter(true, new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Number.class.isAssignableFrom(clazz) || (raw && Response.class.equals(clazz));
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, @Nullable MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes(Class<?> clazz) {
+        return supports(clazz) ? getSupportedMediaTypes() : List.of();
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new UnsupportedOperationException("Calculation results are only written");
+    }
+
+    /**
+     * Each converter writes a single media type, so its Content-Type is set from a constant rather than
+     * derived from the negotiated type and default charset on every response
+     */
+    @Override
+    protected void addDefaultHeaders(HttpHeaders headers, Object value, @Nullable MediaType selectedType) {
+        if (!headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+            headers.setContentType(contentType);
+        }
+    }
+
+    @Override
+    protected void writeInternal(Object value, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes;
+        if (value instanceof Response response) {
+            // An error message in raw mode, or the envelope ResponseAdvice builds for a null result
+            if (!raw) {
+                bytes = NULL_ENVELOPE;
+            } else {
+                bytes = response.getMessage() != null ? response.getMessage().getBytes(StandardCharsets.UTF_8) : EMPTY;
+            }
+        } else if (raw) {
+            bytes = encode((Number) value, false, EMPTY, EMPTY);
+        } else {
+            bytes = encode((Number) value, true, ENVELOPE_PREFIX, ENVELOPE_SUFFIX);
+        }
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        outputMessage.getBody().write(bytes);
+    }
+
+    /**
+     * Encode a number between the given prefix and suffix, in the same text as Jackson writes it with
+     * the fast double writer enabled in {@link JacksonNumbersConfig}
+     *
+     * @param json whether to quote NaN and infinities, which are not JSON numbers
+     */
+    static byte[] encode(Number number, boolean json, byte[] prefix, byte[] suffix) {
+        if ((number instanceof Integer || number instanceof Long) && number.longValue() != Long.MIN_VALUE) {
+            return encodeLong(number.longValue(), prefix, suffix);
+        }
+        String text;
+        if (number instanceof Double d) {
+            text = NumberOutput.toString(d, true);
+        } else if (number instanceof Float f) {
+            text = NumberOutput.toString(f, true);
+        } else {
+            text = number.toString();
+        }
+        if (json && isNonFinite(number)) {
+            text = '"' + text + '"';
+        }
+        byte[] bytes = new byte[prefix.length + text.length() + suffix.length];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        for (int i = 0; i < text.length(); i++) {
+            bytes[prefix.length + i] = (byte) text.charAt(i);
+        }
+        System.arraycopy(suffix, 0, bytes, prefix.length + text.length(), suffix.length);
+        return bytes;
+    }
+
+    /**
+     * Write the digits of an integral value straight into the response array, without an intermediate String
+     */
+    private static byte[] encodeLong(long value, byte[] prefix, byte[] suffix) {
+        long magnitude = Math.abs(value);
+        int length = value < 0 ? 2 : 1;
+        for (long remaining = magnitude / 10; remaining > 0; remaining /= 10) {
+            length++;
+        }
+
+        byte[] bytes = new byte[prefix.length + length + suffix.length];
+        System.arraycopy(prefix, 0, bytes, 0, prefix.length);
+        int position = prefix.length + length;
+        do {
+            bytes[--position] = (byte) ('0' + magnitude % 10);
+            magnitude /= 10;
+        } while (magnitude > 0);
+        if (value < 0) {
+            bytes[prefix.length] = '-';
+        }
+        System.arraycopy(suffix, 0, bytes, prefix.length + length, suffix.length);
+        return bytes;
+    }
+
+    private static boolean isNonFinite(Number number) {
+        return (number instanceof Double d && !Double.isFinite(d)) || (number instanceof Float f && !Float.isFinite(f));
+    }
+}
@@ -0,0 +1,27 @@
+package org.ebay.flexiblecalculator.config;
+
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.shm.SharedMemoryCalculatorServer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for the optional shared memory ring transport
+ */
+@Configuration
+@EnableConfigurationProperties(SharedMemoryProperties.class)
+public class SharedMemoryConfig {
+
+    /**
+     * Ring poller, started and stopped with the application context
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "calculator.shm", name = "enabled", havingValue = "true")
+    public SharedMemoryCalculatorServer sharedMemoryCalculatorServer(OperationRegistry operationRegistry,
+                                                                     SharedMemoryProperties properties) {
+        return new SharedMemoryCalculatorServer(operationRegistry, properties.getPath(), properties.getCapacity(),
+                properties.getWaitStrategy(), properties.getAbandonTimeout());
+    }
+}
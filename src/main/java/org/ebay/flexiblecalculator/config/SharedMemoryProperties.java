@@ -0,0 +1,41 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.Data;
+import org.ebay.flexiblecalculator.shm.WaitStrategy;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Configuration properties for the shared memory ring transport
+ */
+@Data
+@ConfigurationProperties(prefix = "calculator.shm")
+public class SharedMemoryProperties {
+
+    /**
+     * Whether the ring is created and polled
+     */
+    private boolean enabled = false;
+
+    /**
+     * Path of the ring file; a memory-backed file system such as /dev/shm avoids disk writeback
+     */
+    private Path path = Path.of("/dev/shm/flexible-calculator.ring");
+
+    /**
+     * Number of request slots, a power of two
+     */
+    private int capacity = 1024;
+
+    /**
+     * How the poller waits for requests: BUSY_SPIN, YIELD or PARK
+     */
+    private WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+    /**
+     * How long a slot may stay claimed but unpublished, or answered but unread, before the poller gives up on it
+     */
+    private Duration abandonTimeout = Duration.ofSeconds(1);
+}
@@ -0,0 +1,32 @@
+package org.ebay.flexiblecalculator.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Reports the thread model used for request handling.
+ * Virtual threads are switched on with spring.threads.virtual.enabled, which Spring Boot applies to Tomcat
+ * and its task executors. Batch work stays on the batch fork-join pool: it is CPU bound, so virtual threads
+ * would not let it run more calculations at once.
+ */
+@Configuration
+@Slf4j
+public class ThreadingConfig {
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void logExecutionMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Handling requests on virtual threads");
+        } else if (environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            log.warn("Virtual threads are enabled but need Java 21, running on Java {}; handling requests on platform threads",
+                    Runtime.version().feature());
+        } else {
+            log.info("Handling requests on platform threads");
+        }
+    }
+}
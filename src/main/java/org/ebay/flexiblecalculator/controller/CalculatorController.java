@@ -7,29 +7,46 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
-import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.request.ColumnarBatchRequest;
+import org.ebay.flexiblecalculator.dto.request.ExpressionRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.logging.RequestLogger;
+import org.ebay.flexiblecalculator.model.ColumnarResult;
 import org.ebay.flexiblecalculator.service.CalculatorService;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * REST Controller for calculator operations
  */
 @RestController
-@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/api/v1/calculator")
 @Tag(name = "Calculator API", description = "API for performing basic and chained mathematical operations")
 public class CalculatorController {
 
     private final CalculatorService calculatorService;
+    private final RequestLogger requestLogger;
 
-    public CalculatorController(CalculatorService calculatorService) {
+    public CalculatorController(CalculatorService calculatorService, RequestLogger requestLogger) {
         this.calculatorService = calculatorService;
+        this.requestLogger = requestLogger;
     }
 
     /**
@@ -51,7 +68,7 @@ public class CalculatorController {
     public Number calculate(
             @Parameter(description = "Calculation request with operation and operands", required = true)
             @Valid @RequestBody CalculateRequest calculateRequest) {
-        log.info("CalculatorController: received calculate request={}", calculateRequest);
+        requestLogger.logCalculation(calculateRequest);
         return calculatorService.calculate(calculateRequest);
     }
 
@@ -74,8 +91,127 @@ public class CalculatorController {
     public Number chainOperations(
             @Parameter(description = "Chain calculation request with initial value and sequence of operations", required = true)
             @Valid @RequestBody ChainRequest chainRequest) {
-        log.info("CalculatorController: received chain request={}", chainRequest);
-        log.info("CalculatorController: starting chained calculator");
+        requestLogger.logChain(chainRequest);
         return calculatorService.calculateChain(chainRequest);
     }
-}
\ No newline at end of file
+
+    /**
+     * Streaming chain calculation endpoint
+     */
+    @PostMapping(value = "/chain/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "Perform a chain of calculations while streaming the request",
+            description = "Same request and result as /chain, but each operation is applied as soon as it is read, "
+                    + "so very long chains use constant memory. initialValue must come before operations."
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Chain calculation request", required = true,
+            content = @Content(schema = @Schema(implementation = ChainRequest.class)))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Chain calculation completed successfully",
+                    content = @Content(schema = @Schema(implementation = Number.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input or operation; validation errors name the failing operation index",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content)
+    })
+    public Number chainOperationsStream(HttpServletRequest request) throws IOException {
+        requestLogger.logChainStream();
+        return calculatorService.calculateChainStream(request.getInputStream());
+    }
+
+    /**
+     * Expression calculation endpoint
+     */
+    @PostMapping("/expression")
+    @Operation(
+            summary = "Evaluate an infix expression",
+            description = "Evaluates an expression such as (3 + 4) * 2 / x with the given variable values, applying * and / "
+                    + "before + and -; parsed expressions are cached, so repeating one with other values skips parsing"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Expression evaluated successfully",
+                    content = @Content(schema = @Schema(implementation = Number.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid expression, variable without a value, or failed operation",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content)
+    })
+    public Number evaluateExpression(
+            @Parameter(description = "Expression request with the expression and its variable values", required = true)
+            @Valid @RequestBody ExpressionRequest expressionRequest) {
+        requestLogger.logExpression(expressionRequest);
+        return calculatorService.evaluateExpression(expressionRequest);
+    }
+
+    /**
+     * Batch calculation endpoint
+     */
+    @PostMapping("/calculate/batch")
+    @Operation(
+            summary = "Perform a batch of calculations",
+            description = "Performs many independent calculations in parallel and returns one result per calculation in request order; a failing calculation does not fail the batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Batch evaluated; each item carries its own code, message and result",
+                    content = @Content(schema = @Schema(implementation = Response.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content)
+    })
+    public List<Response> calculateBatch(
+            @Parameter(description = "Batch request with independent calculations", required = true)
+            @Valid @RequestBody BatchCalculateRequest batchRequest) {
+        requestLogger.logBatch(batchRequest);
+        return calculatorService.calculateBatch(batchRequest);
+    }
+
+    /**
+     * Streaming batch calculation endpoint
+     */
+    @PostMapping(value = "/calculate/stream", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(
+            summary = "Perform a stream of calculations, one per line",
+            description = "Reads CSV or NDJSON lines, each a calculation or a chain, and writes one result line per "
+                    + "calculation in the same format and order as each line is evaluated, so neither the request "
+                    + "nor the response is held in memory. A failing line yields an error line."
+    )
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(description = "Calculations, one per line", required = true,
+            content = {@Content(mediaType = "text/csv"), @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)})
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "One result line per calculation, streamed as it is ready",
+                    content = {@Content(mediaType = "text/csv"), @Content(mediaType = MediaType.APPLICATION_NDJSON_VALUE)}),
+            @ApiResponse(responseCode = "415", description = "Body is neither CSV nor NDJSON",
+                    content = @Content)
+    })
+    public void calculateStream(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                HttpServletRequest request, HttpServletResponse response) throws IOException {
+        StreamingBatchCalculator.Format format = StreamingBatchCalculator.Format.of(contentType);
+        requestLogger.logCalculationStream(format);
+        response.setContentType(format.getMediaType().toString());
+        calculatorService.calculateStream(request.getInputStream(), response.getOutputStream(), format);
+    }
+
+    /**
+     * Columnar batch calculation endpoint
+     */
+    @PostMapping("/calculate/columnar")
+    @Operation(
+            summary = "Apply one operation to columns of operands",
+            description = "Applies the operation to each pair of values of the num1 and num2 columns, in SIMD lanes where the JVM supports it; failed pairs are listed without failing the batch"
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Columns evaluated; failed pairs are listed by index",
+                    content = @Content(schema = @Schema(implementation = ColumnarResult.class))),
+            @ApiResponse(responseCode = "400", description = "Invalid input, or columns of different lengths",
+                    content = @Content),
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content)
+    })
+    public ColumnarResult calculateColumnar(
+            @Parameter(description = "Columnar batch request with an operation and two operand columns", required = true)
+            @Valid @RequestBody ColumnarBatchRequest columnarRequest) {
+        requestLogger.logColumnar(columnarRequest);
+        return calculatorService.calculateColumnar(columnarRequest);
+    }
+}
@@ -0,0 +1,153 @@
+package org.ebay.flexiblecalculator.controller;
+
+import jakarta.validation.Valid;
+import org.ebay.flexiblecalculator.config.JacksonFormatsConfig;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.request.ColumnarBatchRequest;
+import org.ebay.flexiblecalculator.dto.request.ExpressionRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.logging.RequestLogger;
+import org.ebay.flexiblecalculator.service.CalculatorService;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.InputStream;
+
+/**
+ * Reactive REST Controller for calculator operations, serving the same endpoints as
+ * {@link CalculatorController} when the application runs on Netty
+ * (spring.main.web-application-type=reactive).
+ * <p>
+ * Responses are wrapped in a Response here, since ResponseAdvice only applies to Spring MVC.
+ * Single calculations run on the event loop; chains can be long, so they run on the parallel scheduler,
+ * and streamed chains and batches, which block while waiting for the body, on the bounded elastic scheduler.
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/api/v1/calculator")
+public class ReactiveCalculatorController {
+
+    /**
+     * Number of body buffers requested ahead while a streamed chain or batch is being read
+     */
+    private static final int STREAM_DEMAND = 16;
+
+    private final CalculatorService calculatorService;
+    private final RequestLogger requestLogger;
+
+    public ReactiveCalculatorController(CalculatorService calculatorService, RequestLogger requestLogger) {
+        this.calculatorService = calculatorService;
+        this.requestLogger = requestLogger;
+    }
+
+    /**
+     * Basic calculation endpoint
+     */
+    @PostMapping("/calculate")
+    public Mono<Response> calculate(@Valid @RequestBody CalculateRequest calculateRequest) {
+        requestLogger.logCalculation(calculateRequest);
+        return Mono.fromSupplier(() -> success(calculatorService.calculate(calculateRequest)));
+    }
+
+    /**
+     * Chain calculation endpoint
+     */
+    @PostMapping("/chain")
+    public Mono<Response> chainOperations(@Valid @RequestBody ChainRequest chainRequest) {
+        requestLogger.logChain(chainRequest);
+        return Mono.fromSupplier(() -> success(calculatorService.calculateChain(chainRequest)))
+                .subscribeOn(Schedulers.parallel());
+    }
+
+    /**
+     * Streaming chain calculation endpoint
+     */
+    @PostMapping(value = "/chain/stream", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<Response> chainOperationsStream(@RequestBody Flux<DataBuffer> body) {
+        requestLogger.logChainStream();
+        return Mono.fromCallable(() -> {
+                    try (InputStream inputStream = DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND)) {
+                        return success(calculatorService.calculateChainStream(inputStream));
+                    }
+                })
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Expression calculation endpoint
+     */
+    @PostMapping("/expression")
+    public Mono<Response> evaluateExpression(@Valid @RequestBody ExpressionRequest expressionRequest) {
+        requestLogger.logExpression(expressionRequest);
+        return Mono.fromSupplier(() -> success(calculatorService.evaluateExpression(expressionRequest)));
+    }
+
+    /**
+     * Batch calculation endpoint, returning all results at once like the MVC endpoint
+     */
+    @PostMapping(value = "/calculate/batch", produces = {MediaType.APPLICATION_JSON_VALUE,
+            MediaType.APPLICATION_CBOR_VALUE, JacksonFormatsConfig.APPLICATION_SMILE_VALUE})
+    public Mono<Response> calculateBatch(@Valid @RequestBody BatchCalculateRequest batchRequest) {
+        requestLogger.logBatch(batchRequest);
+        return calculatorService.calculateBatchFlux(batchRequest)
+                .collectList()
+                .map(ReactiveCalculatorController::success);
+    }
+
+    /**
+     * Batch calculation endpoint streaming one result per line as soon as it is ready
+     */
+    @PostMapping(value = "/calculate/batch", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<Response> calculateBatchStream(@Valid @RequestBody BatchCalculateRequest batchRequest) {
+        requestLogger.logBatch(batchRequest);
+        return calculatorService.calculateBatchFlux(batchRequest);
+    }
+
+    /**
+     * Streaming batch calculation endpoint. A line is read and evaluated only when the response asks for
+     * another result, so a slow client slows the reading of the body.
+     */
+    @PostMapping(value = "/calculate/stream", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<DataBuffer> calculateStream(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                            @RequestBody Flux<DataBuffer> body, ServerHttpResponse response) {
+        StreamingBatchCalculator.Format format = StreamingBatchCalculator.Format.of(contentType);
+        requestLogger.logCalculationStream(format);
+        response.getHeaders().setContentType(format.getMediaType());
+        return Flux.defer(() -> calculatorService.calculateStreamFlux(
+                        DataBufferUtils.subscriberInputStream(body, STREAM_DEMAND), format))
+                .map(response.bufferFactory()::wrap)
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Columnar batch calculation endpoint
+     */
+    @PostMapping("/calculate/columnar")
+    public Mono<Response> calculateColumnar(@Valid @RequestBody ColumnarBatchRequest columnarRequest) {
+        requestLogger.logColumnar(columnarRequest);
+        return Mono.fromSupplier(() -> success(calculatorService.calculateColumnar(columnarRequest)));
+    }
+
+    private static Response success(Object data) {
+        return Response.builder()
+                .code("200")
+                .message("Success")
+                .data(data)
+                .build();
+    }
+}
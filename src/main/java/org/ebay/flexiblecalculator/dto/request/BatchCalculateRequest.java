@@ -0,0 +1,28 @@
+package org.ebay.flexiblecalculator.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request model for a batch of independent calculation operations
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request model for evaluating many independent calculations in one call")
+public class BatchCalculateRequest {
+
+    @Schema(description = "Calculations to perform; results are returned in the same order", required = true)
+    @NotNull(message = "Calculations list is required")
+    @Size(min = 1, message = "At least one calculation is required")
+    private List<@Valid @NotNull(message = "Calculation is required") CalculateRequest> calculations;
+}
@@ -1,5 +1,6 @@
 package org.ebay.flexiblecalculator.dto.request;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -24,9 +25,11 @@ public class CalculateRequest {
 
     @Schema(description = "First operand for the calculation", required = true, example = "10")
     @NotNull(message = "First operand is required")
+    @JsonDeserialize(using = OperandDeserializer.class)
     private Number num1;
 
     @Schema(description = "Second operand for the calculation", required = true, example = "5")
     @NotNull(message = "Second operand is required")
+    @JsonDeserialize(using = OperandDeserializer.class)
     private Number num2;
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.ebay.flexiblecalculator.dto.request;
 
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -24,5 +25,6 @@ public class ChainOperation {
 
     @Schema(description = "Value to apply with the operation", required = true, example = "5")
     @NotNull(message = "Operation value is required")
+    @JsonDeserialize(using = OperandDeserializer.class)
     private Number value;
 }
\ No newline at end of file
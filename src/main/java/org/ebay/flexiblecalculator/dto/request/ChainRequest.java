@@ -1,5 +1,7 @@
 package org.ebay.flexiblecalculator.dto.request;
 
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
@@ -7,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.ebay.flexiblecalculator.model.DivisionMode;
 
 import java.util.List;
 
@@ -18,14 +21,25 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "Request model for a sequence of operations applied in order")
+@JsonPropertyOrder({"initialValue", "divisionMode", "operations"})
 public class ChainRequest {
 
     @Schema(description = "Initial value for the calculation chain", required = true, example = "10")
     @NotNull(message = "Initial value is required")
+    @JsonDeserialize(using = OperandDeserializer.class)
     private Number initialValue;
 
     @Schema(description = "List of operations to apply in sequence", required = true)
     @NotNull(message = "Operations list is required")
     @Size(min = 1, message = "At least one operation is required")
     private List<ChainOperation> operations;
+
+    @Schema(description = "How DIVIDE is evaluated; EXACT keeps integer chains such as DIVIDE 3, MULTIPLY 3 exact",
+            defaultValue = "DOUBLE", example = "EXACT")
+    @Builder.Default
+    private DivisionMode divisionMode = DivisionMode.DOUBLE;
+
+    public ChainRequest(Number initialValue, List<ChainOperation> operations) {
+        this(initialValue, operations, DivisionMode.DOUBLE);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package org.ebay.flexiblecalculator.dto.request;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.ebay.flexiblecalculator.model.NumericColumn;
+import org.ebay.flexiblecalculator.model.Operation;
+
+/**
+ * Request model for one operation applied to columns of operand pairs
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request model for applying one operation to each pair of values of two operand columns")
+public class ColumnarBatchRequest {
+
+    @Schema(description = "Mathematical operation to apply to every pair", required = true, example = "DIVIDE")
+    @NotNull(message = "Operation is required")
+    private Operation operation;
+
+    @ArraySchema(arraySchema = @Schema(description = "First operands; integers unless any value has a fraction or exponent",
+            required = true), schema = @Schema(implementation = Number.class, example = "10"))
+    @NotNull(message = "First operand column is required")
+    @JsonDeserialize(using = NumericColumnDeserializer.class)
+    private NumericColumn num1;
+
+    @ArraySchema(arraySchema = @Schema(description = "Second operands, as many as first operands", required = true),
+            schema = @Schema(implementation = Number.class, example = "2"))
+    @NotNull(message = "Second operand column is required")
+    @JsonDeserialize(using = NumericColumnDeserializer.class)
+    private NumericColumn num2;
+}
@@ -0,0 +1,36 @@
+package org.ebay.flexiblecalculator.dto.request;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Request model for evaluating an infix expression
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Request model for evaluating an infix expression with variable values")
+public class ExpressionRequest {
+
+    @Schema(description = "Infix expression of numbers, variables, + - * / and parentheses", required = true,
+            example = "(3 + 4) * 2 / x")
+    @NotBlank(message = "Expression is required")
+    private String expression;
+
+    @Schema(description = "Values of the variables used in the expression", example = "{\"x\": 7}")
+    @JsonDeserialize(contentUsing = OperandDeserializer.class)
+    @Builder.Default
+    private Map<String, Number> variables = Map.of();
+
+    public ExpressionRequest(String expression) {
+        this(expression, Map.of());
+    }
+}
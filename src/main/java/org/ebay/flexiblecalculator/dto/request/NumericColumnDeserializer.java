@@ -0,0 +1,70 @@
+package org.ebay.flexiblecalculator.dto.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import org.ebay.flexiblecalculator.model.NumericColumn;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Reads a JSON array of numbers straight into a primitive column, without boxing any value.
+ * <p>
+ * Values are collected as longs until the first value with a fraction or exponent, from where the whole
+ * column is doubles. Integers too large for a long and anything other than a number are rejected:
+ * columns have no BigInteger or null lanes.
+ */
+public class NumericColumnDeserializer extends StdDeserializer<NumericColumn> {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    public NumericColumnDeserializer() {
+        super(NumericColumn.class);
+    }
+
+    @Override
+    public NumericColumn deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        if (!parser.isExpectedStartArrayToken()) {
+            return (NumericColumn) context.handleUnexpectedToken(NumericColumn.class, parser);
+        }
+
+        long[] longs = new long[INITIAL_CAPACITY];
+        double[] doubles = null;
+        int size = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == JsonToken.VALUE_NUMBER_INT && parser.getNumberType() == JsonParser.NumberType.BIG_INTEGER) {
+                return (NumericColumn) context.reportInputMismatch(NumericColumn.class,
+                        "Column value %s does not fit a long", parser.getText());
+            }
+            if (token != JsonToken.VALUE_NUMBER_INT && token != JsonToken.VALUE_NUMBER_FLOAT) {
+                return (NumericColumn) context.reportInputMismatch(NumericColumn.class,
+                        "Column values must be numbers, found %s", token);
+            }
+
+            if (doubles == null && token == JsonToken.VALUE_NUMBER_FLOAT) {
+                doubles = new double[longs.length];
+                for (int i = 0; i < size; i++) {
+                    doubles[i] = longs[i];
+                }
+                longs = null;
+            }
+            if (doubles != null) {
+                if (size == doubles.length) {
+                    doubles = Arrays.copyOf(doubles, size * 2);
+                }
+                doubles[size++] = parser.getDoubleValue();
+            } else {
+                if (size == longs.length) {
+                    longs = Arrays.copyOf(longs, size * 2);
+                }
+                longs[size++] = parser.getLongValue();
+            }
+        }
+        return doubles != null
+                ? NumericColumn.ofDoubles(Arrays.copyOf(doubles, size))
+                : NumericColumn.ofLongs(Arrays.copyOf(longs, size));
+    }
+}
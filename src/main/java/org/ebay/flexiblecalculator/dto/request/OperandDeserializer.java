@@ -0,0 +1,45 @@
+package org.ebay.flexiblecalculator.dto.request;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.NumberDeserializers;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Reads an operand straight from the numeric token into the narrowest matching Number.
+ * <p>
+ * Integers become Integer, Long or BigInteger and floating point values Double, or Float and BigDecimal when
+ * a binary format carries them as such. The boxed class is the type tag {@link
+ * org.ebay.flexiblecalculator.operation.NumericAccumulator} unpacks without further conversion. Numeric
+ * tokens skip the coercion checks of Jackson's general Number deserializer; anything else, such as a number
+ * in a string, is still handed to it.
+ */
+public class OperandDeserializer extends StdScalarDeserializer<Number> {
+
+    public OperandDeserializer() {
+        super(Number.class);
+    }
+
+    @Override
+    public Number deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            return switch (parser.getNumberType()) {
+                case INT -> parser.getIntValue();
+                case LONG -> parser.getLongValue();
+                default -> parser.getBigIntegerValue();
+            };
+        }
+        if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            return switch (parser.getNumberType()) {
+                case FLOAT -> parser.getFloatValue();
+                case BIG_DECIMAL -> parser.getDecimalValue();
+                default -> parser.getDoubleValue();
+            };
+        }
+        return (Number) NumberDeserializers.NumberDeserializer.instance.deserialize(parser, context);
+    }
+}
@@ -3,17 +3,19 @@ package org.ebay.flexiblecalculator.exception;
 import java.io.Serial;
 
 /**
- * Custom exception for calculator operation errors
+ * Custom exception for calculator operation errors.
+ * Reports a client error by its message alone, so no stack trace is captured: invalid requests
+ * can arrive at a high rate, and filling in the trace was the main cost of rejecting them.
  */
 public class CalculationException extends RuntimeException {
     @Serial
     private static final long serialVersionUID = 1L;
 
     public CalculationException(String message) {
-        super(message);
+        super(message, null, false, false);
     }
 
     public CalculationException(String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
     }
 }
@@ -3,6 +3,7 @@ package org.ebay.flexiblecalculator.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.ebay.flexiblecalculator.dto.response.Response;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,7 +11,10 @@ import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 import java.util.Map;
@@ -25,12 +29,12 @@ import java.util.stream.Collectors;
 public class GlobalExceptionHandler {
 
     /**
-     * Handle calculation exceptions
+     * Handle calculation exceptions. These are expected client errors, already counted by the calculator metrics.
      */
     @ExceptionHandler(CalculationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response handleCalculationException(CalculationException ex) {
-        log.error("Calculation error occurred: {}", ex.getMessage());
+        log.debug("Calculation error occurred: {}", ex.getMessage());
 
         return Response.builder()
                 .code("400")
@@ -94,6 +98,63 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    /**
+     * Handle validation exceptions of the reactive API
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response handleWebExchangeBindException(WebExchangeBindException ex) {
+        Map<String, String> errors = ex.getBindingResult().getFieldErrors().stream()
+                .collect(Collectors.toMap(
+                        FieldError::getField,
+                        fieldError -> fieldError.getDefaultMessage() != null ?
+                                fieldError.getDefaultMessage() : "Invalid value"
+                ));
+
+        log.error("Validation errors: {}", errors);
+
+        return Response.builder()
+                .code("400")
+                .message("Invalid parameters")
+                .data(errors)
+                .build();
+    }
+
+    /**
+     * Handle request body decoding errors of the reactive API (including invalid enum values)
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response handleServerWebInputException(ServerWebInputException ex) {
+        log.error("JSON parse error: {}", ex.getMessage());
+
+        String message = "Invalid request format";
+        if (ex.getMostSpecificCause().getMessage() != null
+                && ex.getMostSpecificCause().getMessage().contains("Cannot deserialize value of type")) {
+            message = "Invalid operation value. Supported operations are: ADD, SUBTRACT, MULTIPLY, DIVIDE";
+        }
+
+        return Response.builder()
+                .code("400")
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Handle validation exceptions raised while reading streamed requests
+     */
+    @ExceptionHandler(InvalidRequestException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public Response handleInvalidRequestException(InvalidRequestException ex) {
+        log.error("Validation error: {}={}", ex.getField(), ex.getMessage());
+
+        return Response.builder()
+                .code("400")
+                .message("Invalid parameters")
+                .data(Map.of(ex.getField(), ex.getMessage()))
+                .build();
+    }
+
     /**
      * Handle type mismatch exceptions
      */
@@ -136,6 +197,20 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    /**
+     * Handle exceptions that carry their own status, such as unknown routes in the reactive API
+     */
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<Response> handleResponseStatusException(ResponseStatusException ex) {
+        log.error("Request failed with status {}: {}", ex.getStatusCode().value(), ex.getReason());
+
+        return ResponseEntity.status(ex.getStatusCode())
+                .body(Response.builder()
+                        .code(String.valueOf(ex.getStatusCode().value()))
+                        .message(ex.getReason() != null ? ex.getReason() : ex.getMessage())
+                        .build());
+    }
+
     /**
      * Handle illegal argument exceptions
      */
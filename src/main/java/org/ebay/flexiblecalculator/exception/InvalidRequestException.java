@@ -0,0 +1,22 @@
+package org.ebay.flexiblecalculator.exception;
+
+import lombok.Getter;
+
+import java.io.Serial;
+
+/**
+ * Exception for request validation errors detected outside bean validation,
+ * carrying the path of the offending field
+ */
+@Getter
+public class InvalidRequestException extends RuntimeException {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final String field;
+
+    public InvalidRequestException(String field, String message) {
+        super(message);
+        this.field = field;
+    }
+}
@@ -0,0 +1,106 @@
+package org.ebay.flexiblecalculator.job;
+
+import org.ebay.flexiblecalculator.binary.BinaryProtocol;
+import org.ebay.flexiblecalculator.model.Operation;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Fixed-width binary files of the batch job. All values are big-endian, as in the binary protocol.
+ * <pre>
+ * Input file, 32 byte header then one 24 byte record per calculation:
+ *   int  magic          0x43414C49
+ *   int  version        1
+ *   long count          number of records
+ *   then at 32, each record is a calculate request frame of the binary protocol:
+ *     int  id           chosen by the producer, echoed in the result
+ *     byte operation    Operation ordinal
+ *     byte type1        NumericType ordinal of num1
+ *     byte type2        NumericType ordinal of num2
+ *     byte kind         0
+ *     long num1
+ *     long num2
+ *
+ * Output file, 64 byte header, one mark per chunk, then one 16 byte result per record:
+ *   int  magic          0x43414C4F
+ *   int  version        1
+ *   long count          number of records
+ *   int  chunkSize      records per chunk
+ *   int  chunks         number of chunks
+ *   long inputModified  last-modified time of the input file, in milliseconds
+ *   then at 64, one byte per chunk: 1 once the chunk's results are on disk
+ *   then at {@link #resultsOffset}, each result:
+ *     int  id           id of the record
+ *     byte status       see below
+ *     byte type         NumericType ordinal of the value
+ *     short reserved    0
+ *     long value        the result, encoded as an operand; 0 unless the status is OK
+ * </pre>
+ * Operand and result bits are encoded as in {@link BinaryProtocol}. Result statuses are
+ * {@value #STATUS_OK} for a result, {@value #STATUS_ERROR} for a calculation error such as division by zero,
+ * {@value #STATUS_OUT_OF_RANGE} for a result that no longer fits a long and {@value #STATUS_INVALID}
+ * for a record with an unknown operation code, type tag or kind.
+ */
+public final class BatchFileFormat {
+
+    public static final int INPUT_MAGIC = 0x43414C49;
+    public static final int OUTPUT_MAGIC = 0x43414C4F;
+    public static final int VERSION = 1;
+
+    public static final int INPUT_HEADER_SIZE = 32;
+    public static final int OUTPUT_HEADER_SIZE = 64;
+    public static final int RECORD_SIZE = BinaryProtocol.REQUEST_SIZE;
+    public static final int RESULT_SIZE = BinaryProtocol.SUCCESS_RESPONSE_SIZE;
+
+    public static final byte STATUS_OK = 0;
+    public static final byte STATUS_ERROR = 1;
+    public static final byte STATUS_OUT_OF_RANGE = 2;
+    public static final byte STATUS_INVALID = 3;
+
+    static final int MAGIC_OFFSET = 0;
+    static final int VERSION_OFFSET = 4;
+    static final int COUNT_OFFSET = 8;
+    static final int CHUNK_SIZE_OFFSET = 16;
+    static final int CHUNKS_OFFSET = 20;
+    static final int INPUT_MODIFIED_OFFSET = 24;
+
+    private BatchFileFormat() {
+    }
+
+    /**
+     * Write the header of an input file
+     */
+    public static void writeInputHeader(ByteBuffer buffer, long count) {
+        buffer.putInt(INPUT_MAGIC)
+                .putInt(VERSION)
+                .putLong(count)
+                .put(new byte[INPUT_HEADER_SIZE - 16]);
+    }
+
+    /**
+     * Write one input record
+     *
+     * @throws IllegalArgumentException if an operand is not an Integer, Long, Float or Double
+     */
+    public static void writeRecord(ByteBuffer buffer, int id, Operation operation, Number num1, Number num2) {
+        BinaryProtocol.writeRequest(buffer, id, operation, num1, num2);
+    }
+
+    /**
+     * Get the number of chunks a job splits its records into
+     */
+    public static int chunks(long count, int chunkSize) {
+        long chunks = (count + chunkSize - 1) / chunkSize;
+        if (chunks > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Chunk size " + chunkSize + " is too small for " + count + " records");
+        }
+        return (int) chunks;
+    }
+
+    /**
+     * Get the offset of the first result in an output file: the chunk marks, rounded up to a cache line
+     */
+    public static long resultsOffset(int chunks) {
+        return OUTPUT_HEADER_SIZE + ((chunks + 63L) & ~63L);
+    }
+}
@@ -0,0 +1,333 @@
+package org.ebay.flexiblecalculator.job;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.NumericType;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.ebay.flexiblecalculator.job.BatchFileFormat.*;
+
+/**
+ * Evaluates a {@link BatchFileFormat batch input file} into an output file.
+ * <p>
+ * The records are split into chunks evaluated in parallel. Each chunk maps its region of the input and the
+ * output with {@link FileChannel#map}, evaluates the records directly with the registered operation strategies
+ * on primitive accumulators, like the shared memory ring, and forces its results to disk before marking
+ * itself done in the output header. A job restarted on the same files after a crash skips the chunks
+ * marked done and evaluates only the rest.
+ */
+@Slf4j
+public class BatchFileJob {
+
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final NumericType[] TYPES = NumericType.values();
+
+    private static final int OPERATION = 4;
+    private static final int TYPE1 = 5;
+    private static final int TYPE2 = 6;
+    private static final int KIND = 7;
+    private static final int NUM1 = 8;
+    private static final int NUM2 = 16;
+    private static final int RESULT_STATUS = 4;
+    private static final int RESULT_TYPE = 5;
+    private static final int RESULT_VALUE = 8;
+
+    private final OperationRegistry operationRegistry;
+    private final ForkJoinPool executor;
+    private final int chunkSize;
+
+    /**
+     * @param chunkSize records per chunk: the unit of parallel work, of progress reporting and of resumption
+     */
+    public BatchFileJob(OperationRegistry operationRegistry, ForkJoinPool executor, int chunkSize) {
+        if (chunkSize <= 0 || chunkSize > Integer.MAX_VALUE / RECORD_SIZE) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and "
+                    + Integer.MAX_VALUE / RECORD_SIZE + ": " + chunkSize);
+        }
+        this.operationRegistry = operationRegistry;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Evaluate every record of the input file that the output file has no result for yet
+     *
+     * @param input  the input file
+     * @param output the output file, created if it does not exist and resumed if it does
+     * @return what this run evaluated
+     * @throws IllegalStateException if the input is not a batch file, or the output was written
+     *                               for a different input or chunk size
+     */
+    public Summary run(Path input, Path output) throws IOException {
+        try (FileChannel in = FileChannel.open(input, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(output, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                     StandardOpenOption.WRITE)) {
+            long count = readInputHeader(in, input);
+            int chunks = BatchFileFormat.chunks(count, chunkSize);
+            long resultsOffset = BatchFileFormat.resultsOffset(chunks);
+            MappedByteBuffer header = openOutput(out, output, count, chunks,
+                    Files.getLastModifiedTime(input).toMillis());
+
+            List<Integer> pending = new ArrayList<>();
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                if (header.get(OUTPUT_HEADER_SIZE + chunk) == 0) {
+                    pending.add(chunk);
+                }
+            }
+            int resumed = chunks - pending.size();
+            if (resumed > 0) {
+                log.info("Resuming batch job {}: {} of {} chunks already done", output, resumed, chunks);
+            } else {
+                log.info("Starting batch job {} -> {}: {} records in {} chunks", input, output, count, chunks);
+            }
+
+            Progress progress = new Progress(output, chunks, resumed);
+            Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(pending.size());
+            for (int chunk : pending) {
+                tasks.add(executor.submit(() -> {
+                    // Once a chunk has failed, chunks not started yet are left for the next run
+                    if (!failures.isEmpty()) {
+                        return;
+                    }
+                    try {
+                        long failed = evaluateChunk(in, out, header, resultsOffset, count, chunk);
+                        progress.chunkDone(recordsIn(chunk, count), failed);
+                    } catch (IOException e) {
+                        failures.add(new UncheckedIOException("Could not evaluate chunk " + chunk + " of " + input, e));
+                    } catch (RuntimeException | Error e) {
+                        failures.add(e);
+                    }
+                }));
+            }
+            // Every task must finish before the channels are closed, so wait for all of them even after a failure
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+            rethrowFirst(failures);
+
+            Summary summary = new Summary(progress.records.get(), progress.failures.get(), chunks, resumed);
+            log.info("Finished batch job {}: {}", output, summary);
+            return summary;
+        }
+    }
+
+    /**
+     * Rethrow the first failure of a run, with the failures of other chunks suppressed by it
+     */
+    private static void rethrowFirst(Queue<Throwable> failures) {
+        Throwable first = failures.poll();
+        if (first == null) {
+            return;
+        }
+        failures.forEach(first::addSuppressed);
+        if (first instanceof Error error) {
+            throw error;
+        }
+        throw (RuntimeException) first;
+    }
+
+    private static long readInputHeader(FileChannel in, Path input) throws IOException {
+        if (in.size() < INPUT_HEADER_SIZE) {
+            throw new IllegalStateException("Not a batch input file of version " + VERSION + ": " + input);
+        }
+        MappedByteBuffer header = in.map(FileChannel.MapMode.READ_ONLY, 0, INPUT_HEADER_SIZE);
+        if (header.getInt(MAGIC_OFFSET) != INPUT_MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+            throw new IllegalStateException("Not a batch input file of version " + VERSION + ": " + input);
+        }
+        long count = header.getLong(COUNT_OFFSET);
+        if (count < 0 || in.size() < INPUT_HEADER_SIZE + count * RECORD_SIZE) {
+            throw new IllegalStateException("Batch input file " + input + " is shorter than its "
+                    + count + " records");
+        }
+        return count;
+    }
+
+    /**
+     * Map the output header and chunk marks, initializing them unless the file is a matching output to resume
+     */
+    private MappedByteBuffer openOutput(FileChannel out, Path output, long count, int chunks, long inputModified)
+            throws IOException {
+        long resultsOffset = BatchFileFormat.resultsOffset(chunks);
+        long size = resultsOffset + count * RESULT_SIZE;
+        MappedByteBuffer header = out.map(FileChannel.MapMode.READ_WRITE, 0, resultsOffset);
+
+        if (header.getInt(MAGIC_OFFSET) == OUTPUT_MAGIC) {
+            if (header.getInt(VERSION_OFFSET) != VERSION || header.getLong(COUNT_OFFSET) != count
+                    || header.getInt(CHUNK_SIZE_OFFSET) != chunkSize
+                    || header.getLong(INPUT_MODIFIED_OFFSET) != inputModified) {
+                throw new IllegalStateException("Batch output file " + output + " was written for a different"
+                        + " input or chunk size; delete it to start over");
+            }
+            return header;
+        }
+
+        // A new file, or one whose initialization did not complete
+        if (out.size() > size) {
+            out.truncate(size);
+        } else if (out.size() < size) {
+            out.write(ByteBuffer.allocate(1), size - 1);
+        }
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            header.put(OUTPUT_HEADER_SIZE + chunk, (byte) 0);
+        }
+        header.putInt(VERSION_OFFSET, VERSION)
+                .putLong(COUNT_OFFSET, count)
+                .putInt(CHUNK_SIZE_OFFSET, chunkSize)
+                .putInt(CHUNKS_OFFSET, chunks)
+                .putLong(INPUT_MODIFIED_OFFSET, inputModified);
+        header.force();
+        // Written last, so a crash during initialization never leaves stale marks that look valid
+        header.putInt(MAGIC_OFFSET, OUTPUT_MAGIC);
+        header.force();
+        return header;
+    }
+
+    /**
+     * Evaluate the records of one chunk, then mark it done once its results are on disk
+     *
+     * @return the number of records that did not produce a result
+     */
+    private long evaluateChunk(FileChannel in, FileChannel out, MappedByteBuffer header, long resultsOffset,
+                               long count, int chunk) throws IOException {
+        long first = (long) chunk * chunkSize;
+        int records = recordsIn(chunk, count);
+        MappedByteBuffer requests = in.map(FileChannel.MapMode.READ_ONLY,
+                INPUT_HEADER_SIZE + first * RECORD_SIZE, (long) records * RECORD_SIZE);
+        MappedByteBuffer results = out.map(FileChannel.MapMode.READ_WRITE,
+                resultsOffset + first * RESULT_SIZE, (long) records * RESULT_SIZE);
+
+        NumericAccumulator accumulator = new NumericAccumulator();
+        NumericAccumulator operand = new NumericAccumulator();
+        long failures = 0;
+        for (int i = 0; i < records; i++) {
+            int request = i * RECORD_SIZE;
+            int result = i * RESULT_SIZE;
+            results.putInt(result, requests.getInt(request));
+            byte status = evaluate(requests, request, accumulator, operand);
+            results.put(result + RESULT_STATUS, status);
+            if (status == STATUS_OK) {
+                results.put(result + RESULT_TYPE, (byte) accumulator.type().ordinal())
+                        .putLong(result + RESULT_VALUE, bits(accumulator));
+            } else {
+                failures++;
+                results.put(result + RESULT_TYPE, (byte) 0)
+                        .putLong(result + RESULT_VALUE, 0L);
+            }
+        }
+
+        results.force();
+        header.put(OUTPUT_HEADER_SIZE + chunk, (byte) 1);
+        header.force(OUTPUT_HEADER_SIZE + chunk, 1);
+        return failures;
+    }
+
+    /**
+     * Evaluate one record into the accumulator
+     *
+     * @return the status of its result
+     */
+    private byte evaluate(ByteBuffer requests, int request, NumericAccumulator accumulator,
+                          NumericAccumulator operand) {
+        byte code = requests.get(request + OPERATION);
+        if (code < 0 || code >= OPERATIONS.length || requests.get(request + KIND) != 0
+                || !load(accumulator, requests.get(request + TYPE1), requests.getLong(request + NUM1))
+                || !load(operand, requests.get(request + TYPE2), requests.getLong(request + NUM2))) {
+            return STATUS_INVALID;
+        }
+        OperationStrategy strategy = operationRegistry.getStrategy(OPERATIONS[code]).orElse(null);
+        if (strategy == null) {
+            return STATUS_ERROR;
+        }
+        CalculationResult result = strategy.evaluateInPlace(accumulator, operand);
+        if (!result.isSuccess()) {
+            return STATUS_ERROR;
+        }
+        // Promoted past a long, which the result format has no type for
+        return accumulator.isPrimitive() ? STATUS_OK : STATUS_OUT_OF_RANGE;
+    }
+
+    private int recordsIn(int chunk, long count) {
+        return (int) Math.min(chunkSize, count - (long) chunk * chunkSize);
+    }
+
+    private static boolean load(NumericAccumulator target, byte tag, long bits) {
+        if (tag < 0 || tag >= TYPES.length) {
+            return false;
+        }
+        switch (TYPES[tag]) {
+            case INT -> target.setInt((int) bits);
+            case LONG -> target.setLong(bits);
+            case FLOAT -> target.setFloat(Float.intBitsToFloat((int) bits));
+            case DOUBLE -> target.setDouble(Double.longBitsToDouble(bits));
+        }
+        return true;
+    }
+
+    private static long bits(NumericAccumulator value) {
+        return switch (value.type()) {
+            case INT, LONG -> value.longValue();
+            case FLOAT -> Float.floatToRawIntBits(value.floatValue());
+            case DOUBLE -> Double.doubleToRawLongBits(value.doubleValue());
+        };
+    }
+
+    /**
+     * What one run of the job evaluated
+     *
+     * @param records       records evaluated by this run
+     * @param failures      records of this run that did not produce a result
+     * @param chunks        chunks of the whole file
+     * @param resumedChunks chunks already done by an earlier run and skipped
+     */
+    public record Summary(long records, long failures, int chunks, int resumedChunks) {
+    }
+
+    /**
+     * Counts completed chunks and logs each one with the job's overall progress and this run's rate
+     */
+    private static final class Progress {
+
+        private final Path output;
+        private final int chunks;
+        private final long startNanos = System.nanoTime();
+        private final AtomicInteger chunksDone;
+        private final AtomicLong records = new AtomicLong();
+        private final AtomicLong failures = new AtomicLong();
+
+        private Progress(Path output, int chunks, int resumed) {
+            this.output = output;
+            this.chunks = chunks;
+            this.chunksDone = new AtomicInteger(resumed);
+        }
+
+        void chunkDone(int chunkRecords, long chunkFailures) {
+            long evaluated = records.addAndGet(chunkRecords);
+            failures.addAndGet(chunkFailures);
+            int done = chunksDone.incrementAndGet();
+            double seconds = Math.max(System.nanoTime() - startNanos, 1) / 1e9;
+            log.info("Batch job {}: {} of {} chunks done, {} records evaluated at {} records/s",
+                    output, done, chunks, evaluated, (long) (evaluated / seconds));
+        }
+    }
+}
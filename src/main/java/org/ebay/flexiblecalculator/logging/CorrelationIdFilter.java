@@ -0,0 +1,75 @@
+package org.ebay.flexiblecalculator.logging;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.MDC;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Filter that assigns each request a correlation id.
+ * A well-formed id sent by the client is kept, otherwise a random one is generated.
+ * The id is put in the MDC under {@link #MDC_KEY} for the duration of the request and echoed on the response.
+ * The reactive deployment uses {@link ReactiveCorrelationIdFilter} instead.
+ */
+public class CorrelationIdFilter extends OncePerRequestFilter {
+
+    public static final String MDC_KEY = "correlationId";
+
+    private static final int MAX_LENGTH = 64;
+
+    private final String headerName;
+
+    public CorrelationIdFilter(String headerName) {
+        this.headerName = headerName;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String correlationId = resolve(request.getHeader(headerName));
+
+        MDC.put(MDC_KEY, correlationId);
+        response.setHeader(headerName, correlationId);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            MDC.remove(MDC_KEY);
+        }
+    }
+
+    /**
+     * Keep a well-formed id sent by the client, otherwise generate one
+     */
+    static String resolve(String requested) {
+        return isValid(requested) ? requested : generate();
+    }
+
+    /**
+     * Accept only short ids of letters, digits, '-', '_' and '.', so client input cannot forge log lines
+     */
+    private static boolean isValid(String correlationId) {
+        if (correlationId == null || correlationId.isEmpty() || correlationId.length() > MAX_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < correlationId.length(); i++) {
+            char c = correlationId.charAt(i);
+            if (!(Character.isLetterOrDigit(c) && c < 128) && c != '-' && c != '_' && c != '.') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 16 hex digits from ThreadLocalRandom; unlike UUID.randomUUID this does not contend on SecureRandom
+     */
+    private static String generate() {
+        String hex = Long.toHexString(ThreadLocalRandom.current().nextLong());
+        return "0".repeat(16 - hex.length()) + hex;
+    }
+}
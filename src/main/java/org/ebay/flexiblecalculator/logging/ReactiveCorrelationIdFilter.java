@@ -0,0 +1,55 @@
+package org.ebay.flexiblecalculator.logging;
+
+import io.micrometer.context.ContextRegistry;
+import org.slf4j.MDC;
+import org.springframework.core.Ordered;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Hooks;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive counterpart of {@link CorrelationIdFilter}, for the reactive deployment.
+ * <p>
+ * A request is not bound to one thread, so the id is written to the Reactor context under
+ * {@link CorrelationIdFilter#MDC_KEY} rather than to the MDC directly. {@link #enableMdcPropagation()}
+ * registers the MDC entry with Reactor's automatic context propagation, which copies the id into the MDC
+ * of whichever thread runs the request's operators and removes it afterwards.
+ */
+public class ReactiveCorrelationIdFilter implements WebFilter, Ordered {
+
+    private final String headerName;
+
+    public ReactiveCorrelationIdFilter(String headerName) {
+        this.headerName = headerName;
+    }
+
+    /**
+     * Restore the correlation id from the Reactor context into the MDC around every operator.
+     * Must be called before the first request is subscribed to.
+     */
+    public static void enableMdcPropagation() {
+        ContextRegistry.getInstance().registerThreadLocalAccessor(CorrelationIdFilter.MDC_KEY,
+                () -> MDC.get(CorrelationIdFilter.MDC_KEY),
+                correlationId -> MDC.put(CorrelationIdFilter.MDC_KEY, correlationId),
+                () -> MDC.remove(CorrelationIdFilter.MDC_KEY));
+        Hooks.enableAutomaticContextPropagation();
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String correlationId = CorrelationIdFilter.resolve(exchange.getRequest().getHeaders().getFirst(headerName));
+        exchange.getResponse().getHeaders().set(headerName, correlationId);
+        return chain.filter(exchange)
+                .contextWrite(context -> context.put(CorrelationIdFilter.MDC_KEY, correlationId));
+    }
+
+    /**
+     * Run first so every log line of a request, including error handling, carries its correlation id
+     */
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
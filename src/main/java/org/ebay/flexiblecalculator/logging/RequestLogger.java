@@ -0,0 +1,146 @@
+package org.ebay.flexiblecalculator.logging;
+
+import org.ebay.flexiblecalculator.config.RequestLoggingProperties;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.request.ColumnarBatchRequest;
+import org.ebay.flexiblecalculator.dto.request.ExpressionRequest;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiConsumer;
+
+/**
+ * Logs a sampled fraction of incoming requests, one line per request.
+ * Chains and batches are summarised as their size plus the first few items, so the cost of a log line
+ * does not grow with the request. Requests that are not sampled cost one random number.
+ * Lines are written to the {@value #LOGGER_NAME} logger, which can be levelled on its own.
+ */
+@Component
+public class RequestLogger {
+
+    public static final String LOGGER_NAME = "org.ebay.flexiblecalculator.requests";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER_NAME);
+
+    private final double sampleRate;
+    private final int maxSummaryItems;
+
+    public RequestLogger(RequestLoggingProperties properties) {
+        this.sampleRate = properties.getSampleRate();
+        this.maxSummaryItems = properties.getMaxSummaryItems();
+    }
+
+    /**
+     * Log a single calculation request if sampled
+     */
+    public void logCalculation(CalculateRequest request) {
+        if (isSampled()) {
+            log.info("calculate {}", summarize(request));
+        }
+    }
+
+    /**
+     * Log a chain request if sampled
+     */
+    public void logChain(ChainRequest request) {
+        if (isSampled()) {
+            log.info("chain initialValue={} {}", request.getInitialValue(),
+                    summarize(request.getOperations(), maxSummaryItems, RequestLogger::appendOperation));
+        }
+    }
+
+    /**
+     * Log a streamed chain request if sampled; its operations are not known until it has been read
+     */
+    public void logChainStream() {
+        if (isSampled()) {
+            log.info("chain/stream");
+        }
+    }
+
+    /**
+     * Log a streamed batch request if sampled; its lines are read while it is evaluated, so only the format is known
+     */
+    public void logCalculationStream(StreamingBatchCalculator.Format format) {
+        if (isSampled()) {
+            log.info("calculate/stream {}", format);
+        }
+    }
+
+    /**
+     * Log an expression request if sampled, by its size only
+     */
+    public void logExpression(ExpressionRequest request) {
+        if (isSampled()) {
+            log.info("expression length={} variables={}", request.getExpression().length(),
+                    request.getVariables() != null ? request.getVariables().size() : 0);
+        }
+    }
+
+    /**
+     * Log a batch request if sampled
+     */
+    public void logBatch(BatchCalculateRequest request) {
+        if (isSampled()) {
+            log.info("batch {}", summarize(request.getCalculations(), maxSummaryItems, RequestLogger::appendCalculation));
+        }
+    }
+
+    /**
+     * Log a columnar batch request if sampled, by its size only
+     */
+    public void logColumnar(ColumnarBatchRequest request) {
+        if (isSampled()) {
+            log.info("columnar {} size={}", request.getOperation(), request.getNum1().size());
+        }
+    }
+
+    /**
+     * Decide whether the current request is logged
+     */
+    public boolean isSampled() {
+        if (sampleRate <= 0 || !log.isInfoEnabled()) {
+            return false;
+        }
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * Summarise a list as its size and at most maxItems elements, e.g. {@code size=1000 [ADD 5, MULTIPLY 2, ... 998 more]}
+     */
+    public static <T> String summarize(List<T> items, int maxItems, BiConsumer<StringBuilder, T> appender) {
+        StringBuilder summary = new StringBuilder("size=").append(items.size()).append(" [");
+        int shown = Math.min(items.size(), maxItems);
+        for (int i = 0; i < shown; i++) {
+            if (i > 0) {
+                summary.append(", ");
+            }
+            appender.accept(summary, items.get(i));
+        }
+        if (items.size() > shown) {
+            summary.append(shown > 0 ? ", ... " : "... ").append(items.size() - shown).append(" more");
+        }
+        return summary.append(']').toString();
+    }
+
+    private static String summarize(CalculateRequest request) {
+        StringBuilder summary = new StringBuilder();
+        appendCalculation(summary, request);
+        return summary.toString();
+    }
+
+    private static void appendOperation(StringBuilder summary, ChainOperation operation) {
+        summary.append(operation.getOperation()).append(' ').append(operation.getValue());
+    }
+
+    private static void appendCalculation(StringBuilder summary, CalculateRequest request) {
+        summary.append(request.getOperation()).append(' ').append(request.getNum1()).append(' ').append(request.getNum2());
+    }
+}
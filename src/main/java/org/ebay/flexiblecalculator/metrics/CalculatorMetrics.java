@@ -0,0 +1,111 @@
+package org.ebay.flexiblecalculator.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Domain metrics for calculations.
+ * Meters are registered once and looked up by operation ordinal, so recording costs no map lookups.
+ * Tags are limited to the operation and the exception type to keep cardinality low.
+ */
+@Component
+public class CalculatorMetrics {
+
+    public static final String CALCULATION_TIMER = "calculator.calculation";
+    public static final String ERROR_COUNTER = "calculator.errors";
+    public static final String CHAIN_LENGTH = "calculator.chain.length";
+    public static final String BATCH_SIZE = "calculator.batch.size";
+
+    private final MeterRegistry meterRegistry;
+    private final Timer[] calculationTimers;
+    private final Counter[] calculationErrors;
+    private final DistributionSummary chainLength;
+    private final DistributionSummary batchSize;
+
+    public CalculatorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+
+        Operation[] operations = Operation.values();
+        this.calculationTimers = new Timer[operations.length];
+        this.calculationErrors = new Counter[operations.length];
+        for (Operation operation : operations) {
+            calculationTimers[operation.ordinal()] = Timer.builder(CALCULATION_TIMER)
+                    .description("Time taken by single calculations")
+                    .tag("operation", operation.name())
+                    .register(meterRegistry);
+            calculationErrors[operation.ordinal()] = errorCounter(operation,
+                    CalculationException.class.getSimpleName());
+        }
+
+        this.chainLength = DistributionSummary.builder(CHAIN_LENGTH)
+                .description("Number of operations in evaluated chains")
+                .baseUnit("operations")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE)
+                .description("Number of calculations in evaluated batches")
+                .baseUnit("calculations")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record the duration of a successful single calculation
+     *
+     * @param operation the operation performed
+     * @param durationNanos the duration in nanoseconds
+     */
+    public void recordCalculation(Operation operation, long durationNanos) {
+        calculationTimers[operation.ordinal()].record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Count a calculation that failed with a calculation error
+     *
+     * @param operation the operation that failed
+     */
+    public void recordError(Operation operation) {
+        calculationErrors[operation.ordinal()].increment();
+    }
+
+    /**
+     * Count a failed calculation
+     *
+     * @param operation the operation that failed, may be null for an invalid request
+     * @param exception the failure
+     */
+    public void recordError(Operation operation, RuntimeException exception) {
+        errorCounter(operation, exception.getClass().getSimpleName()).increment();
+    }
+
+    /**
+     * Record the number of operations of an evaluated chain
+     *
+     * @param length the chain length
+     */
+    public void recordChainLength(int length) {
+        chainLength.record(length);
+    }
+
+    /**
+     * Record the number of calculations of an evaluated batch
+     *
+     * @param size the batch size
+     */
+    public void recordBatchSize(int size) {
+        batchSize.record(size);
+    }
+
+    private Counter errorCounter(Operation operation, String exception) {
+        return Counter.builder(ERROR_COUNTER)
+                .description("Number of failed calculations")
+                .tag("operation", String.valueOf(operation))
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
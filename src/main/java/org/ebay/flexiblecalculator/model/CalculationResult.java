@@ -0,0 +1,64 @@
+package org.ebay.flexiblecalculator.model;
+
+import lombok.AccessLevel;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+
+/**
+ * Outcome of a calculation: either a value or an error message.
+ * Calculation errors travel as return values through the calculator, chain and batch paths,
+ * and only become a {@link CalculationException} where a caller needs one, such as an HTTP handler.
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public final class CalculationResult {
+
+    private static final CalculationResult IN_PLACE = new CalculationResult(null, null);
+
+    /**
+     * The calculated value, null for an error or an in-place calculation
+     */
+    private final Number value;
+
+    /**
+     * The error message, null on success
+     */
+    private final String error;
+
+    public static CalculationResult success(Number value) {
+        return new CalculationResult(value, null);
+    }
+
+    /**
+     * Shared result of a successful in-place calculation, whose value is held by the accumulator
+     */
+    public static CalculationResult inPlace() {
+        return IN_PLACE;
+    }
+
+    public static CalculationResult error(String message) {
+        return new CalculationResult(null, message);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+
+    /**
+     * Get the value, or throw the error
+     *
+     * @return the calculated value
+     * @throws CalculationException if the calculation failed
+     */
+    public Number orElseThrow() {
+        if (error != null) {
+            throw new CalculationException(error);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,54 @@
+package org.ebay.flexiblecalculator.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Results of a columnar batch: one value per lane, and the lanes that failed.
+ * Failed lanes hold 0 in the values column.
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Results of a columnar batch, in operand order")
+public class ColumnarResult {
+
+    private static final int[] NO_ERRORS = new int[0];
+
+    @ArraySchema(arraySchema = @Schema(description = "Result of each lane; integer operands give integers, "
+            + "except for DIVIDE, and failed lanes hold 0"), schema = @Schema(implementation = Number.class))
+    private final NumericColumn values;
+
+    @Schema(description = "Indices of the failed lanes, in ascending order")
+    private final int[] errors;
+
+    @Schema(description = "Error of the first failed lane, absent if no lane failed",
+            example = "Division by zero is not allowed")
+    private final String error;
+
+    /**
+     * Build a result from the failure flags of a kernel
+     *
+     * @param values the results, 0 in failed lanes
+     * @param failed the flag of each lane
+     * @param failures the number of flagged lanes
+     * @param error the error of the first failed lane
+     */
+    public static ColumnarResult of(NumericColumn values, boolean[] failed, int failures, String error) {
+        if (failures == 0) {
+            return new ColumnarResult(values, NO_ERRORS, null);
+        }
+        int[] errors = new int[failures];
+        for (int i = 0, next = 0; next < failures; i++) {
+            if (failed[i]) {
+                errors[next++] = i;
+            }
+        }
+        return new ColumnarResult(values, errors, error);
+    }
+}
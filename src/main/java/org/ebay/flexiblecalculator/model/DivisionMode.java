@@ -0,0 +1,15 @@
+package org.ebay.flexiblecalculator.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enum defining how a calculation chain evaluates division
+ */
+@Schema(description = "How DIVIDE is evaluated in a chain")
+public enum DivisionMode {
+    @Schema(description = "Divide in floating point; quotients that are not whole become doubles")
+    DOUBLE,
+
+    @Schema(description = "Keep an exact fraction while operands are integers, converting it to a number only at the end")
+    EXACT
+}
@@ -0,0 +1,76 @@
+package org.ebay.flexiblecalculator.model;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.EqualsAndHashCode;
+
+import java.util.Arrays;
+
+/**
+ * A column of operands or results, held as a primitive long or double array.
+ * Written as a plain JSON array; the arrays are shared, not copied.
+ */
+@EqualsAndHashCode
+public final class NumericColumn {
+
+    private final long[] longs;
+    private final double[] doubles;
+
+    private NumericColumn(long[] longs, double[] doubles) {
+        this.longs = longs;
+        this.doubles = doubles;
+    }
+
+    public static NumericColumn ofLongs(long... values) {
+        return new NumericColumn(values, null);
+    }
+
+    public static NumericColumn ofDoubles(double... values) {
+        return new NumericColumn(null, values);
+    }
+
+    /**
+     * @return true for a long column, false for a double column
+     */
+    public boolean isIntegral() {
+        return longs != null;
+    }
+
+    public int size() {
+        return longs != null ? longs.length : doubles.length;
+    }
+
+    /**
+     * @return the values of a long column
+     * @throws IllegalStateException for a double column
+     */
+    public long[] longs() {
+        if (longs == null) {
+            throw new IllegalStateException("Not a long column");
+        }
+        return longs;
+    }
+
+    /**
+     * @return the values of a double column, or those of a long column converted as by Long.doubleValue
+     */
+    public double[] doubles() {
+        if (doubles != null) {
+            return doubles;
+        }
+        double[] converted = new double[longs.length];
+        for (int i = 0; i < longs.length; i++) {
+            converted[i] = longs[i];
+        }
+        return converted;
+    }
+
+    @JsonValue
+    Object values() {
+        return longs != null ? longs : doubles;
+    }
+
+    @Override
+    public String toString() {
+        return longs != null ? Arrays.toString(longs) : Arrays.toString(doubles);
+    }
+}
@@ -0,0 +1,61 @@
+package org.ebay.flexiblecalculator.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Enum defining the numeric types used for operand type promotion.
+ * Declaration order is the promotion order: INT < LONG < FLOAT < DOUBLE
+ */
+@Schema(description = "Numeric type of an operand or result")
+public enum NumericType {
+    @Schema(description = "32-bit integer")
+    INT,
+
+    @Schema(description = "64-bit integer")
+    LONG,
+
+    @Schema(description = "32-bit floating point")
+    FLOAT,
+
+    @Schema(description = "64-bit floating point")
+    DOUBLE;
+
+    /**
+     * Resolve the numeric type of a boxed value
+     *
+     * @param value the value to inspect
+     * @return the numeric type, or null if the value is not an Integer, Long, Float or Double
+     */
+    public static NumericType of(Number value) {
+        if (value instanceof Integer) {
+            return INT;
+        } else if (value instanceof Long) {
+            return LONG;
+        } else if (value instanceof Float) {
+            return FLOAT;
+        } else if (value instanceof Double) {
+            return DOUBLE;
+        }
+        return null;
+    }
+
+    /**
+     * Get the wider of two numeric types
+     *
+     * @param type1 first type
+     * @param type2 second type
+     * @return the promoted type
+     */
+    public static NumericType promote(NumericType type1, NumericType type2) {
+        return type1.ordinal() >= type2.ordinal() ? type1 : type2;
+    }
+
+    /**
+     * Check if this type is an integer type
+     *
+     * @return true for INT and LONG
+     */
+    public boolean isIntegral() {
+        return this == INT || this == LONG;
+    }
+}
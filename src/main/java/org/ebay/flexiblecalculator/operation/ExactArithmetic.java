@@ -0,0 +1,81 @@
+package org.ebay.flexiblecalculator.operation;
+
+import org.ebay.flexiblecalculator.exception.CalculationException;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Helpers for the arbitrary-precision tier of the arithmetic strategies.
+ * <p>
+ * Integer arithmetic is exact: an int result that does not fit an int is returned as a Long, and a long result
+ * that does not fit a long as a BigInteger. BigInteger and BigDecimal operands are computed in their own type;
+ * a BigDecimal operand makes the whole operation decimal, rounded to the strategy's MathContext.
+ * Float and Double stay IEEE 754, with any BigInteger operand converted to double.
+ */
+public final class ExactArithmetic {
+
+    private ExactArithmetic() {
+    }
+
+    /**
+     * Box the exact result of an int operation, as an Integer if it fits and a Long otherwise
+     */
+    public static Number intOrLong(long value) {
+        return (int) value == value ? (Number) (int) value : (Number) value;
+    }
+
+    public static boolean isIntOrLong(Number value) {
+        return value instanceof Integer || value instanceof Long;
+    }
+
+    public static boolean isBigDecimal(Number num1, Number num2) {
+        return num1 instanceof BigDecimal || num2 instanceof BigDecimal;
+    }
+
+    public static boolean isBigInteger(Number num1, Number num2) {
+        return num1 instanceof BigInteger || num2 instanceof BigInteger;
+    }
+
+    /**
+     * Check if a value is zero, without losing tiny BigDecimal values to a double conversion
+     */
+    public static boolean isZero(Number value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal.signum() == 0;
+        } else if (value instanceof BigInteger integer) {
+            return integer.signum() == 0;
+        }
+        return value.doubleValue() == 0;
+    }
+
+    public static BigInteger toBigInteger(Number value) {
+        if (value instanceof BigInteger integer) {
+            return integer;
+        } else if (value instanceof BigDecimal decimal) {
+            return decimal.toBigInteger();
+        }
+        return BigInteger.valueOf(value.longValue());
+    }
+
+    /**
+     * Convert an operand to BigDecimal; floating point values keep their shortest decimal form
+     *
+     * @throws CalculationException if the value is NaN or infinite
+     */
+    public static BigDecimal toBigDecimal(Number value) {
+        if (value instanceof BigDecimal decimal) {
+            return decimal;
+        } else if (value instanceof BigInteger integer) {
+            return new BigDecimal(integer);
+        } else if (value instanceof Double || value instanceof Float) {
+            double doubleValue = value.doubleValue();
+            if (!Double.isFinite(doubleValue)) {
+                throw new CalculationException("Cannot combine " + value + " with a decimal value");
+            }
+            // Float.toString keeps 2.1f as 2.1 rather than its binary expansion
+            return value instanceof Float ? new BigDecimal(value.toString()) : BigDecimal.valueOf(doubleValue);
+        }
+        return BigDecimal.valueOf(value.longValue());
+    }
+}
@@ -0,0 +1,177 @@
+package org.ebay.flexiblecalculator.operation;
+
+import org.ebay.flexiblecalculator.model.NumericType;
+
+/**
+ * Mutable primitive holder for an operand or running result.
+ * Keeps the value unboxed together with its numeric type so strategies can compute
+ * without allocating intermediate Integer/Long/Float/Double objects.
+ * Values of any other Number type are kept boxed and evaluated through the boxed strategy path.
+ * Not thread-safe: an accumulator belongs to a single calculation.
+ */
+public final class NumericAccumulator {
+
+    private NumericType type;
+    private long longValue;
+    private double doubleValue;
+    private Number boxedValue;
+
+    /**
+     * Create an accumulator holding the given value
+     *
+     * @param value the initial value
+     * @return new accumulator
+     */
+    public static NumericAccumulator of(Number value) {
+        return new NumericAccumulator().set(value);
+    }
+
+    /**
+     * Load a boxed value
+     *
+     * @param value the value to load
+     * @return this instance for chaining
+     */
+    public NumericAccumulator set(Number value) {
+        if (value instanceof Integer) {
+            return setInt(value.intValue());
+        } else if (value instanceof Long) {
+            return setLong(value.longValue());
+        } else if (value instanceof Float) {
+            return setFloat(value.floatValue());
+        } else if (value instanceof Double) {
+            return setDouble(value.doubleValue());
+        }
+        this.type = null;
+        this.boxedValue = value;
+        return this;
+    }
+
+    public NumericAccumulator setInt(int value) {
+        this.type = NumericType.INT;
+        this.longValue = value;
+        this.boxedValue = null;
+        return this;
+    }
+
+    public NumericAccumulator setLong(long value) {
+        this.type = NumericType.LONG;
+        this.longValue = value;
+        this.boxedValue = null;
+        return this;
+    }
+
+    public NumericAccumulator setFloat(float value) {
+        this.type = NumericType.FLOAT;
+        this.doubleValue = value;
+        this.boxedValue = null;
+        return this;
+    }
+
+    public NumericAccumulator setDouble(double value) {
+        this.type = NumericType.DOUBLE;
+        this.doubleValue = value;
+        this.boxedValue = null;
+        return this;
+    }
+
+    /**
+     * Get the numeric type of the held value
+     *
+     * @return the numeric type, or null if the value is held boxed
+     */
+    public NumericType type() {
+        return type;
+    }
+
+    /**
+     * Check if the value is held as a primitive
+     *
+     * @return true for Integer, Long, Float and Double values
+     */
+    public boolean isPrimitive() {
+        return type != null;
+    }
+
+    public long longValue() {
+        if (type == null) {
+            return boxedValue.longValue();
+        }
+        return type.isIntegral() ? longValue : (long) doubleValue;
+    }
+
+    public float floatValue() {
+        if (type == null) {
+            return boxedValue.floatValue();
+        }
+        return type.isIntegral() ? (float) longValue : (float) doubleValue;
+    }
+
+    public double doubleValue() {
+        if (type == null) {
+            return boxedValue.doubleValue();
+        }
+        return type.isIntegral() ? (double) longValue : doubleValue;
+    }
+
+    /**
+     * Combine this value with an operand in place, using the Integer/Long/Float/Double
+     * promotion shared by the arithmetic strategies. Int results that overflow an int become longs;
+     * long results that overflow a long are recomputed on the boxed path, which promotes them to BigInteger.
+     *
+     * @param strategy the strategy providing the primitive arithmetic
+     * @param operand the right-hand operand
+     */
+    public void combine(OperationStrategy strategy, NumericAccumulator operand) {
+        if (type == null || operand.type == null) {
+            set(strategy.execute(toNumber(), operand.toNumber()));
+            return;
+        }
+
+        switch (NumericType.promote(type, operand.type)) {
+            case INT -> {
+                long result = strategy.executeLong(longValue, operand.longValue);
+                if ((int) result == result) {
+                    setInt((int) result);
+                } else {
+                    setLong(result);
+                }
+            }
+            case LONG -> {
+                try {
+                    setLong(strategy.executeLong(longValue, operand.longValue));
+                } catch (ArithmeticException e) {
+                    // Overflowed a long; the boxed path promotes to BigInteger
+                    set(strategy.execute(toNumber(), operand.toNumber()));
+                }
+            }
+            case FLOAT -> setFloat((float) strategy.executeDouble(floatValue(), operand.floatValue()));
+            case DOUBLE -> setDouble(strategy.executeDouble(doubleValue(), operand.doubleValue()));
+        }
+    }
+
+    /**
+     * Box the held value. This is the only allocation on the primitive path.
+     *
+     * @return the value as Integer, Long, Float or Double, or the original boxed value
+     */
+    public Number toNumber() {
+        if (type == null) {
+            return boxedValue;
+        }
+        return switch (type) {
+            case INT -> (int) longValue;
+            case LONG -> longValue;
+            case FLOAT -> (float) doubleValue;
+            case DOUBLE -> doubleValue;
+        };
+    }
+
+    @Override
+    public String toString() {
+        if (type == null) {
+            return String.valueOf(boxedValue);
+        }
+        return type.isIntegral() ? Long.toString(longValue) : Double.toString(doubleValue);
+    }
+}
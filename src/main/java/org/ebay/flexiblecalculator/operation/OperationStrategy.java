@@ -1,5 +1,7 @@
 package org.ebay.flexiblecalculator.operation;
 
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
 import org.ebay.flexiblecalculator.model.Operation;
 
 /**
@@ -15,10 +17,92 @@ public interface OperationStrategy {
      */
     Number execute(Number num1, Number num2);
 
+    /**
+     * Execute calculation operation, returning an error as a result rather than throwing it.
+     * The default implementation converts a {@link CalculationException} from {@link #execute(Number, Number)}.
+     *
+     * @param num1 first operand
+     * @param num2 second operand
+     * @return the calculation result or error
+     */
+    default CalculationResult evaluate(Number num1, Number num2) {
+        try {
+            return CalculationResult.success(execute(num1, num2));
+        } catch (CalculationException e) {
+            return CalculationResult.error(e.getMessage());
+        }
+    }
+
     /**
      * Get the operation type supported by this strategy
      *
      * @return operation type
      */
     Operation getSupportedOperation();
+
+    /**
+     * Execute calculation operation on two integer operands without boxing.
+     * The default implementation falls back to {@link #execute(Number, Number)}.
+     *
+     * @param num1 first operand
+     * @param num2 second operand
+     * @return calculation result
+     * @throws ArithmeticException if the result does not fit a long
+     */
+    default long executeLong(long num1, long num2) {
+        return execute(num1, num2).longValue();
+    }
+
+    /**
+     * Execute calculation operation on two floating point operands without boxing.
+     * The default implementation falls back to {@link #execute(Number, Number)}.
+     *
+     * @param num1 first operand
+     * @param num2 second operand
+     * @return calculation result
+     */
+    default double executeDouble(double num1, double num2) {
+        return execute(num1, num2).doubleValue();
+    }
+
+    /**
+     * Execute calculation operation in place, promoting mixed operand types the same way
+     * as {@link #execute(Number, Number)}. The accumulator receives the result.
+     * The default implementation falls back to {@link #execute(Number, Number)}.
+     *
+     * @param accumulator first operand, replaced by the result
+     * @param operand second operand
+     */
+    default void executeInPlace(NumericAccumulator accumulator, NumericAccumulator operand) {
+        accumulator.set(execute(accumulator.toNumber(), operand.toNumber()));
+    }
+
+    /**
+     * Execute calculation operation in place, returning an error as a result rather than throwing it.
+     * The default implementation converts a {@link CalculationException} from
+     * {@link #executeInPlace(NumericAccumulator, NumericAccumulator)}.
+     *
+     * @param accumulator first operand, replaced by the result on success
+     * @param operand second operand
+     * @return {@link CalculationResult#inPlace()} or the error
+     */
+    default CalculationResult evaluateInPlace(NumericAccumulator accumulator, NumericAccumulator operand) {
+        try {
+            executeInPlace(accumulator, operand);
+            return CalculationResult.inPlace();
+        } catch (CalculationException e) {
+            return CalculationResult.error(e.getMessage());
+        }
+    }
+
+    /**
+     * Execute calculation operation in place on an exact fraction, for chains in the EXACT division mode.
+     * The default implementation rejects the operation, as a fraction has no boxed fallback.
+     *
+     * @param accumulator first operand, replaced by the result
+     * @param operand second operand, an Integer, Long or BigInteger
+     */
+    default void executeExact(RationalAccumulator accumulator, NumericAccumulator operand) {
+        throw new CalculationException("Operation " + getSupportedOperation() + " does not support exact division mode");
+    }
 }
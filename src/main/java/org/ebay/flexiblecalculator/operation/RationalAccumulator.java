@@ -0,0 +1,328 @@
+package org.ebay.flexiblecalculator.operation;
+
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.NumericType;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+/**
+ * Mutable exact fraction for evaluating a chain in the EXACT division mode.
+ * <p>
+ * The numerator and denominator are primitive longs, with the denominator kept positive. The fraction is not
+ * reduced after every step: a step that overflows first reduces it with a binary GCD and retries, and only
+ * spills to BigInteger if it still overflows. A BigInteger fraction is reduced whenever its denominator has
+ * doubled in length, and goes back to longs once it fits again.
+ * Operands must be integers: Integer, Long or BigInteger.
+ * Not thread-safe: an accumulator belongs to a single calculation.
+ */
+public final class RationalAccumulator {
+
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private long numerator;
+    private long denominator = 1;
+    private BigInteger bigNumerator;
+    private BigInteger bigDenominator;
+    private int reducedBits;
+    private boolean longOperands;
+    private boolean bigIntegerOperands;
+
+    /**
+     * Check if a value can be held exactly
+     *
+     * @return true for Integer, Long and BigInteger values
+     */
+    public static boolean accepts(Number value) {
+        return value instanceof Integer || value instanceof Long || value instanceof BigInteger;
+    }
+
+    /**
+     * Check if an operand can be applied exactly
+     *
+     * @return true for Integer, Long and BigInteger values
+     */
+    public static boolean accepts(NumericAccumulator operand) {
+        return operand.isPrimitive() ? operand.type().isIntegral() : operand.toNumber() instanceof BigInteger;
+    }
+
+    /**
+     * Load a whole value, which also sets the type whole results are returned in
+     *
+     * @param value an Integer, Long or BigInteger
+     * @return this instance for chaining
+     */
+    public RationalAccumulator set(Number value) {
+        longOperands = false;
+        bigIntegerOperands = false;
+        bigNumerator = null;
+        bigDenominator = null;
+        denominator = 1;
+        if (value instanceof BigInteger integer) {
+            bigIntegerOperands = true;
+            bigNumerator = integer;
+            bigDenominator = BigInteger.ONE;
+            reducedBits = 32;
+        } else {
+            longOperands = value instanceof Long;
+            numerator = value.longValue();
+        }
+        return this;
+    }
+
+    public void add(NumericAccumulator operand) {
+        addScaled(operand, false);
+    }
+
+    public void subtract(NumericAccumulator operand) {
+        addScaled(operand, true);
+    }
+
+    public void multiply(NumericAccumulator operand) {
+        if (recordOperand(operand) && bigNumerator == null) {
+            long value = operand.longValue();
+            if (tryMultiply(value, 1)) {
+                return;
+            }
+            reduce();
+            // Cancel the operand against the denominator before multiplying
+            long common = gcd(magnitude(value), denominator);
+            if (tryMultiply(value / common, common)) {
+                return;
+            }
+        }
+        spill();
+        bigNumerator = bigNumerator.multiply(bigOperand(operand));
+        reduceBig(false);
+    }
+
+    public void divide(NumericAccumulator operand) {
+        if (recordOperand(operand) ? operand.longValue() == 0 : bigOperand(operand).signum() == 0) {
+            throw new CalculationException("Division by zero is not allowed");
+        }
+        if (recordOperand(operand) && bigNumerator == null) {
+            long value = operand.longValue();
+            if (tryDivide(value, 1)) {
+                return;
+            }
+            reduce();
+            // Cancel the operand against the numerator before multiplying it into the denominator
+            long common = gcd(magnitude(value), magnitude(numerator));
+            if (tryDivide(value / common, common)) {
+                return;
+            }
+        }
+        spill();
+        BigInteger divisor = bigOperand(operand);
+        if (divisor.signum() < 0) {
+            bigNumerator = bigNumerator.negate();
+            divisor = divisor.negate();
+        }
+        bigDenominator = bigDenominator.multiply(divisor);
+        reduceBig(false);
+    }
+
+    /**
+     * Convert the fraction to a number, the only point where it is rounded.
+     * Whole values are returned as Integer, Long or BigInteger, no narrower than the widest operand, and
+     * other values as the nearest Double, or a BigDecimal rounded to {@link MathContext#DECIMAL128}
+     * if an operand was a BigInteger.
+     *
+     * @return the value of the fraction
+     */
+    public Number toNumber() {
+        if (bigNumerator != null) {
+            reduceBig(true);
+        } else {
+            reduce();
+        }
+
+        if (bigNumerator == null) {
+            if (denominator == 1) {
+                if (bigIntegerOperands) {
+                    return BigInteger.valueOf(numerator);
+                }
+                return !longOperands && (int) numerator == numerator ? (Number) (int) numerator : (Number) numerator;
+            }
+            if (bigIntegerOperands) {
+                return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), MathContext.DECIMAL128);
+            }
+            if (-MAX_EXACT_DOUBLE <= numerator && numerator <= MAX_EXACT_DOUBLE && denominator <= MAX_EXACT_DOUBLE) {
+                // Both are exact doubles, so the quotient is correctly rounded
+                return (double) numerator / denominator;
+            }
+            return BigDecimal.valueOf(numerator).divide(BigDecimal.valueOf(denominator), MathContext.DECIMAL128)
+                    .doubleValue();
+        }
+
+        if (bigDenominator.equals(BigInteger.ONE)) {
+            return bigNumerator;
+        }
+        BigDecimal quotient = new BigDecimal(bigNumerator).divide(new BigDecimal(bigDenominator), MathContext.DECIMAL128);
+        return bigIntegerOperands ? quotient : quotient.doubleValue();
+    }
+
+    @Override
+    public String toString() {
+        return bigNumerator != null ? bigNumerator + "/" + bigDenominator : numerator + "/" + denominator;
+    }
+
+    private void addScaled(NumericAccumulator operand, boolean subtract) {
+        if (recordOperand(operand) && bigNumerator == null) {
+            long value = operand.longValue();
+            if (tryAddScaled(value, subtract) || (reduce() && tryAddScaled(value, subtract))) {
+                return;
+            }
+        }
+        spill();
+        BigInteger scaled = bigOperand(operand).multiply(bigDenominator);
+        bigNumerator = subtract ? bigNumerator.subtract(scaled) : bigNumerator.add(scaled);
+    }
+
+    /*
+     * Overflow is tested on the results rather than caught from Math.*Exact: with lazy reduction it is
+     * an ordinary event, and a thrown exception would cost more than the arithmetic.
+     */
+
+    private boolean tryAddScaled(long value, boolean subtract) {
+        long scaled = value * denominator;
+        if (Math.multiplyHigh(value, denominator) != (scaled >> 63)) {
+            return false;
+        }
+        long result = subtract ? numerator - scaled : numerator + scaled;
+        boolean overflow = subtract
+                ? ((numerator ^ scaled) & (numerator ^ result)) < 0
+                : ((numerator ^ result) & (scaled ^ result)) < 0;
+        if (overflow) {
+            return false;
+        }
+        numerator = result;
+        return true;
+    }
+
+    /**
+     * Multiply by value / common, where common divides the denominator
+     */
+    private boolean tryMultiply(long value, long common) {
+        long result = numerator * value;
+        if (Math.multiplyHigh(numerator, value) != (result >> 63)) {
+            return false;
+        }
+        numerator = result;
+        denominator /= common;
+        return true;
+    }
+
+    /**
+     * Divide by value / common, where common divides the numerator
+     */
+    private boolean tryDivide(long value, long common) {
+        long reducedNumerator = numerator / common;
+        if (value == Long.MIN_VALUE || (value < 0 && reducedNumerator == Long.MIN_VALUE)) {
+            return false;
+        }
+        long divisor = Math.abs(value);
+        long result = denominator * divisor;
+        if (Math.multiplyHigh(denominator, divisor) != 0 || result < 0) {
+            return false;
+        }
+        numerator = value < 0 ? -reducedNumerator : reducedNumerator;
+        denominator = result;
+        return true;
+    }
+
+    /**
+     * Reduce the long fraction to lowest terms
+     *
+     * @return true if the fraction changed
+     */
+    private boolean reduce() {
+        long common = gcd(magnitude(numerator), denominator);
+        if (common == 1) {
+            return false;
+        }
+        numerator /= common;
+        denominator /= common;
+        return true;
+    }
+
+    /**
+     * Reduce the BigInteger fraction if forced or its denominator has doubled in length since the last
+     * reduction, moving back to longs if both parts fit
+     */
+    private void reduceBig(boolean force) {
+        if (!force && bigDenominator.bitLength() <= 2 * reducedBits) {
+            return;
+        }
+        BigInteger common = bigNumerator.gcd(bigDenominator);
+        if (!common.equals(BigInteger.ONE)) {
+            bigNumerator = bigNumerator.divide(common);
+            bigDenominator = bigDenominator.divide(common);
+        }
+        reducedBits = Math.max(bigDenominator.bitLength(), 32);
+        if (bigNumerator.bitLength() < Long.SIZE && bigDenominator.bitLength() < Long.SIZE) {
+            numerator = bigNumerator.longValue();
+            denominator = bigDenominator.longValue();
+            bigNumerator = null;
+            bigDenominator = null;
+        }
+    }
+
+    private void spill() {
+        if (bigNumerator == null) {
+            bigNumerator = BigInteger.valueOf(numerator);
+            bigDenominator = BigInteger.valueOf(denominator);
+            reducedBits = Math.max(bigDenominator.bitLength(), 32);
+        }
+    }
+
+    /**
+     * Record the operand's type for the type of whole results
+     *
+     * @return true if the operand is an Integer or Long, false for a BigInteger
+     */
+    private boolean recordOperand(NumericAccumulator operand) {
+        if (operand.isPrimitive()) {
+            longOperands |= operand.type() == NumericType.LONG;
+            return true;
+        }
+        bigIntegerOperands = true;
+        return false;
+    }
+
+    private static BigInteger bigOperand(NumericAccumulator operand) {
+        return operand.isPrimitive() ? BigInteger.valueOf(operand.longValue()) : (BigInteger) operand.toNumber();
+    }
+
+    /**
+     * Absolute value as an unsigned long, so Long.MIN_VALUE is 2^63
+     */
+    private static long magnitude(long value) {
+        return value < 0 ? -value : value;
+    }
+
+    /**
+     * Binary GCD of two magnitudes read as unsigned longs, at least one of them non-zero
+     */
+    static long gcd(long a, long b) {
+        if (a == 0) {
+            return b;
+        }
+        if (b == 0) {
+            return a;
+        }
+        int shift = Long.numberOfTrailingZeros(a | b);
+        a >>>= Long.numberOfTrailingZeros(a);
+        do {
+            b >>>= Long.numberOfTrailingZeros(b);
+            if (Long.compareUnsigned(a, b) > 0) {
+                long swap = a;
+                a = b;
+                b = swap;
+            }
+            b -= a;
+        } while (b != 0);
+        return a << shift;
+    }
+}
@@ -0,0 +1,36 @@
+package org.ebay.flexiblecalculator.operation.columnar;
+
+import org.ebay.flexiblecalculator.model.Operation;
+
+/**
+ * Evaluates one operation over whole operand columns, lane by lane, with the results of the built-in
+ * strategies for Long and Double operands.
+ * <p>
+ * A lane that the strategy would reject or promote past the column type fails instead: it is flagged
+ * in {@code failed} and its result is 0. Callers pass a {@code failed} array of all false values;
+ * lanes that succeed are left false. All arrays have the same length.
+ */
+public interface ColumnarKernel {
+
+    /**
+     * Add, subtract or multiply long columns. Lanes whose exact result does not fit a long fail.
+     *
+     * @param operation ADD, SUBTRACT or MULTIPLY
+     * @return the number of failed lanes
+     */
+    int longs(Operation operation, long[] num1, long[] num2, long[] result, boolean[] failed);
+
+    /**
+     * Divide long columns into double quotients. Lanes that divide by zero fail.
+     *
+     * @return the number of failed lanes
+     */
+    int divideLongs(long[] num1, long[] num2, double[] result, boolean[] failed);
+
+    /**
+     * Apply any operation to double columns. Lanes that divide by zero fail.
+     *
+     * @return the number of failed lanes
+     */
+    int doubles(Operation operation, double[] num1, double[] num2, double[] result, boolean[] failed);
+}
@@ -0,0 +1,42 @@
+package org.ebay.flexiblecalculator.operation.columnar;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Chooses the column kernel for the running JVM.
+ * <p>
+ * The Vector API is an incubator module in Java 17 and is only resolved when the JVM is started with
+ * {@code --add-modules jdk.incubator.vector}. Without it, loading {@link VectorColumnarKernel} would fail,
+ * so the kernel is only loaded by name after checking for the module, and the scalar kernel is used otherwise.
+ */
+@Slf4j
+public final class ColumnarKernels {
+
+    private static final String VECTOR_MODULE = "jdk.incubator.vector";
+    private static final String VECTOR_KERNEL = "org.ebay.flexiblecalculator.operation.columnar.VectorColumnarKernel";
+
+    private ColumnarKernels() {
+    }
+
+    /**
+     * @return the Vector API kernel if its module is available, otherwise the scalar kernel
+     */
+    public static ColumnarKernel best() {
+        if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty()) {
+            return scalar();
+        }
+        try {
+            return (ColumnarKernel) Class.forName(VECTOR_KERNEL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            log.warn("Could not load the Vector API column kernel, using the scalar kernel", e);
+            return scalar();
+        }
+    }
+
+    /**
+     * @return the plain loop kernel, available on every JVM
+     */
+    public static ColumnarKernel scalar() {
+        return ScalarColumnarKernel.INSTANCE;
+    }
+}
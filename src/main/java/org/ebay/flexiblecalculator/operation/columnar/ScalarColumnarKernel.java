@@ -0,0 +1,149 @@
+package org.ebay.flexiblecalculator.operation.columnar;
+
+import org.ebay.flexiblecalculator.model.Operation;
+
+/**
+ * Column kernel with one plain loop per operation, used where the Vector API is not available.
+ * The range methods also finish the tail lanes of {@link VectorColumnarKernel}.
+ */
+public final class ScalarColumnarKernel implements ColumnarKernel {
+
+    static final ScalarColumnarKernel INSTANCE = new ScalarColumnarKernel();
+
+    private ScalarColumnarKernel() {
+    }
+
+    @Override
+    public int longs(Operation operation, long[] num1, long[] num2, long[] result, boolean[] failed) {
+        return longs(operation, num1, num2, result, failed, 0, result.length);
+    }
+
+    @Override
+    public int divideLongs(long[] num1, long[] num2, double[] result, boolean[] failed) {
+        return divideLongs(num1, num2, result, failed, 0, result.length);
+    }
+
+    @Override
+    public int doubles(Operation operation, double[] num1, double[] num2, double[] result, boolean[] failed) {
+        return doubles(operation, num1, num2, result, failed, 0, result.length);
+    }
+
+    @Override
+    public String toString() {
+        return "scalar";
+    }
+
+    static int longs(Operation operation, long[] num1, long[] num2, long[] result, boolean[] failed,
+                     int from, int to) {
+        return switch (operation) {
+            case ADD -> addLongs(num1, num2, result, failed, from, to);
+            case SUBTRACT -> subtractLongs(num1, num2, result, failed, from, to);
+            case MULTIPLY -> multiplyLongs(num1, num2, result, failed, from, to);
+            case DIVIDE -> throw new IllegalArgumentException("Long quotients are doubles, use divideLongs");
+        };
+    }
+
+    /*
+     * Overflow is tested on the results, as in RationalAccumulator, so the loops do not throw
+     */
+
+    private static int addLongs(long[] num1, long[] num2, long[] result, boolean[] failed, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            long a = num1[i];
+            long b = num2[i];
+            long sum = a + b;
+            if (((a ^ sum) & (b ^ sum)) < 0) {
+                failed[i] = true;
+                failures++;
+                sum = 0;
+            }
+            result[i] = sum;
+        }
+        return failures;
+    }
+
+    private static int subtractLongs(long[] num1, long[] num2, long[] result, boolean[] failed, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            long a = num1[i];
+            long b = num2[i];
+            long difference = a - b;
+            if (((a ^ b) & (a ^ difference)) < 0) {
+                failed[i] = true;
+                failures++;
+                difference = 0;
+            }
+            result[i] = difference;
+        }
+        return failures;
+    }
+
+    private static int multiplyLongs(long[] num1, long[] num2, long[] result, boolean[] failed, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            long a = num1[i];
+            long b = num2[i];
+            long product = a * b;
+            if (Math.multiplyHigh(a, b) != (product >> 63)) {
+                failed[i] = true;
+                failures++;
+                product = 0;
+            }
+            result[i] = product;
+        }
+        return failures;
+    }
+
+    static int divideLongs(long[] num1, long[] num2, double[] result, boolean[] failed, int from, int to) {
+        int failures = 0;
+        for (int i = from; i < to; i++) {
+            long b = num2[i];
+            if (b == 0) {
+                failed[i] = true;
+                failures++;
+                result[i] = 0;
+            } else {
+                // Adding 0.0 turns -0.0 into 0.0, as DivideOperation returns whole quotients through a long
+                result[i] = (double) num1[i] / (double) b + 0.0;
+            }
+        }
+        return failures;
+    }
+
+    static int doubles(Operation operation, double[] num1, double[] num2, double[] result, boolean[] failed,
+                       int from, int to) {
+        switch (operation) {
+            case ADD -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = num1[i] + num2[i];
+                }
+            }
+            case SUBTRACT -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = num1[i] - num2[i];
+                }
+            }
+            case MULTIPLY -> {
+                for (int i = from; i < to; i++) {
+                    result[i] = num1[i] * num2[i];
+                }
+            }
+            case DIVIDE -> {
+                int failures = 0;
+                for (int i = from; i < to; i++) {
+                    double b = num2[i];
+                    if (b == 0) {
+                        failed[i] = true;
+                        failures++;
+                        result[i] = 0;
+                    } else {
+                        result[i] = num1[i] / b;
+                    }
+                }
+                return failures;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,150 @@
+package org.ebay.flexiblecalculator.operation.columnar;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import org.ebay.flexiblecalculator.model.Operation;
+
+/**
+ * Column kernel on the incubating JDK Vector API, processing as many lanes per instruction as the
+ * preferred species of the CPU holds. Overflow and division by zero are detected with lane masks,
+ * which also zero the failed lanes; the tail shorter than one vector runs through {@link ScalarColumnarKernel}.
+ * <p>
+ * Only loaded by {@link ColumnarKernels} when the JVM was started with
+ * {@code --add-modules jdk.incubator.vector}; no other class may refer to it.
+ */
+final class VectorColumnarKernel implements ColumnarKernel {
+
+    private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int longs(Operation operation, long[] num1, long[] num2, long[] result, boolean[] failed) {
+        int bound = LONGS.loopBound(result.length);
+        int failures = switch (operation) {
+            case ADD -> addLongs(num1, num2, result, failed, bound);
+            case SUBTRACT -> subtractLongs(num1, num2, result, failed, bound);
+            case MULTIPLY -> multiplyLongs(num1, num2, result, failed, bound);
+            case DIVIDE -> throw new IllegalArgumentException("Long quotients are doubles, use divideLongs");
+        };
+        return failures + ScalarColumnarKernel.longs(operation, num1, num2, result, failed, bound, result.length);
+    }
+
+    @Override
+    public int divideLongs(long[] num1, long[] num2, double[] result, boolean[] failed) {
+        int failures = 0;
+        int bound = LONGS.loopBound(result.length);
+        for (int i = 0; i < bound; i += LONGS.length()) {
+            LongVector a = LongVector.fromArray(LONGS, num1, i);
+            LongVector b = LongVector.fromArray(LONGS, num2, i);
+            VectorMask<Long> zero = b.compare(VectorOperators.EQ, 0);
+            DoubleVector quotient = ((DoubleVector) a.convert(VectorOperators.L2D, 0))
+                    .div((DoubleVector) b.convert(VectorOperators.L2D, 0))
+                    .add(0.0);
+            quotient.blend(0, zero.cast(DOUBLES)).intoArray(result, i);
+            failures += record(zero, failed, i);
+        }
+        return failures + ScalarColumnarKernel.divideLongs(num1, num2, result, failed, bound, result.length);
+    }
+
+    @Override
+    public int doubles(Operation operation, double[] num1, double[] num2, double[] result, boolean[] failed) {
+        int failures = 0;
+        int bound = DOUBLES.loopBound(result.length);
+        for (int i = 0; i < bound; i += DOUBLES.length()) {
+            DoubleVector a = DoubleVector.fromArray(DOUBLES, num1, i);
+            DoubleVector b = DoubleVector.fromArray(DOUBLES, num2, i);
+            switch (operation) {
+                case ADD -> a.add(b).intoArray(result, i);
+                case SUBTRACT -> a.sub(b).intoArray(result, i);
+                case MULTIPLY -> a.mul(b).intoArray(result, i);
+                case DIVIDE -> {
+                    // Compares numerically, so -0.0 is a zero divisor as in DivideOperation
+                    VectorMask<Double> zero = b.compare(VectorOperators.EQ, 0);
+                    a.div(b).blend(0, zero).intoArray(result, i);
+                    failures += record(zero, failed, i);
+                }
+            }
+        }
+        return failures + ScalarColumnarKernel.doubles(operation, num1, num2, result, failed, bound, result.length);
+    }
+
+    @Override
+    public String toString() {
+        return "vector " + LONGS.vectorBitSize() + "-bit";
+    }
+
+    private static int addLongs(long[] num1, long[] num2, long[] result, boolean[] failed, int bound) {
+        int failures = 0;
+        for (int i = 0; i < bound; i += LONGS.length()) {
+            LongVector a = LongVector.fromArray(LONGS, num1, i);
+            LongVector b = LongVector.fromArray(LONGS, num2, i);
+            LongVector sum = a.add(b);
+            // Overflowed if the sum's sign differs from both operands' signs
+            VectorMask<Long> overflow = a.lanewise(VectorOperators.XOR, sum)
+                    .and(b.lanewise(VectorOperators.XOR, sum))
+                    .compare(VectorOperators.LT, 0);
+            sum.blend(0, overflow).intoArray(result, i);
+            failures += record(overflow, failed, i);
+        }
+        return failures;
+    }
+
+    private static int subtractLongs(long[] num1, long[] num2, long[] result, boolean[] failed, int bound) {
+        int failures = 0;
+        for (int i = 0; i < bound; i += LONGS.length()) {
+            LongVector a = LongVector.fromArray(LONGS, num1, i);
+            LongVector b = LongVector.fromArray(LONGS, num2, i);
+            LongVector difference = a.sub(b);
+            // Overflowed if the operands' signs differ and the difference's sign differs from the minuend's
+            VectorMask<Long> overflow = a.lanewise(VectorOperators.XOR, b)
+                    .and(a.lanewise(VectorOperators.XOR, difference))
+                    .compare(VectorOperators.LT, 0);
+            difference.blend(0, overflow).intoArray(result, i);
+            failures += record(overflow, failed, i);
+        }
+        return failures;
+    }
+
+    /**
+     * The Vector API has no high multiply, so only lanes where both operands fit an int, whose
+     * product always fits a long, are decided in the vector; the others are checked one by one
+     */
+    private static int multiplyLongs(long[] num1, long[] num2, long[] result, boolean[] failed, int bound) {
+        int failures = 0;
+        for (int i = 0; i < bound; i += LONGS.length()) {
+            LongVector a = LongVector.fromArray(LONGS, num1, i);
+            LongVector b = LongVector.fromArray(LONGS, num2, i);
+            a.mul(b).intoArray(result, i);
+            VectorMask<Long> small = fitsInt(a).and(fitsInt(b));
+            if (!small.allTrue()) {
+                for (int lane = 0; lane < LONGS.length(); lane++) {
+                    int index = i + lane;
+                    if (!small.laneIsSet(lane)
+                            && Math.multiplyHigh(num1[index], num2[index]) != (result[index] >> 63)) {
+                        failed[index] = true;
+                        failures++;
+                        result[index] = 0;
+                    }
+                }
+            }
+        }
+        return failures;
+    }
+
+    private static VectorMask<Long> fitsInt(LongVector value) {
+        return value.lanewise(VectorOperators.LSHL, 32)
+                .lanewise(VectorOperators.ASHR, 32)
+                .compare(VectorOperators.EQ, value);
+    }
+
+    private static <E> int record(VectorMask<E> failedLanes, boolean[] failed, int offset) {
+        if (!failedLanes.anyTrue()) {
+            return 0;
+        }
+        failedLanes.intoArray(failed, offset);
+        return failedLanes.trueCount();
+    }
+}
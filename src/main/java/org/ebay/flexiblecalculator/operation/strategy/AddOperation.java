@@ -1,30 +1,91 @@
 package org.ebay.flexiblecalculator.operation.strategy;
 
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
 import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.math.MathContext;
+
+import static org.ebay.flexiblecalculator.operation.ExactArithmetic.*;
+
 /**
- * Implementation of addition operation strategy
+ * Implementation of addition operation strategy.
+ * Integer results are exact, promoted to Long or BigInteger on overflow; see
+ * {@link org.ebay.flexiblecalculator.operation.ExactArithmetic}.
  */
 @Component
 public class AddOperation implements OperationStrategy {
 
+    private final MathContext mathContext;
+
+    public AddOperation() {
+        this(MathContext.DECIMAL128);
+    }
+
+    /**
+     * @param mathContext precision and rounding of BigDecimal results
+     */
+    @Autowired
+    public AddOperation(MathContext mathContext) {
+        this.mathContext = mathContext;
+    }
+
     @Override
     public Number execute(Number num1, Number num2) {
-        if (num1 instanceof Double || num2 instanceof Double) {
+        // Small integers are by far the most common operands, so they are checked first
+        if (num1 instanceof Integer && num2 instanceof Integer) {
+            return intOrLong((long) num1.intValue() + num2.intValue());
+        } else if (isIntOrLong(num1) && isIntOrLong(num2)) {
+            try {
+                return Math.addExact(num1.longValue(), num2.longValue());
+            } catch (ArithmeticException e) {
+                return toBigInteger(num1).add(toBigInteger(num2));
+            }
+        } else if (isBigDecimal(num1, num2)) {
+            return toBigDecimal(num1).add(toBigDecimal(num2), mathContext);
+        } else if (num1 instanceof Double || num2 instanceof Double) {
             return num1.doubleValue() + num2.doubleValue();
         } else if (num1 instanceof Float || num2 instanceof Float) {
             return num1.floatValue() + num2.floatValue();
+        } else if (isBigInteger(num1, num2)) {
+            return toBigInteger(num1).add(toBigInteger(num2));
         } else if (num1 instanceof Long || num2 instanceof Long) {
-            return num1.longValue() + num2.longValue();
+            try {
+                return Math.addExact(num1.longValue(), num2.longValue());
+            } catch (ArithmeticException e) {
+                return toBigInteger(num1).add(toBigInteger(num2));
+            }
         } else {
-            return num1.intValue() + num2.intValue();
+            // The sum of two ints always fits a long
+            return intOrLong((long) num1.intValue() + num2.intValue());
         }
     }
 
+    @Override
+    public long executeLong(long num1, long num2) {
+        return Math.addExact(num1, num2);
+    }
+
+    @Override
+    public double executeDouble(double num1, double num2) {
+        return num1 + num2;
+    }
+
+    @Override
+    public void executeInPlace(NumericAccumulator accumulator, NumericAccumulator operand) {
+        accumulator.combine(this, operand);
+    }
+
+    @Override
+    public void executeExact(RationalAccumulator accumulator, NumericAccumulator operand) {
+        accumulator.add(operand);
+    }
+
     @Override
     public Operation getSupportedOperation() {
         return Operation.ADD;
     }
-}
\ No newline at end of file
+}
@@ -2,21 +2,60 @@ package org.ebay.flexiblecalculator.operation.strategy;
 
 
 import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.NumericType;
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
 import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import static org.ebay.flexiblecalculator.operation.ExactArithmetic.*;
+
 /**
  * Implementation of division operation strategy
  */
 @Component
 public class DivideOperation implements OperationStrategy {
 
+    private static final String DIVISION_BY_ZERO_MESSAGE = "Division by zero is not allowed";
+    private static final CalculationResult DIVISION_BY_ZERO = CalculationResult.error(DIVISION_BY_ZERO_MESSAGE);
+
+    private final MathContext mathContext;
+
+    public DivideOperation() {
+        this(MathContext.DECIMAL128);
+    }
+
+    /**
+     * @param mathContext precision and rounding of BigDecimal quotients
+     */
+    @Autowired
+    public DivideOperation(MathContext mathContext) {
+        this.mathContext = mathContext;
+    }
+
     @Override
     public Number execute(Number num1, Number num2) {
         // Check for division by zero
-        if (num2.doubleValue() == 0) {
-            throw new CalculationException("Division by zero is not allowed");
+        if (isZero(num2)) {
+            throw new CalculationException(DIVISION_BY_ZERO_MESSAGE);
+        }
+
+        if (isBigDecimal(num1, num2)) {
+            return toBigDecimal(num1).divide(toBigDecimal(num2), mathContext);
+        }
+        if (isBigInteger(num1, num2) && !(num1 instanceof Double || num2 instanceof Double
+                || num1 instanceof Float || num2 instanceof Float)) {
+            // Whole quotients stay integers, like int division; others become decimals
+            BigInteger[] quotientAndRemainder = toBigInteger(num1).divideAndRemainder(toBigInteger(num2));
+            return quotientAndRemainder[1].signum() == 0
+                    ? quotientAndRemainder[0]
+                    : toBigDecimal(num1).divide(toBigDecimal(num2), mathContext);
         }
 
         // Calculate result with proper precision
@@ -25,7 +64,8 @@ public class DivideOperation implements OperationStrategy {
         // If result is a whole number and both inputs are integers, return an integer
         if (exactResult == Math.floor(exactResult) && !Double.isInfinite(exactResult) &&
                 num1 instanceof Integer && num2 instanceof Integer) {
-            return (int)exactResult;
+            // Integer.MIN_VALUE / -1 is the one whole quotient of two ints that needs a long
+            return intOrLong((long) exactResult);
         }
 
         // Otherwise follow the type hierarchy
@@ -40,6 +80,64 @@ public class DivideOperation implements OperationStrategy {
         }
     }
 
+    /**
+     * Divide, rejecting a zero divisor without throwing
+     */
+    @Override
+    public CalculationResult evaluate(Number num1, Number num2) {
+        return isZero(num2) ? DIVISION_BY_ZERO : OperationStrategy.super.evaluate(num1, num2);
+    }
+
+    @Override
+    public CalculationResult evaluateInPlace(NumericAccumulator accumulator, NumericAccumulator operand) {
+        boolean zero = operand.isPrimitive() ? operand.doubleValue() == 0 : isZero(operand.toNumber());
+        return zero ? DIVISION_BY_ZERO : OperationStrategy.super.evaluateInPlace(accumulator, operand);
+    }
+
+    @Override
+    public double executeDouble(double num1, double num2) {
+        if (num2 == 0) {
+            throw new CalculationException(DIVISION_BY_ZERO_MESSAGE);
+        }
+        return num1 / num2;
+    }
+
+    @Override
+    public void executeInPlace(NumericAccumulator accumulator, NumericAccumulator operand) {
+        if (!accumulator.isPrimitive() || !operand.isPrimitive()) {
+            accumulator.set(execute(accumulator.toNumber(), operand.toNumber()));
+            return;
+        }
+
+        double exactResult = executeDouble(accumulator.doubleValue(), operand.doubleValue());
+
+        // Same type hierarchy as execute, without boxing the result
+        switch (NumericType.promote(accumulator.type(), operand.type())) {
+            case INT -> {
+                if (exactResult == Math.floor(exactResult) && !Double.isInfinite(exactResult)) {
+                    long quotient = (long) exactResult;
+                    if ((int) quotient == quotient) {
+                        accumulator.setInt((int) quotient);
+                    } else {
+                        accumulator.setLong(quotient);
+                    }
+                } else {
+                    accumulator.setDouble(exactResult);
+                }
+            }
+            // The long branch of execute is a long/double conditional, which always yields a double;
+            // whole quotients pass through a long, so adding 0.0 turns -0.0 into 0.0 as it does
+            case LONG -> accumulator.setDouble(exactResult + 0.0);
+            case DOUBLE -> accumulator.setDouble(exactResult);
+            case FLOAT -> accumulator.setFloat((float) exactResult);
+        }
+    }
+
+    @Override
+    public void executeExact(RationalAccumulator accumulator, NumericAccumulator operand) {
+        accumulator.divide(operand);
+    }
+
     @Override
     public Operation getSupportedOperation() {
         return Operation.DIVIDE;
@@ -6,58 +6,96 @@ import org.ebay.flexiblecalculator.operation.OperationStrategy;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 
 /**
- * Registry for operation strategies that manages available operations
+ * Registry for operation strategies that manages available operations.
+ * <p>
+ * Strategies are published as an immutable array indexed by operation ordinal, holding a prebuilt Optional
+ * per operation. Registering a strategy copies the array and publishes the copy through a volatile field,
+ * so lookups never lock or allocate and always see either the old or the new set of strategies.
+ * Components that keep results of a strategy can listen for its replacement with {@link #addRegistrationListener}.
  */
 @Component
 @Slf4j
 public class OperationRegistry {
 
-    private final Map<Operation, OperationStrategy> strategies = new HashMap<>();
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * Never modified once published; replaced as a whole under the registry's lock
+     */
+    private volatile Optional<OperationStrategy>[] strategies;
+
+    private final List<Consumer<Operation>> registrationListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Initialize registry with available operation strategies via Spring dependency injection
      */
     @Autowired
     public OperationRegistry(List<OperationStrategy> operationStrategies) {
+        @SuppressWarnings("unchecked")
+        Optional<OperationStrategy>[] initial = new Optional[OPERATIONS.length];
+        for (Operation operation : OPERATIONS) {
+            initial[operation.ordinal()] = Optional.empty();
+        }
         operationStrategies.forEach(strategy -> {
-            strategies.put(strategy.getSupportedOperation(), strategy);
+            initial[strategy.getSupportedOperation().ordinal()] = Optional.of(strategy);
             log.info("Registered operation strategy: {}", strategy.getSupportedOperation());
         });
+        this.strategies = initial;
     }
 
     /**
      * Get operation strategy for specified operation
      *
-     * @param operation the operation to lookup
-     * @return optional containing the strategy or empty if not found
+     * @param operation the operation to lookup, may be null
+     * @return optional containing the strategy or empty if not found or the operation is null
      */
     public Optional<OperationStrategy> getStrategy(Operation operation) {
-        return Optional.ofNullable(strategies.get(operation));
+        if (operation == null) {
+            return Optional.empty();
+        }
+        return strategies[operation.ordinal()];
     }
 
     /**
-     * Register a new operation strategy
+     * Register a new operation strategy, replacing any strategy for the same operation.
+     * Lookups in flight keep the strategy they already read; later lookups see the new one.
      *
      * @param strategy the strategy to register
      */
     public void registerStrategy(OperationStrategy strategy) {
-        strategies.put(strategy.getSupportedOperation(), strategy);
-        log.info("Dynamically registered new operation strategy: {}", strategy.getSupportedOperation());
+        Operation operation = strategy.getSupportedOperation();
+        synchronized (this) {
+            Optional<OperationStrategy>[] updated = strategies.clone();
+            updated[operation.ordinal()] = Optional.of(strategy);
+            strategies = updated;
+        }
+        log.info("Dynamically registered new operation strategy: {}", operation);
+        registrationListeners.forEach(listener -> listener.accept(operation));
+    }
+
+    /**
+     * Listen for strategies registered after startup. The listener is called with the operation
+     * once its new strategy is visible to lookups, on the thread that registered it.
+     *
+     * @param listener the listener to call with the operation whose strategy was registered
+     */
+    public void addRegistrationListener(Consumer<Operation> listener) {
+        registrationListeners.add(listener);
     }
 
     /**
      * Check if operation is supported
      *
-     * @param operation the operation to check
+     * @param operation the operation to check, may be null
      * @return true if supported, false otherwise
      */
     public boolean supportsOperation(Operation operation) {
-        return strategies.containsKey(operation);
+        return getStrategy(operation).isPresent();
     }
 }
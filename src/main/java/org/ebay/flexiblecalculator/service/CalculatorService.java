@@ -1,24 +1,48 @@
 package org.ebay.flexiblecalculator.service;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
-import org.ebay.flexiblecalculator.dto.request.ChainOperation;
 import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.request.ColumnarBatchRequest;
+import org.ebay.flexiblecalculator.dto.request.ExpressionRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.ColumnarResult;
+import org.ebay.flexiblecalculator.service.batch.BatchCalculator;
+import org.ebay.flexiblecalculator.service.batch.ColumnarBatchCalculator;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator;
 import org.ebay.flexiblecalculator.service.calculator.Calculator;
-import org.ebay.flexiblecalculator.service.chain.ChainedCalculator;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.ebay.flexiblecalculator.service.chain.ChainPlanner;
+import org.ebay.flexiblecalculator.service.chain.StreamingChainEvaluator;
+import org.ebay.flexiblecalculator.service.expression.ExpressionEvaluator;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Map;
 
 /**
  * Service for handling calculation requests
  */
 @Service
-@Slf4j
 @RequiredArgsConstructor
 public class CalculatorService {
 
     private final Calculator calculator;
-    private final ChainedCalculator chainedCalculator;
+    private final ChainPlanner chainPlanner;
+    private final ChainEvaluator chainEvaluator;
+    private final BatchCalculator batchCalculator;
+    private final ColumnarBatchCalculator columnarBatchCalculator;
+    private final StreamingBatchCalculator streamingBatchCalculator;
+    private final StreamingChainEvaluator streamingChainEvaluator;
+    private final ExpressionEvaluator expressionEvaluator;
+    private final CalculatorMetrics calculatorMetrics;
+
     /**
      * Process a single calculation request
      *
@@ -26,7 +50,6 @@ public class CalculatorService {
      * @return calculation result
      */
     public Number calculate(CalculateRequest request) {
-        log.info("Processing calculation request: {}", request);
         return calculator.calculate(request.getOperation(), request.getNum1(), request.getNum2());
     }
 
@@ -37,14 +60,88 @@ public class CalculatorService {
      * @return final calculation result
      */
     public Number calculateChain(ChainRequest request) {
-        log.info("Processing chain calculation request with initial value: {}", request.getInitialValue());
+        calculatorMetrics.recordChainLength(request.getOperations().size());
+
+        ChainRequest plan = chainPlanner.plan(request);
+        return chainEvaluator.evaluate(plan.getInitialValue(), plan.getOperations(), plan.getDivisionMode());
+    }
+
+    /**
+     * Process a chain calculation request while reading it, without binding the whole request
+     *
+     * @param body JSON body with the same shape as a chain request
+     * @return final calculation result
+     * @throws IOException if the body cannot be read
+     */
+    public Number calculateChainStream(InputStream body) throws IOException {
+        return streamingChainEvaluator.evaluate(body);
+    }
+
+    /**
+     * Process an expression request
+     *
+     * @param request the infix expression and its variable values
+     * @return the value of the expression
+     */
+    public Number evaluateExpression(ExpressionRequest request) {
+        Map<String, Number> variables = request.getVariables() != null ? request.getVariables() : Map.of();
+        return expressionEvaluator.evaluate(request.getExpression(), variables);
+    }
+
+    /**
+     * Process a batch calculation request
+     *
+     * @param request the batch request with independent calculations
+     * @return one result or error per calculation, in request order
+     */
+    public List<Response> calculateBatch(BatchCalculateRequest request) {
+        calculatorMetrics.recordBatchSize(request.getCalculations().size());
+        return batchCalculator.calculate(request.getCalculations());
+    }
 
-        chainedCalculator.start(request.getInitialValue());
+    /**
+     * Process a batch calculation request, emitting each result as it is ready
+     *
+     * @param request the batch request with independent calculations
+     * @return one result or error per calculation, in request order
+     */
+    public Flux<Response> calculateBatchFlux(BatchCalculateRequest request) {
+        calculatorMetrics.recordBatchSize(request.getCalculations().size());
+        return batchCalculator.calculateFlux(request.getCalculations());
+    }
+
+    /**
+     * Process a columnar batch request
+     *
+     * @param request the operation and its operand columns
+     * @return one result per operand pair, and the pairs that failed
+     */
+    public ColumnarResult calculateColumnar(ColumnarBatchRequest request) {
+        calculatorMetrics.recordBatchSize(request.getNum1().size());
+        return columnarBatchCalculator.calculate(request.getOperation(), request.getNum1(), request.getNum2());
+    }
 
-        for (ChainOperation operation : request.getOperations()) {
-            chainedCalculator.apply(operation.getOperation(), operation.getValue());
-        }
+    /**
+     * Process a stream of calculations while reading it, writing one result line per calculation
+     *
+     * @param body   calculations or chains, one per line
+     * @param out    the output for the result lines
+     * @param format the format of the lines
+     * @throws IOException if the body cannot be read or the output written
+     */
+    public void calculateStream(InputStream body, OutputStream out, StreamingBatchCalculator.Format format)
+            throws IOException {
+        streamingBatchCalculator.calculate(body, out, format);
+    }
 
-        return chainedCalculator.getResult();
+    /**
+     * Process a stream of calculations while reading it, emitting one result line per calculation as requested
+     *
+     * @param body   calculations or chains, one per line; read on the subscribing thread
+     * @param format the format of the lines
+     * @return the encoded result lines, in input order
+     */
+    public Flux<byte[]> calculateStreamFlux(InputStream body, StreamingBatchCalculator.Format format) {
+        return streamingBatchCalculator.calculateFlux(body, format);
     }
-}
\ No newline at end of file
+}
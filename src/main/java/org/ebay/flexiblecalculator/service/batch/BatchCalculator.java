@@ -0,0 +1,95 @@
+package org.ebay.flexiblecalculator.service.batch;
+
+import org.ebay.flexiblecalculator.config.BatchProperties;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+/**
+ * Service for evaluating batches of independent calculations in parallel
+ */
+@Service
+public class BatchCalculator {
+
+    private final Calculator calculator;
+    private final ForkJoinPool batchExecutor;
+    private final int parallelThreshold;
+
+    public BatchCalculator(Calculator calculator,
+                           @Qualifier("batchExecutor") ForkJoinPool batchExecutor,
+                           BatchProperties batchProperties) {
+        this.calculator = calculator;
+        this.batchExecutor = batchExecutor;
+        this.parallelThreshold = batchProperties.getParallelThreshold();
+    }
+
+    /**
+     * Evaluate every calculation of a batch.
+     * A failing calculation yields an error item and does not affect the others.
+     *
+     * @param calculations the calculations to perform
+     * @return one response per calculation, in request order
+     */
+    public List<Response> calculate(List<CalculateRequest> calculations) {
+        Response[] results = new Response[calculations.size()];
+        if (results.length < parallelThreshold) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = calculateItem(calculations.get(i));
+            }
+        } else {
+            // Parallel streams run in the pool that invokes them
+            batchExecutor.submit(() -> IntStream.range(0, results.length)
+                            .parallel()
+                            .forEach(i -> results[i] = calculateItem(calculations.get(i))))
+                    .join();
+        }
+
+        return Arrays.asList(results);
+    }
+
+    /**
+     * Evaluate every calculation of a batch as a stream of results, for the reactive API.
+     * Batches of at least the parallel threshold are split into chunks of that size, evaluated
+     * concurrently on the parallel scheduler; results are emitted in request order as chunks complete.
+     *
+     * @param calculations the calculations to perform
+     * @return one response per calculation, in request order
+     */
+    public Flux<Response> calculateFlux(List<CalculateRequest> calculations) {
+        if (calculations.size() < parallelThreshold) {
+            return Flux.fromIterable(calculations).map(this::calculateItem);
+        }
+        return Flux.fromIterable(calculations)
+                .buffer(parallelThreshold)
+                .flatMapSequential(chunk -> Mono.fromSupplier(() -> chunk.stream().map(this::calculateItem).toList())
+                        .subscribeOn(Schedulers.parallel()))
+                .flatMapIterable(Function.identity());
+    }
+
+    private Response calculateItem(CalculateRequest request) {
+        CalculationResult result = calculator.evaluate(request.getOperation(), request.getNum1(), request.getNum2());
+        if (!result.isSuccess()) {
+            return Response.builder()
+                    .code("400")
+                    .message(result.getError())
+                    .build();
+        }
+        return Response.builder()
+                .code("200")
+                .message("Success")
+                .data(result.getValue())
+                .build();
+    }
+}
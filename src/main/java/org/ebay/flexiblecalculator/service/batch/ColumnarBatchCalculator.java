@@ -0,0 +1,137 @@
+package org.ebay.flexiblecalculator.service.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.ColumnarResult;
+import org.ebay.flexiblecalculator.model.NumericColumn;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernel;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernels;
+import org.ebay.flexiblecalculator.operation.strategy.AddOperation;
+import org.ebay.flexiblecalculator.operation.strategy.DivideOperation;
+import org.ebay.flexiblecalculator.operation.strategy.MultiplyOperation;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.operation.strategy.SubtractOperation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for applying one operation to columns of operand pairs.
+ * <p>
+ * Two long columns give long results, or double quotients for DIVIDE, as the built-in strategies do for
+ * Long operands; a double column makes both columns doubles. Lanes the strategies would reject, or
+ * promote past a long, fail with an error instead. The built-in strategies are evaluated by a
+ * {@link ColumnarKernel}; an operation with a custom strategy is evaluated through the strategy, lane by lane.
+ */
+@Service
+@Slf4j
+public class ColumnarBatchCalculator {
+
+    private static final String DIVISION_BY_ZERO = "Division by zero is not allowed";
+    private static final String OUT_OF_RANGE = "Result is out of range";
+
+    private final OperationRegistry operationRegistry;
+    private final ColumnarKernel kernel;
+
+    @Autowired
+    public ColumnarBatchCalculator(OperationRegistry operationRegistry) {
+        this(operationRegistry, ColumnarKernels.best());
+        log.info("Columnar batches use the {} kernel", kernel);
+    }
+
+    public ColumnarBatchCalculator(OperationRegistry operationRegistry, ColumnarKernel kernel) {
+        this.operationRegistry = operationRegistry;
+        this.kernel = kernel;
+    }
+
+    /**
+     * Apply an operation to each pair of values of two columns
+     *
+     * @param operation the operation to apply
+     * @param num1 first operands
+     * @param num2 second operands, as many as first operands
+     * @return one result per pair, and the pairs that failed
+     * @throws InvalidRequestException if the columns differ in length
+     * @throws CalculationException if the operation is not supported
+     */
+    public ColumnarResult calculate(Operation operation, NumericColumn num1, NumericColumn num2) {
+        if (num1.size() != num2.size()) {
+            throw new InvalidRequestException("num2", "Must have as many values as num1");
+        }
+        OperationStrategy strategy = operationRegistry.getStrategy(operation)
+                .orElseThrow(() -> new CalculationException("Unsupported operation: " + operation));
+        if (!isBuiltIn(strategy)) {
+            return calculateEach(strategy, num1, num2);
+        }
+
+        int size = num1.size();
+        boolean[] failed = new boolean[size];
+        String error = operation == Operation.DIVIDE ? DIVISION_BY_ZERO : OUT_OF_RANGE;
+        if (num1.isIntegral() && num2.isIntegral()) {
+            if (operation == Operation.DIVIDE) {
+                double[] quotients = new double[size];
+                int failures = kernel.divideLongs(num1.longs(), num2.longs(), quotients, failed);
+                return ColumnarResult.of(NumericColumn.ofDoubles(quotients), failed, failures, error);
+            }
+            long[] results = new long[size];
+            int failures = kernel.longs(operation, num1.longs(), num2.longs(), results, failed);
+            return ColumnarResult.of(NumericColumn.ofLongs(results), failed, failures, error);
+        }
+        double[] results = new double[size];
+        int failures = kernel.doubles(operation, num1.doubles(), num2.doubles(), results, failed);
+        return ColumnarResult.of(NumericColumn.ofDoubles(results), failed, failures, error);
+    }
+
+    /**
+     * Evaluate each pair through a custom strategy. The results are a long column if every result is
+     * an Integer or Long, and a double column otherwise.
+     */
+    private static ColumnarResult calculateEach(OperationStrategy strategy, NumericColumn num1, NumericColumn num2) {
+        int size = num1.size();
+        boolean integralOperands = num1.isIntegral() && num2.isIntegral();
+        long[] longs1 = integralOperands ? num1.longs() : null;
+        long[] longs2 = integralOperands ? num2.longs() : null;
+        double[] doubles1 = integralOperands ? null : num1.doubles();
+        double[] doubles2 = integralOperands ? null : num2.doubles();
+
+        boolean integralResults = true;
+        long[] longs = new long[size];
+        double[] doubles = new double[size];
+        boolean[] failed = new boolean[size];
+        int failures = 0;
+        String error = null;
+        for (int i = 0; i < size; i++) {
+            CalculationResult result = integralOperands
+                    ? strategy.evaluate(longs1[i], longs2[i])
+                    : strategy.evaluate(doubles1[i], doubles2[i]);
+            if (!result.isSuccess()) {
+                failed[i] = true;
+                failures++;
+                error = error != null ? error : result.getError();
+                continue;
+            }
+            Number value = result.getValue();
+            if (value instanceof Integer || value instanceof Long) {
+                longs[i] = value.longValue();
+            } else {
+                integralResults = false;
+            }
+            doubles[i] = value.doubleValue();
+        }
+
+        NumericColumn values = integralResults ? NumericColumn.ofLongs(longs) : NumericColumn.ofDoubles(doubles);
+        return ColumnarResult.of(values, failed, failures, error);
+    }
+
+    private static boolean isBuiltIn(OperationStrategy strategy) {
+        return switch (strategy.getSupportedOperation()) {
+            case ADD -> strategy instanceof AddOperation;
+            case SUBTRACT -> strategy instanceof SubtractOperation;
+            case MULTIPLY -> strategy instanceof MultiplyOperation;
+            case DIVIDE -> strategy instanceof DivideOperation;
+        };
+    }
+}
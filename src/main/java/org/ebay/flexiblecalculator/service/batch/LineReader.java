@@ -0,0 +1,93 @@
+package org.ebay.flexiblecalculator.service.batch;
+
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads UTF-8 lines from a stream, holding at most one line and one read buffer in memory.
+ * Lines end with LF or CRLF; a line longer than the limit is skipped and reported as invalid,
+ * so a single endless line cannot exhaust the heap.
+ */
+class LineReader {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream in;
+    private final int maxLineLength;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int position;
+    private int limit;
+    private byte[] line = new byte[256];
+    private int lineLength;
+
+    LineReader(InputStream in, int maxLineLength) {
+        this.in = in;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Read the next line, without its line terminator
+     *
+     * @return the line, or null at the end of the stream
+     * @throws InvalidRequestException if the line is longer than the limit; the next call reads the line after it
+     */
+    String readLine() throws IOException {
+        lineLength = 0;
+        boolean tooLong = false;
+        while (true) {
+            if (position == limit && !fill()) {
+                if (lineLength == 0 && !tooLong) {
+                    return null;
+                }
+                break;
+            }
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int length = position - start;
+            if (tooLong || lineLength + length > maxLineLength) {
+                tooLong = true;
+            } else {
+                append(start, length);
+            }
+            if (position < limit) {
+                position++;
+                break;
+            }
+        }
+        if (tooLong) {
+            throw new InvalidRequestException("line", "Line is longer than " + maxLineLength + " bytes");
+        }
+        if (lineLength > 0 && line[lineLength - 1] == '\r') {
+            lineLength--;
+        }
+        return new String(line, 0, lineLength, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check whether the next line can be read, at least in part, without blocking
+     */
+    boolean hasBufferedInput() throws IOException {
+        return position < limit || in.available() > 0;
+    }
+
+    private boolean fill() throws IOException {
+        int read = in.read(buffer);
+        position = 0;
+        limit = Math.max(read, 0);
+        return read > 0;
+    }
+
+    private void append(int start, int length) {
+        if (lineLength + length > line.length) {
+            line = Arrays.copyOf(line, Math.min(Math.max(line.length * 2, lineLength + length), maxLineLength));
+        }
+        System.arraycopy(buffer, start, line, lineLength, length);
+        lineLength += length;
+    }
+}
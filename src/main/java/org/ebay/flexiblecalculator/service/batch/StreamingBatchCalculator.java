@@ -0,0 +1,429 @@
+package org.ebay.flexiblecalculator.service.batch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.core.io.NumberOutput;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.config.BatchProperties;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.DivisionMode;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.ebay.flexiblecalculator.service.chain.ChainPlanner;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Service for evaluating a stream of independent calculations, one per line, while the stream is being read.
+ * <p>
+ * Each line holds a calculation or a chain, as CSV or as NDJSON, and yields one result line in the same format,
+ * in input order. A line is read only once the result of the previous one has been handed to the output, so
+ * a slow reader of the results slows the reading of the calculations: memory use depends on the longest line,
+ * not on the size of the stream. A failing line yields an error line and does not affect the others.
+ */
+@Service
+@Slf4j
+public class StreamingBatchCalculator {
+
+    private static final String INVALID_OPERATION_MESSAGE =
+            "Invalid operation value. Supported operations are: ADD, SUBTRACT, MULTIPLY, DIVIDE";
+    private static final Operation[] OPERATIONS = Operation.values();
+
+    /**
+     * Line format of a stream, used for both the calculations and the results
+     */
+    @Getter
+    public enum Format {
+        /**
+         * Calculations as {@code operation,num1,num2} or {@code initialValue,operation,value,...};
+         * results as {@code code,message,data}
+         */
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8)),
+
+        /**
+         * Calculations as CalculateRequest or ChainRequest objects; results as Response objects
+         */
+        NDJSON(MediaType.APPLICATION_NDJSON);
+
+        private final MediaType mediaType;
+
+        Format(MediaType mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        /**
+         * Resolve the format of a request body
+         *
+         * @throws InvalidRequestException if the content type is neither CSV nor NDJSON
+         */
+        public static Format of(MediaType contentType) {
+            for (Format format : values()) {
+                if (contentType != null && format.mediaType.isCompatibleWith(contentType)) {
+                    return format;
+                }
+            }
+            throw new InvalidRequestException("Content-Type", "Must be text/csv or application/x-ndjson");
+        }
+    }
+
+    private final Calculator calculator;
+    private final ChainPlanner chainPlanner;
+    private final ChainEvaluator chainEvaluator;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final CalculatorMetrics calculatorMetrics;
+    private final int maxLineLength;
+
+    public StreamingBatchCalculator(Calculator calculator, ChainPlanner chainPlanner, ChainEvaluator chainEvaluator,
+                                    ObjectMapper objectMapper, Validator validator,
+                                    CalculatorMetrics calculatorMetrics, BatchProperties batchProperties) {
+        this.calculator = calculator;
+        this.chainPlanner = chainPlanner;
+        this.chainEvaluator = chainEvaluator;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.calculatorMetrics = calculatorMetrics;
+        this.maxLineLength = batchProperties.getMaxLineLength();
+    }
+
+    /**
+     * Evaluate every line of a stream, writing each result to a blocking output.
+     * Results are buffered only while more input is already available, so each one is flushed
+     * before waiting for the next line.
+     *
+     * @param body   the calculations, one per line; closed when done
+     * @param out    the output, flushed but not closed
+     * @param format the format of the calculations and results
+     * @return the number of calculations evaluated
+     * @throws IOException if the body cannot be read or the output written
+     */
+    public long calculate(InputStream body, OutputStream out, Format format) throws IOException {
+        Session session = new Session(body, format);
+        try {
+            byte[] result;
+            while ((result = session.next()) != null) {
+                out.write(result);
+                if (!session.reader.hasBufferedInput()) {
+                    out.flush();
+                }
+            }
+            out.flush();
+            return session.count;
+        } finally {
+            session.close();
+        }
+    }
+
+    /**
+     * Evaluate every line of a stream as a stream of result lines, for the reactive API.
+     * A line is read and evaluated only when a result is requested, and the body is read on the subscribing
+     * thread, so subscribe on a scheduler that may block.
+     *
+     * @param body   the calculations, one per line; closed when the results complete, fail or are cancelled
+     * @param format the format of the calculations and results
+     * @return one encoded result line per calculation, in input order
+     */
+    public Flux<byte[]> calculateFlux(InputStream body, Format format) {
+        return Flux.generate(() -> new Session(body, format), (session, sink) -> {
+            try {
+                byte[] result = session.next();
+                if (result != null) {
+                    sink.next(result);
+                } else {
+                    sink.complete();
+                }
+            } catch (IOException e) {
+                sink.error(e);
+            }
+            return session;
+        }, Session::close);
+    }
+
+    /**
+     * Evaluate one line into a response
+     */
+    private Response evaluate(String line, Format format) {
+        try {
+            Object request = format == Format.CSV ? parseCsv(line) : parseJson(line);
+            validate(request);
+            if (request instanceof ChainRequest chainRequest) {
+                return success(calculateChain(chainRequest));
+            }
+            CalculateRequest calculateRequest = (CalculateRequest) request;
+            CalculationResult result = calculator.evaluate(calculateRequest.getOperation(),
+                    calculateRequest.getNum1(), calculateRequest.getNum2());
+            return result.isSuccess() ? success(result.getValue()) : error("400", result.getError());
+        } catch (InvalidRequestException | CalculationException e) {
+            return error("400", e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("Unexpected error evaluating streamed calculation", e);
+            return error("500", "An unexpected error occurred");
+        }
+    }
+
+    private Number calculateChain(ChainRequest request) {
+        calculatorMetrics.recordChainLength(request.getOperations().size());
+        ChainRequest plan = chainPlanner.plan(request);
+        return chainEvaluator.evaluate(plan.getInitialValue(), plan.getOperations(), plan.getDivisionMode());
+    }
+
+    private Object parseJson(String line) {
+        try {
+            JsonNode node = objectMapper.readTree(line);
+            if (!node.isObject()) {
+                throw new InvalidRequestException("line", "Invalid request format");
+            }
+            boolean chain = node.has("initialValue") || node.has("operations");
+            Class<?> type = chain ? ChainRequest.class : CalculateRequest.class;
+            return objectMapper.treeToValue(node, type);
+        } catch (InvalidFormatException e) {
+            throw new InvalidRequestException("line", e.getTargetType() == Operation.class
+                    ? INVALID_OPERATION_MESSAGE : "Invalid request format");
+        } catch (JsonProcessingException e) {
+            throw new InvalidRequestException("line", "Invalid request format");
+        }
+    }
+
+    /**
+     * Parse {@code operation,num1,num2} into a calculation, or {@code initialValue,operation,value,...}
+     * into a chain, depending on whether the line starts with a number
+     */
+    private static Object parseCsv(String line) {
+        String[] fields = line.split(",", -1);
+        for (int i = 0; i < fields.length; i++) {
+            fields[i] = fields[i].trim();
+        }
+        if (!isNumber(fields[0])) {
+            if (fields.length != 3) {
+                throw new InvalidRequestException("line", "Expected operation,num1,num2");
+            }
+            return new CalculateRequest(parseOperation(fields[0]), parseNumber(fields[1]), parseNumber(fields[2]));
+        }
+        if (fields.length < 3 || fields.length % 2 == 0) {
+            throw new InvalidRequestException("line", "Expected initialValue followed by operation,value pairs");
+        }
+        List<ChainOperation> operations = new ArrayList<>(fields.length / 2);
+        for (int i = 1; i < fields.length; i += 2) {
+            operations.add(new ChainOperation(parseOperation(fields[i]), parseNumber(fields[i + 1])));
+        }
+        return new ChainRequest(parseNumber(fields[0]), operations, DivisionMode.DOUBLE);
+    }
+
+    private static Operation parseOperation(String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        for (Operation operation : OPERATIONS) {
+            if (operation.name().equals(field)) {
+                return operation;
+            }
+        }
+        throw new InvalidRequestException("operation", INVALID_OPERATION_MESSAGE);
+    }
+
+    /**
+     * Parse a CSV number into the narrowest matching Number, as JSON operands are bound:
+     * Integer, Long or BigInteger for whole numbers and Double for decimals
+     *
+     * @return the number, or null for an empty field
+     */
+    private static Number parseNumber(String field) {
+        if (field.isEmpty()) {
+            return null;
+        }
+        if (!isNumber(field)) {
+            throw new InvalidRequestException("line", "Invalid number: " + field);
+        }
+        if (field.indexOf('.') >= 0 || field.indexOf('e') >= 0 || field.indexOf('E') >= 0) {
+            return NumberInput.parseDouble(field, true);
+        }
+        if (field.length() <= 18) {
+            long value = Long.parseLong(field);
+            return value == (int) value ? (Number) (int) value : (Number) value;
+        }
+        BigInteger value = new BigInteger(field);
+        return value.bitLength() < 64 ? (Number) value.longValue() : value;
+    }
+
+    /**
+     * Check that a field is a JSON number, with an optional leading plus sign
+     */
+    private static boolean isNumber(String field) {
+        int i = 0;
+        int length = field.length();
+        if (i < length && (field.charAt(i) == '-' || field.charAt(i) == '+')) {
+            i++;
+        }
+        int digits = i;
+        while (i < length && Character.isDigit(field.charAt(i))) {
+            i++;
+        }
+        if (i == digits) {
+            return false;
+        }
+        if (i < length && field.charAt(i) == '.') {
+            int fraction = ++i;
+            while (i < length && Character.isDigit(field.charAt(i))) {
+                i++;
+            }
+            if (i == fraction) {
+                return false;
+            }
+        }
+        if (i < length && (field.charAt(i) == 'e' || field.charAt(i) == 'E')) {
+            i++;
+            if (i < length && (field.charAt(i) == '-' || field.charAt(i) == '+')) {
+                i++;
+            }
+            int exponent = i;
+            while (i < length && Character.isDigit(field.charAt(i))) {
+                i++;
+            }
+            if (i == exponent) {
+                return false;
+            }
+        }
+        return i == length;
+    }
+
+    private static boolean isHeader(String line) {
+        String first = line.split(",", 2)[0].trim();
+        return first.equalsIgnoreCase("operation") || first.equalsIgnoreCase("initialValue");
+    }
+
+    private void validate(Object request) {
+        ConstraintViolation<Object> violation = validator.validate(request).stream()
+                .min(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .orElse(null);
+        if (violation != null) {
+            throw new InvalidRequestException(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+    }
+
+    /**
+     * Encode a result as one line of the stream's format
+     */
+    private byte[] encode(Response response, Format format) throws JsonProcessingException {
+        if (format == Format.NDJSON) {
+            byte[] json = objectMapper.writeValueAsBytes(response);
+            byte[] line = new byte[json.length + 1];
+            System.arraycopy(json, 0, line, 0, json.length);
+            line[json.length] = '\n';
+            return line;
+        }
+        StringBuilder line = new StringBuilder(32)
+                .append(response.getCode()).append(',');
+        appendCsvField(line, response.getMessage());
+        line.append(',');
+        if (response.getData() instanceof Double d) {
+            line.append(NumberOutput.toString(d, true));
+        } else if (response.getData() instanceof Float f) {
+            line.append(NumberOutput.toString(f, true));
+        } else if (response.getData() != null) {
+            line.append(response.getData());
+        }
+        return line.append('\n').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void appendCsvField(StringBuilder line, String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            line.append(value);
+            return;
+        }
+        line.append('"').append(value.replace("\"", "\"\"")).append('"');
+    }
+
+    private static Response success(Number value) {
+        return Response.builder()
+                .code("200")
+                .message("Success")
+                .data(value)
+                .build();
+    }
+
+    private static Response error(String code, String message) {
+        return Response.builder()
+                .code(code)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * Reading position in one stream: reads lines, skipping blank lines and a CSV header,
+     * and counts the calculations for the batch size metric
+     */
+    private final class Session {
+
+        private final InputStream body;
+        private final Format format;
+        private final LineReader reader;
+        private long count;
+        private long lineNumber;
+
+        private Session(InputStream body, Format format) {
+            this.body = body;
+            this.format = format;
+            this.reader = new LineReader(body, maxLineLength);
+        }
+
+        /**
+         * Evaluate the next calculation
+         *
+         * @return its encoded result line, or null at the end of the stream
+         */
+        byte[] next() throws IOException {
+            while (true) {
+                String line;
+                try {
+                    line = reader.readLine();
+                } catch (InvalidRequestException e) {
+                    lineNumber++;
+                    count++;
+                    return encode(error("400", e.getMessage()), format);
+                }
+                if (line == null) {
+                    return null;
+                }
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && format == Format.CSV && isHeader(line))) {
+                    continue;
+                }
+                count++;
+                return encode(evaluate(line, format), format);
+            }
+        }
+
+        void close() {
+            calculatorMetrics.recordBatchSize((int) Math.min(count, Integer.MAX_VALUE));
+            try {
+                body.close();
+            } catch (IOException e) {
+                log.debug("Error closing streamed batch body", e);
+            }
+        }
+    }
+}
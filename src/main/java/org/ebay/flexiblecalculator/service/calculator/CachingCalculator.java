@@ -0,0 +1,131 @@
+package org.ebay.flexiblecalculator.service.calculator;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.ebay.flexiblecalculator.config.ResultCacheProperties;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+
+import java.util.function.Function;
+
+/**
+ * Calculator decorator that caches single calculation results.
+ * Uses a Caffeine cache, whose W-TinyLFU eviction keeps frequently repeated calculations.
+ * Hit, miss and eviction statistics are published as the "calculator.results" cache metrics.
+ * <p>
+ * Hits are timed into the same calculation timer as the misses computed by the delegate, so the timer covers
+ * every single calculation served. Registering a new strategy for an operation drops that operation's cached
+ * results; a calculation that was already running on the old strategy may still cache its result.
+ */
+public class CachingCalculator implements Calculator {
+
+    public static final String CACHE_NAME = "calculator.results";
+
+    private final Calculator delegate;
+    private final CalculatorMetrics calculatorMetrics;
+    private final Cache<CalculationKey, Number> cache;
+
+    public CachingCalculator(Calculator delegate, OperationRegistry operationRegistry,
+                             CalculatorMetrics calculatorMetrics, ResultCacheProperties resultCacheProperties,
+                             MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.calculatorMetrics = calculatorMetrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(resultCacheProperties.getMaxEntries())
+                .expireAfterWrite(resultCacheProperties.getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        operationRegistry.addRegistrationListener(this::invalidate);
+    }
+
+    /**
+     * Perform a calculation, reusing the cached result for an identical operation and operands.
+     * Failed calculations are not cached.
+     */
+    @Override
+    public Number calculate(Operation op, Number num1, Number num2) {
+        long start = System.nanoTime();
+        Loader loader = new Loader();
+        Number result = cache.get(new CalculationKey(op, num1, num2), loader);
+        if (!loader.loaded) {
+            calculatorMetrics.recordCalculation(op, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * Perform a calculation without throwing, reusing the cached result for an identical operation and operands.
+     * Errors are not cached, and a miss is computed by the caller rather than under the cache's loading lock,
+     * so concurrent misses for the same key may each compute it.
+     */
+    @Override
+    public CalculationResult evaluate(Operation op, Number num1, Number num2) {
+        long start = System.nanoTime();
+        CalculationKey key = new CalculationKey(op, num1, num2);
+        Number cached = cache.getIfPresent(key);
+        if (cached != null) {
+            calculatorMetrics.recordCalculation(op, System.nanoTime() - start);
+            return CalculationResult.success(cached);
+        }
+        CalculationResult result = delegate.evaluate(op, num1, num2);
+        if (result.isSuccess()) {
+            cache.put(key, result.getValue());
+        }
+        return result;
+    }
+
+    /**
+     * Chain steps bypass the cache: their running values rarely repeat and keying them would box every step
+     */
+    @Override
+    public void calculateInPlace(Operation op, NumericAccumulator accumulator, NumericAccumulator operand) {
+        delegate.calculateInPlace(op, accumulator, operand);
+    }
+
+    @Override
+    public CalculationResult evaluateInPlace(Operation op, NumericAccumulator accumulator,
+                                             NumericAccumulator operand) {
+        return delegate.evaluateInPlace(op, accumulator, operand);
+    }
+
+    @Override
+    public void calculateExact(Operation op, RationalAccumulator accumulator, NumericAccumulator operand) {
+        delegate.calculateExact(op, accumulator, operand);
+    }
+
+    /**
+     * Drop the cached results of an operation whose strategy was replaced
+     */
+    private void invalidate(Operation operation) {
+        cache.asMap().keySet().removeIf(key -> key.op() == operation);
+    }
+
+    /**
+     * Computes a missing result through the delegate and remembers that it did, so a hit can be told from a miss
+     * without a second lookup
+     */
+    private final class Loader implements Function<CalculationKey, Number> {
+
+        private boolean loaded;
+
+        @Override
+        public Number apply(CalculationKey key) {
+            loaded = true;
+            return delegate.calculate(key.op(), key.num1(), key.num2());
+        }
+    }
+
+    /**
+     * Cache key. Operands compare with their own equals, so values of different
+     * numeric types such as 5 and 5.0 are different keys.
+     */
+    private record CalculationKey(Operation op, Number num1, Number num2) {
+    }
+}
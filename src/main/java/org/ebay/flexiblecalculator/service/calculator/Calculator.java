@@ -1,6 +1,10 @@
 package org.ebay.flexiblecalculator.service.calculator;
 
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
 
 /**
  * Calculator interface defining basic calculation methods
@@ -14,6 +18,64 @@ public interface Calculator {
      * @param num1 first operand
      * @param num2 second operand
      * @return calculation result
+     * @throws CalculationException if the calculation fails
      */
     Number calculate(Operation op, Number num1, Number num2);
+
+    /**
+     * Perform a single calculation between two numbers, returning a failure as an error result.
+     * Implementations should override this to report errors without throwing.
+     *
+     * @param op the operation to perform
+     * @param num1 first operand
+     * @param num2 second operand
+     * @return calculation result or error
+     */
+    default CalculationResult evaluate(Operation op, Number num1, Number num2) {
+        try {
+            return CalculationResult.success(calculate(op, num1, num2));
+        } catch (CalculationException e) {
+            return CalculationResult.error(e.getMessage());
+        }
+    }
+
+    /**
+     * Perform a single calculation in place on primitive operands, without boxing the result
+     *
+     * @param op the operation to perform
+     * @param accumulator first operand, replaced by the result
+     * @param operand second operand
+     */
+    default void calculateInPlace(Operation op, NumericAccumulator accumulator, NumericAccumulator operand) {
+        accumulator.set(calculate(op, accumulator.toNumber(), operand.toNumber()));
+    }
+
+    /**
+     * Perform a single calculation in place on primitive operands, returning a failure as an error result
+     *
+     * @param op the operation to perform
+     * @param accumulator first operand, replaced by the result on success
+     * @param operand second operand
+     * @return {@link CalculationResult#inPlace()} or the error
+     */
+    default CalculationResult evaluateInPlace(Operation op, NumericAccumulator accumulator,
+                                              NumericAccumulator operand) {
+        try {
+            calculateInPlace(op, accumulator, operand);
+            return CalculationResult.inPlace();
+        } catch (CalculationException e) {
+            return CalculationResult.error(e.getMessage());
+        }
+    }
+
+    /**
+     * Perform a single calculation in place on an exact fraction, for chains in the EXACT division mode
+     *
+     * @param op the operation to perform
+     * @param accumulator first operand, replaced by the result
+     * @param operand second operand, an Integer, Long or BigInteger
+     */
+    default void calculateExact(Operation op, RationalAccumulator accumulator, NumericAccumulator operand) {
+        throw new CalculationException("Exact division mode is not supported");
+    }
 }
@@ -3,12 +3,18 @@ package org.ebay.flexiblecalculator.service.calculator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.CalculationResult;
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
 import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
 import org.springframework.stereotype.Service;
 
 /**
- * Implementation of Calculator interface
+ * Implementation of Calculator interface.
+ * The evaluate methods return errors as results; calculate and calculateInPlace throw them.
  */
 @Service
 @Slf4j
@@ -16,16 +22,81 @@ import org.springframework.stereotype.Service;
 public class CalculatorImpl implements Calculator {
 
     private final OperationRegistry operationRegistry;
+    private final CalculatorMetrics calculatorMetrics;
 
+    /**
+     * Throwing variant of {@link #evaluate}, kept separate so a success allocates no result
+     */
     @Override
     public Number calculate(Operation op, Number num1, Number num2) {
-        log.info("Received operation: {}, num1: {}, num2: {}", op, num1, num2);
+        long start = System.nanoTime();
+        // Looked up outside the try, so an unsupported operation is not counted as an error, as in evaluate
+        OperationStrategy strategy = getStrategy(op);
+        Number result;
+        try {
+            result = strategy.execute(num1, num2);
+        } catch (CalculationException e) {
+            calculatorMetrics.recordError(op);
+            throw e;
+        }
+        calculatorMetrics.recordCalculation(op, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public CalculationResult evaluate(Operation op, Number num1, Number num2) {
+        long start = System.nanoTime();
+        OperationStrategy strategy = operationRegistry.getStrategy(op).orElse(null);
+        if (strategy == null) {
+            return unsupported(op);
+        }
+        CalculationResult result = strategy.evaluate(num1, num2);
+        if (result.isSuccess()) {
+            calculatorMetrics.recordCalculation(op, System.nanoTime() - start);
+        } else {
+            calculatorMetrics.recordError(op);
+        }
+        return result;
+    }
 
+    @Override
+    public void calculateInPlace(Operation op, NumericAccumulator accumulator, NumericAccumulator operand) {
+        evaluateInPlace(op, accumulator, operand).orElseThrow();
+    }
+
+    @Override
+    public CalculationResult evaluateInPlace(Operation op, NumericAccumulator accumulator,
+                                             NumericAccumulator operand) {
+        // Chain steps are too cheap to time individually; only failures are counted
+        OperationStrategy strategy = operationRegistry.getStrategy(op).orElse(null);
+        if (strategy == null) {
+            return unsupported(op);
+        }
+        CalculationResult result = strategy.evaluateInPlace(accumulator, operand);
+        if (!result.isSuccess()) {
+            calculatorMetrics.recordError(op);
+        }
+        return result;
+    }
+
+    @Override
+    public void calculateExact(Operation op, RationalAccumulator accumulator, NumericAccumulator operand) {
+        OperationStrategy strategy = getStrategy(op);
+        try {
+            strategy.executeExact(accumulator, operand);
+        } catch (CalculationException e) {
+            calculatorMetrics.recordError(op);
+            throw e;
+        }
+    }
+
+    private OperationStrategy getStrategy(Operation op) {
         return operationRegistry.getStrategy(op)
-                .orElseThrow(() -> {
-                    log.error("Unsupported operation: {}", op);
-                    return new CalculationException("Unsupported operation: " + op);
-                })
-                .execute(num1, num2);
+                .orElseThrow(() -> new CalculationException(unsupported(op).getError()));
+    }
+
+    private CalculationResult unsupported(Operation op) {
+        log.error("Unsupported operation: {}", op);
+        return CalculationResult.error("Unsupported operation: " + op);
     }
 }
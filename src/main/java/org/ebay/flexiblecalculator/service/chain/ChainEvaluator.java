@@ -0,0 +1,68 @@
+package org.ebay.flexiblecalculator.service.chain;
+
+import lombok.RequiredArgsConstructor;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.model.DivisionMode;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * Stateless service for evaluating calculation chains.
+ * The running value lives in accumulators local to each call, so concurrent requests
+ * never share state and need no locking. In the EXACT division mode the running value is
+ * an exact fraction, converted to a number only once the chain is complete.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChainEvaluator {
+
+    private final Calculator calculator;
+
+    /**
+     * Evaluate a calculation chain
+     *
+     * @param initialValue the starting value
+     * @param operations the operations to apply in order
+     * @return the calculation result
+     */
+    public Number evaluate(Number initialValue, List<ChainOperation> operations) {
+        return evaluate(initialValue, operations, DivisionMode.DOUBLE);
+    }
+
+    /**
+     * Evaluate a calculation chain in the given division mode
+     *
+     * @param initialValue the starting value
+     * @param operations the operations to apply in order
+     * @param divisionMode how DIVIDE is evaluated, DOUBLE if null
+     * @return the calculation result
+     */
+    public Number evaluate(Number initialValue, List<ChainOperation> operations, DivisionMode divisionMode) {
+        if (divisionMode == DivisionMode.EXACT) {
+            return evaluateExact(initialValue, operations);
+        }
+
+        NumericAccumulator currentValue = NumericAccumulator.of(initialValue);
+        NumericAccumulator operandValue = new NumericAccumulator();
+
+        for (ChainOperation operation : operations) {
+            calculator.calculateInPlace(operation.getOperation(), currentValue, operandValue.set(operation.getValue()));
+        }
+
+        return currentValue.toNumber();
+    }
+
+    private Number evaluateExact(Number initialValue, List<ChainOperation> operations) {
+        ExactChainValue currentValue = new ExactChainValue(calculator, initialValue);
+        NumericAccumulator operandValue = new NumericAccumulator();
+
+        for (ChainOperation operation : operations) {
+            currentValue.apply(operation.getOperation(), operandValue.set(operation.getValue()));
+        }
+
+        return currentValue.toNumber();
+    }
+}
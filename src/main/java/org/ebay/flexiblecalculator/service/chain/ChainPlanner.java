@@ -0,0 +1,263 @@
+package org.ebay.flexiblecalculator.service.chain;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.model.DivisionMode;
+import org.ebay.flexiblecalculator.model.NumericType;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.strategy.AddOperation;
+import org.ebay.flexiblecalculator.operation.strategy.DivideOperation;
+import org.ebay.flexiblecalculator.operation.strategy.MultiplyOperation;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.operation.strategy.SubtractOperation;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Service that rewrites a chain request into an equivalent, shorter plan before evaluation.
+ * <p>
+ * The running value's type is tracked statically from the initial value, together with a bound on the
+ * magnitude of an int or long value. Rewrites are only made where they give bit-identical results and errors
+ * under the strategies' type promotion:
+ * <ul>
+ *     <li>runs of ADD/SUBTRACT or of MULTIPLY on an int or long value, with constants no wider than
+ *     that value, fold into one constant as long as the bound shows no step can overflow the value's type,
+ *     since an overflow promotes it to Long or BigInteger</li>
+ *     <li>identities (ADD 0, SUBTRACT 0, MULTIPLY 1, DIVIDE 1) that keep the value and its type are dropped</li>
+ *     <li>a MULTIPLY by 0 on an int or long value discards all earlier operations,
+ *     unless one of them divides by zero and so must still fail</li>
+ * </ul>
+ * Plans are only rewritten in the DOUBLE division mode and while the built-in strategies are registered.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ChainPlanner {
+
+    private final OperationRegistry operationRegistry;
+
+    /**
+     * Build an equivalent plan for a chain request
+     *
+     * @param request the chain request
+     * @return a shorter equivalent request, or the request itself if nothing can be simplified
+     */
+    public ChainRequest plan(ChainRequest request) {
+        NumericType type = NumericType.of(request.getInitialValue());
+        if (type == null || request.getDivisionMode() == DivisionMode.EXACT || !hasBuiltInStrategies()) {
+            return request;
+        }
+
+        List<ChainOperation> operations = request.getOperations();
+        List<ChainOperation> planned = new ArrayList<>(operations.size());
+        Number initialValue = request.getInitialValue();
+        long bound = type.isIntegral() ? magnitude(initialValue.longValue()) : 0;
+        boolean prefixMayFail = false;
+        boolean changed = false;
+
+        int i = 0;
+        while (i < operations.size()) {
+            ChainOperation operation = operations.get(i);
+            Operation op = operation.getOperation();
+
+            if (op == null || operation.getValue() == null) {
+                // Left for the evaluator to reject; nothing after it is planned
+                planned.add(operation);
+                type = null;
+                i++;
+            } else if (type != null && type.isIntegral() && isAdditive(op) && fits(operation, type)
+                    && saturatedAdd(bound, magnitude(operation.getValue().longValue())) <= limit(type)) {
+                // Fold ADD/SUBTRACT run while no partial result can overflow; the value keeps its type throughout
+                long sum = 0;
+                long peak = 0;
+                int end = i;
+                while (end < operations.size() && isAdditive(operations.get(end).getOperation())
+                        && fits(operations.get(end), type)) {
+                    long value = operations.get(end).getValue().longValue();
+                    long next;
+                    try {
+                        next = operations.get(end).getOperation() == Operation.ADD
+                                ? Math.addExact(sum, value) : Math.subtractExact(sum, value);
+                    } catch (ArithmeticException e) {
+                        break;
+                    }
+                    long nextPeak = Math.max(peak, magnitude(next));
+                    if (saturatedAdd(bound, nextPeak) > limit(type)) {
+                        break;
+                    }
+                    sum = next;
+                    peak = nextPeak;
+                    end++;
+                }
+                bound = saturatedAdd(bound, magnitude(sum));
+
+                if (end - i == 1 && sum != 0) {
+                    planned.add(operation);
+                } else {
+                    changed = true;
+                    if (sum != 0) {
+                        planned.add(new ChainOperation(Operation.ADD, box(sum, type)));
+                    }
+                }
+                i = end;
+            } else if (type != null && type.isIntegral() && op == Operation.MULTIPLY && fits(operation, type)
+                    && saturatedMultiply(bound, magnitude(operation.getValue().longValue())) <= limit(type)) {
+                // Fold MULTIPLY run while no partial result can overflow; the value keeps its type throughout
+                long product = 1;
+                long peak = 1;
+                int end = i;
+                while (end < operations.size() && operations.get(end).getOperation() == Operation.MULTIPLY
+                        && fits(operations.get(end), type)) {
+                    long next;
+                    try {
+                        next = Math.multiplyExact(product, operations.get(end).getValue().longValue());
+                    } catch (ArithmeticException e) {
+                        break;
+                    }
+                    long nextPeak = Math.max(peak, magnitude(next));
+                    if (saturatedMultiply(bound, nextPeak) > limit(type)) {
+                        break;
+                    }
+                    product = next;
+                    peak = nextPeak;
+                    end++;
+                }
+                bound = saturatedMultiply(bound, magnitude(product));
+
+                if (product == 0 && !prefixMayFail) {
+                    // Result is zero whatever came before
+                    changed = true;
+                    initialValue = box(0, type);
+                    planned.clear();
+                } else if (end - i == 1 && product != 1) {
+                    planned.add(operation);
+                } else {
+                    changed = true;
+                    if (product != 1) {
+                        planned.add(new ChainOperation(Operation.MULTIPLY, box(product, type)));
+                    }
+                }
+                i = end;
+            } else if (type != null && isIdentity(operation, type)) {
+                changed = true;
+                i++;
+            } else {
+                planned.add(operation);
+                prefixMayFail |= op == Operation.DIVIDE && operation.getValue().doubleValue() == 0;
+                NumericType operandType = NumericType.of(operation.getValue());
+                if (type != null && type.isIntegral() && operandType != null && operandType.isIntegral()) {
+                    long operandMagnitude = magnitude(operation.getValue().longValue());
+                    bound = op == Operation.MULTIPLY
+                            ? saturatedMultiply(bound, operandMagnitude) : saturatedAdd(bound, operandMagnitude);
+                }
+                type = resultType(op, type, operandType);
+                if (type != null && type.isIntegral() && bound > limit(type)) {
+                    // May have overflowed into a wider type
+                    type = null;
+                }
+                i++;
+            }
+        }
+
+        if (!changed) {
+            return request;
+        }
+
+        log.debug("Planned calculation chain of {} operations as {}", operations.size(), planned.size());
+        return new ChainRequest(initialValue, planned);
+    }
+
+    private boolean hasBuiltInStrategies() {
+        return operationRegistry.getStrategy(Operation.ADD).filter(AddOperation.class::isInstance).isPresent()
+                && operationRegistry.getStrategy(Operation.SUBTRACT).filter(SubtractOperation.class::isInstance).isPresent()
+                && operationRegistry.getStrategy(Operation.MULTIPLY).filter(MultiplyOperation.class::isInstance).isPresent()
+                && operationRegistry.getStrategy(Operation.DIVIDE).filter(DivideOperation.class::isInstance).isPresent();
+    }
+
+    private static boolean isAdditive(Operation op) {
+        return op == Operation.ADD || op == Operation.SUBTRACT;
+    }
+
+    /**
+     * Check if the operand is no wider than the running value, so applying it keeps the value's type
+     */
+    private static boolean fits(ChainOperation operation, NumericType type) {
+        NumericType operandType = NumericType.of(operation.getValue());
+        return operandType != null && operandType.ordinal() <= type.ordinal();
+    }
+
+    /**
+     * Check if the operation returns the running value unchanged, including its type,
+     * its sign of zero and NaN/infinity
+     */
+    private static boolean isIdentity(ChainOperation operation, NumericType type) {
+        if (!fits(operation, type)) {
+            return false;
+        }
+        double value = operation.getValue().doubleValue();
+        return switch (operation.getOperation()) {
+            // x + 0 turns -0.0 into 0.0, so only integer values are safe
+            case ADD -> value == 0 && type.isIntegral();
+            // x - (-0.0) turns -0.0 into 0.0, so only positive zero is safe
+            case SUBTRACT -> Double.doubleToRawLongBits(value) == 0;
+            case MULTIPLY -> value == 1;
+            // long division always yields a double
+            case DIVIDE -> value == 1 && type != NumericType.LONG;
+        };
+    }
+
+    /**
+     * Static type of the running value after an operation, or null if it depends on the values
+     */
+    private static NumericType resultType(Operation op, NumericType type, NumericType operandType) {
+        if (operandType == NumericType.DOUBLE) {
+            return NumericType.DOUBLE;
+        }
+        if (type == null || operandType == null) {
+            return null;
+        }
+        NumericType promoted = NumericType.promote(type, operandType);
+        if (op != Operation.DIVIDE) {
+            return promoted;
+        }
+        return switch (promoted) {
+            // whole int quotients stay int, others become double
+            case INT -> null;
+            case LONG, DOUBLE -> NumericType.DOUBLE;
+            case FLOAT -> NumericType.FLOAT;
+        };
+    }
+
+    /**
+     * Largest magnitude of a value of the type that is known not to overflow it; one short of
+     * Long.MAX_VALUE for longs, as that is where {@link #saturatedAdd} and {@link #saturatedMultiply} saturate
+     */
+    private static long limit(NumericType type) {
+        return type == NumericType.INT ? Integer.MAX_VALUE : Long.MAX_VALUE - 1;
+    }
+
+    private static long magnitude(long value) {
+        return value == Long.MIN_VALUE ? Long.MAX_VALUE : Math.abs(value);
+    }
+
+    private static long saturatedAdd(long magnitude1, long magnitude2) {
+        long sum = magnitude1 + magnitude2;
+        return sum < 0 ? Long.MAX_VALUE : sum;
+    }
+
+    private static long saturatedMultiply(long magnitude1, long magnitude2) {
+        try {
+            return Math.multiplyExact(magnitude1, magnitude2);
+        } catch (ArithmeticException e) {
+            return Long.MAX_VALUE;
+        }
+    }
+
+    private static Number box(long value, NumericType type) {
+        return type == NumericType.INT ? (Number) (int) value : (Number) value;
+    }
+}
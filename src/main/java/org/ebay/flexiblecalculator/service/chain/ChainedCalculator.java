@@ -2,20 +2,31 @@ package org.ebay.flexiblecalculator.service.chain;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
 import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.Scope;
 import org.springframework.stereotype.Service;
 
 /**
- * Service for chaining multiple calculation operations
+ * Service for chaining multiple calculation operations.
+ * Holds the running value, so it is prototype scoped and must not be shared between threads;
+ * request handling uses the stateless {@link ChainEvaluator} instead.
+ * A failing step does not throw: it ends the chain, whose result is then the error.
  */
 @Service
+@Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
 @Slf4j
 @RequiredArgsConstructor
 public class ChainedCalculator {
 
     private final Calculator calculator;
-    private Number currentValue;
+    private final NumericAccumulator currentValue = new NumericAccumulator();
+    private final NumericAccumulator operandValue = new NumericAccumulator();
+    private CalculationResult error;
 
     /**
      * Start a calculation chain with initial value
@@ -24,32 +35,50 @@ public class ChainedCalculator {
      * @return this instance for chaining
      */
     public ChainedCalculator start(Number initialValue) {
-        this.currentValue = initialValue;
-        log.info("Starting calculation chain with initial value: {}", initialValue);
+        currentValue.set(initialValue);
+        error = null;
+        log.debug("Starting calculation chain with initial value: {}", initialValue);
         return this;
     }
 
     /**
-     * Apply an operation to the current value
+     * Apply an operation to the current value; does nothing once a step has failed
      *
      * @param operation the operation to apply
      * @param operand the operand value
      * @return this instance for chaining
      */
     public ChainedCalculator apply(Operation operation, Number operand) {
-        log.info("ChainedCalculator: applying operation: {}, operand: {}", operation, operand);
-        currentValue = calculator.calculate(operation, currentValue, operand);
-        log.debug("New current value: {}", currentValue);
+        if (error == null) {
+            CalculationResult result = calculator.evaluateInPlace(operation, currentValue, operandValue.set(operand));
+            if (!result.isSuccess()) {
+                log.debug("Calculation chain failed at {} {}: {}", operation, operand, result.getError());
+                error = result;
+            }
+        }
         return this;
     }
 
+    /**
+     * Get the final result of the calculation chain, or the error of its first failing step
+     *
+     * @return the calculation result or error
+     */
+    public CalculationResult getCalculationResult() {
+        if (error != null) {
+            return error;
+        }
+        log.debug("Returning final result: {}", currentValue);
+        return CalculationResult.success(currentValue.toNumber());
+    }
+
     /**
      * Get the final result of the calculation chain
      *
      * @return the calculation result
+     * @throws CalculationException if a step failed
      */
     public Number getResult() {
-        log.info("Returning final result: {}", currentValue);
-        return currentValue;
+        return getCalculationResult().orElseThrow();
     }
 }
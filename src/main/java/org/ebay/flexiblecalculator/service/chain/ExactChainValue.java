@@ -0,0 +1,43 @@
+package org.ebay.flexiblecalculator.service.chain;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+
+/**
+ * Running value of a chain in the EXACT division mode.
+ * The value is an exact fraction while the initial value and operands are integers. The first floating point
+ * or decimal operand converts it to a number, and the rest of the chain is evaluated in place as usual.
+ * Not thread-safe: a value belongs to a single evaluation.
+ */
+final class ExactChainValue {
+
+    private final Calculator calculator;
+    private final RationalAccumulator fraction = new RationalAccumulator();
+    private NumericAccumulator value;
+
+    ExactChainValue(Calculator calculator, Number initialValue) {
+        this.calculator = calculator;
+        if (RationalAccumulator.accepts(initialValue)) {
+            fraction.set(initialValue);
+        } else {
+            value = NumericAccumulator.of(initialValue);
+        }
+    }
+
+    void apply(Operation operation, NumericAccumulator operand) {
+        if (value == null) {
+            if (RationalAccumulator.accepts(operand)) {
+                calculator.calculateExact(operation, fraction, operand);
+                return;
+            }
+            value = NumericAccumulator.of(fraction.toNumber());
+        }
+        calculator.calculateInPlace(operation, value, operand);
+    }
+
+    Number toNumber() {
+        return value != null ? value.toNumber() : fraction.toNumber();
+    }
+}
@@ -0,0 +1,223 @@
+package org.ebay.flexiblecalculator.service.chain;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.DivisionMode;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Service for evaluating a chain request while it is being read.
+ * Each operation is parsed with the Jackson streaming parser and applied immediately,
+ * so memory use does not depend on the chain length.
+ * The body has the same shape as a ChainRequest, with initialValue and divisionMode placed before operations.
+ */
+@Service
+public class StreamingChainEvaluator {
+
+    private static final String INVALID_OPERATION_MESSAGE =
+            "Invalid operation value. Supported operations are: ADD, SUBTRACT, MULTIPLY, DIVIDE";
+    private static final String INVALID_DIVISION_MODE_MESSAGE =
+            "Invalid division mode. Supported modes are: DOUBLE, EXACT";
+
+    private final Calculator calculator;
+    private final JsonFactory jsonFactory;
+    private final CalculatorMetrics calculatorMetrics;
+
+    public StreamingChainEvaluator(Calculator calculator, ObjectMapper objectMapper, CalculatorMetrics calculatorMetrics) {
+        this.calculator = calculator;
+        this.jsonFactory = objectMapper.getFactory();
+        this.calculatorMetrics = calculatorMetrics;
+    }
+
+    /**
+     * Evaluate a calculation chain from a JSON request body
+     *
+     * @param body the request body
+     * @return the calculation result
+     * @throws IOException if the body cannot be read
+     */
+    public Number evaluate(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new InvalidRequestException("body", "Request body must be a JSON object");
+            }
+
+            NumericAccumulator currentValue = null;
+            DivisionMode divisionMode = DivisionMode.DOUBLE;
+            ExactChainValue exactValue = null;
+            int operationCount = -1;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                if ("initialValue".equals(field)) {
+                    currentValue = new NumericAccumulator();
+                    if (!readNumber(parser, currentValue)) {
+                        throw new InvalidRequestException("initialValue", "Initial value is required");
+                    }
+                } else if ("divisionMode".equals(field)) {
+                    DivisionMode mode = readDivisionMode(parser);
+                    if (operationCount >= 0 && mode != divisionMode) {
+                        throw new InvalidRequestException("divisionMode", "Division mode must precede operations");
+                    }
+                    divisionMode = mode;
+                } else if ("operations".equals(field)) {
+                    if (currentValue == null) {
+                        throw new InvalidRequestException("initialValue", "Initial value must precede operations");
+                    }
+                    if (parser.currentToken() != JsonToken.START_ARRAY) {
+                        throw new InvalidRequestException("operations", "Operations list is required");
+                    }
+                    if (divisionMode == DivisionMode.EXACT) {
+                        exactValue = new ExactChainValue(calculator, currentValue.toNumber());
+                    }
+                    operationCount = applyOperations(parser, currentValue, exactValue);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            // The loop also ends at the end of input, so a body cut off after any field must be caught here
+            if (parser.currentToken() != JsonToken.END_OBJECT || parser.nextToken() != null) {
+                throw invalidFormat();
+            }
+
+            if (currentValue == null) {
+                throw new InvalidRequestException("initialValue", "Initial value is required");
+            }
+            if (operationCount < 0) {
+                throw new InvalidRequestException("operations", "Operations list is required");
+            }
+            if (operationCount == 0) {
+                throw new InvalidRequestException("operations", "At least one operation is required");
+            }
+
+            calculatorMetrics.recordChainLength(operationCount);
+            return exactValue != null ? exactValue.toNumber() : currentValue.toNumber();
+        } catch (JsonProcessingException e) {
+            throw invalidFormat();
+        }
+    }
+
+    /**
+     * Apply each element of the operations array as soon as it has been read
+     *
+     * @param exactValue the running value in the EXACT division mode, or null to apply to currentValue
+     * @return the number of operations applied
+     */
+    private int applyOperations(JsonParser parser, NumericAccumulator currentValue, ExactChainValue exactValue)
+            throws IOException {
+        NumericAccumulator operandValue = new NumericAccumulator();
+        int index = 0;
+
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            if (parser.currentToken() == null) {
+                throw invalidFormat();
+            }
+            if (parser.currentToken() != JsonToken.START_OBJECT) {
+                throw new InvalidRequestException("operations[" + index + "]", "Operation is required");
+            }
+
+            Operation operation = null;
+            boolean hasValue = false;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+
+                if ("operation".equals(field)) {
+                    operation = readOperation(parser, index);
+                } else if ("value".equals(field)) {
+                    hasValue = readNumber(parser, operandValue);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            if (parser.currentToken() != JsonToken.END_OBJECT) {
+                throw invalidFormat();
+            }
+
+            if (operation == null) {
+                throw new InvalidRequestException("operations[" + index + "].operation", "Operation is required");
+            }
+            if (!hasValue) {
+                throw new InvalidRequestException("operations[" + index + "].value", "Operation value is required");
+            }
+
+            if (exactValue != null) {
+                exactValue.apply(operation, operandValue);
+            } else {
+                calculator.calculateInPlace(operation, currentValue, operandValue);
+            }
+            index++;
+        }
+
+        return index;
+    }
+
+    private static InvalidRequestException invalidFormat() {
+        return new InvalidRequestException("body", "Invalid request format");
+    }
+
+    private Operation readOperation(JsonParser parser, int index) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new InvalidRequestException("operations[" + index + "].operation", INVALID_OPERATION_MESSAGE);
+        }
+        try {
+            return Operation.valueOf(parser.getText());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("operations[" + index + "].operation", INVALID_OPERATION_MESSAGE);
+        }
+    }
+
+    private static DivisionMode readDivisionMode(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return DivisionMode.DOUBLE;
+        }
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            throw new InvalidRequestException("divisionMode", INVALID_DIVISION_MODE_MESSAGE);
+        }
+        try {
+            return DivisionMode.valueOf(parser.getText());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("divisionMode", INVALID_DIVISION_MODE_MESSAGE);
+        }
+    }
+
+    /**
+     * Read the current numeric token without boxing, mirroring the Integer/Long/BigInteger/Double
+     * values Jackson binds to Number fields
+     *
+     * @return false if the token is not a number
+     */
+    private static boolean readNumber(JsonParser parser, NumericAccumulator target) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NUMBER_INT) {
+            switch (parser.getNumberType()) {
+                case INT -> target.setInt(parser.getIntValue());
+                case LONG -> target.setLong(parser.getLongValue());
+                default -> target.set(parser.getNumberValue());
+            }
+            return true;
+        } else if (token == JsonToken.VALUE_NUMBER_FLOAT) {
+            target.setDouble(parser.getDoubleValue());
+            return true;
+        }
+        parser.skipChildren();
+        return false;
+    }
+}
@@ -0,0 +1,49 @@
+package org.ebay.flexiblecalculator.service.expression;
+
+import org.ebay.flexiblecalculator.model.Operation;
+
+/**
+ * Parsed infix expression. Nodes are immutable and hold no variable values,
+ * so one parsed expression can be cached and evaluated concurrently with different bindings.
+ */
+public sealed interface Expression permits Expression.Literal, Expression.Variable, Expression.Binary {
+
+    /**
+     * Number of accumulators needed to evaluate this expression, including the one holding its result
+     */
+    int registers();
+
+    /**
+     * Number written in the expression
+     */
+    record Literal(Number value) implements Expression {
+
+        @Override
+        public int registers() {
+            return 1;
+        }
+    }
+
+    /**
+     * Name whose value is bound when the expression is evaluated
+     */
+    record Variable(String name) implements Expression {
+
+        @Override
+        public int registers() {
+            return 1;
+        }
+    }
+
+    /**
+     * Operation applied to the values of two subexpressions. The left operand is evaluated into the
+     * result's accumulator and the right operand into the next one, so a left-leaning chain such as
+     * {@code a + b + c} needs two accumulators however long it is.
+     */
+    record Binary(Operation operation, Expression left, Expression right, int registers) implements Expression {
+
+        public Binary(Operation operation, Expression left, Expression right) {
+            this(operation, left, right, Math.max(left.registers(), right.registers() + 1));
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.ebay.flexiblecalculator.service.expression;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.ebay.flexiblecalculator.config.ExpressionProperties;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+
+import java.util.Map;
+
+/**
+ * Evaluates infix expressions through the registered operation strategies.
+ * <p>
+ * Parsed expressions are cached by their text in a Caffeine cache bounded by entry count, so an expression
+ * repeated with different variable bindings is parsed once. Hit, miss and eviction statistics are published
+ * as the "calculator.expressions" cache metrics. Strategies are looked up on every evaluation rather than
+ * stored in the parsed expression, so a cached expression uses strategies registered after it was parsed.
+ */
+public class ExpressionEvaluator {
+
+    public static final String CACHE_NAME = "calculator.expressions";
+
+    private final OperationRegistry operationRegistry;
+    private final int maxLength;
+    private final Cache<String, Expression> cache;
+
+    public ExpressionEvaluator(OperationRegistry operationRegistry, ExpressionProperties expressionProperties,
+                               MeterRegistry meterRegistry) {
+        this.operationRegistry = operationRegistry;
+        this.maxLength = expressionProperties.getMaxLength();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(expressionProperties.getCacheSize())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * Evaluate an infix expression
+     *
+     * @param text the expression
+     * @param variables values of the variables used in the expression
+     * @return the calculation result
+     * @throws InvalidRequestException if the expression is invalid or uses a variable without a value
+     * @throws CalculationException if a calculation fails
+     */
+    public Number evaluate(String text, Map<String, Number> variables) {
+        return evaluate(parse(text), variables);
+    }
+
+    /**
+     * Parse an infix expression, reusing the cached result for the same text.
+     * Invalid expressions are not cached.
+     *
+     * @param text the expression
+     * @return the parsed expression
+     * @throws InvalidRequestException if the expression is too long or invalid
+     */
+    public Expression parse(String text) {
+        if (text.length() > maxLength) {
+            throw new InvalidRequestException("expression", "Expression is longer than " + maxLength + " characters");
+        }
+        return cache.get(text, ExpressionParser::parse);
+    }
+
+    /**
+     * Evaluate a parsed expression
+     *
+     * @param expression the parsed expression
+     * @param variables values of the variables used in the expression
+     * @return the calculation result
+     * @throws InvalidRequestException if the expression uses a variable without a value
+     * @throws CalculationException if a calculation fails
+     */
+    public Number evaluate(Expression expression, Map<String, Number> variables) {
+        NumericAccumulator[] registers = new NumericAccumulator[expression.registers()];
+        for (int i = 0; i < registers.length; i++) {
+            registers[i] = new NumericAccumulator();
+        }
+        evaluate(expression, variables, registers, 0);
+        return registers[0].toNumber();
+    }
+
+    /**
+     * Evaluate an expression into the given accumulator, using the ones after it for intermediate values
+     */
+    private void evaluate(Expression expression, Map<String, Number> variables, NumericAccumulator[] registers,
+                          int register) {
+        if (expression instanceof Expression.Binary binary) {
+            evaluate(binary.left(), variables, registers, register);
+            evaluate(binary.right(), variables, registers, register + 1);
+            getStrategy(binary.operation()).executeInPlace(registers[register], registers[register + 1]);
+        } else if (expression instanceof Expression.Literal literal) {
+            registers[register].set(literal.value());
+        } else {
+            String name = ((Expression.Variable) expression).name();
+            Number value = variables.get(name);
+            if (value == null) {
+                throw new InvalidRequestException("variables", "No value for variable " + name);
+            }
+            registers[register].set(value);
+        }
+    }
+
+    private OperationStrategy getStrategy(Operation operation) {
+        return operationRegistry.getStrategy(operation)
+                .orElseThrow(() -> new CalculationException("Unsupported operation: " + operation));
+    }
+}
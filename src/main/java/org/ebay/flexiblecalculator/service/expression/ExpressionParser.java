@@ -0,0 +1,226 @@
+package org.ebay.flexiblecalculator.service.expression;
+
+import com.fasterxml.jackson.core.io.NumberInput;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.model.Operation;
+
+import java.math.BigInteger;
+
+/**
+ * Recursive descent parser for infix expressions such as {@code (3 + 4) * 2 / x}.
+ * <p>
+ * {@code *} and {@code /} bind tighter than {@code +} and {@code -}, operators of equal precedence apply
+ * from left to right, and a leading {@code -} or {@code +} applies to the operand after it. Numbers are
+ * bound to the narrowest type as in request bodies: whole numbers become Integer, Long or BigInteger and
+ * decimals Double. Variables are names of letters, digits and underscores that do not start with a digit.
+ */
+public final class ExpressionParser {
+
+    private static final String FIELD = "expression";
+
+    /**
+     * Deepest nesting of parentheses and signs, which bounds the parser's recursion
+     */
+    static final int MAX_DEPTH = 256;
+
+    private final String text;
+    private int position;
+    private int depth;
+
+    private ExpressionParser(String text) {
+        this.text = text;
+    }
+
+    /**
+     * Parse an infix expression
+     *
+     * @param text the expression
+     * @return the root of the parsed expression
+     * @throws InvalidRequestException if the text is not a valid expression
+     */
+    public static Expression parse(String text) {
+        ExpressionParser parser = new ExpressionParser(text);
+        Expression expression = parser.sum();
+        if (parser.peek() != -1) {
+            throw parser.unexpected();
+        }
+        return expression;
+    }
+
+    private Expression sum() {
+        Expression expression = product();
+        while (true) {
+            int next = peek();
+            if (next == '+') {
+                position++;
+                expression = new Expression.Binary(Operation.ADD, expression, product());
+            } else if (next == '-') {
+                position++;
+                expression = new Expression.Binary(Operation.SUBTRACT, expression, product());
+            } else {
+                return expression;
+            }
+        }
+    }
+
+    private Expression product() {
+        Expression expression = unary();
+        while (true) {
+            int next = peek();
+            if (next == '*') {
+                position++;
+                expression = new Expression.Binary(Operation.MULTIPLY, expression, unary());
+            } else if (next == '/') {
+                position++;
+                expression = new Expression.Binary(Operation.DIVIDE, expression, unary());
+            } else {
+                return expression;
+            }
+        }
+    }
+
+    private Expression unary() {
+        int next = peek();
+        if (next != '-' && next != '+') {
+            return primary();
+        }
+        position++;
+        enter();
+        Expression operand = unary();
+        depth--;
+        if (next == '+') {
+            return operand;
+        }
+        // Fold negative numbers into their literal; anything else is subtracted from zero
+        if (operand instanceof Expression.Literal literal) {
+            return new Expression.Literal(negate(literal.value()));
+        }
+        return new Expression.Binary(Operation.SUBTRACT, new Expression.Literal(0), operand);
+    }
+
+    private Expression primary() {
+        int next = peek();
+        if (next == '(') {
+            position++;
+            enter();
+            Expression expression = sum();
+            if (peek() != ')') {
+                throw peek() == -1
+                        ? error("Missing ')' at the end of the expression")
+                        : error("Expected ')' at index " + position);
+            }
+            position++;
+            depth--;
+            return expression;
+        }
+        if (isDigit(next) || next == '.') {
+            return new Expression.Literal(number());
+        }
+        if (isNameStart(next)) {
+            int start = position;
+            while (position < text.length() && isNamePart(text.charAt(position))) {
+                position++;
+            }
+            return new Expression.Variable(text.substring(start, position));
+        }
+        throw unexpected();
+    }
+
+    private Number number() {
+        int start = position;
+        skipDigits();
+        boolean decimal = false;
+        if (position < text.length() && text.charAt(position) == '.') {
+            decimal = true;
+            position++;
+            skipDigits();
+            if (position - start == 1) {
+                throw error("Invalid number at index " + start);
+            }
+        }
+        if (position < text.length() && (text.charAt(position) == 'e' || text.charAt(position) == 'E')) {
+            decimal = true;
+            position++;
+            if (position < text.length() && (text.charAt(position) == '+' || text.charAt(position) == '-')) {
+                position++;
+            }
+            int exponent = position;
+            skipDigits();
+            if (position == exponent) {
+                throw error("Invalid number at index " + start);
+            }
+        }
+
+        String number = text.substring(start, position);
+        if (decimal) {
+            return NumberInput.parseDouble(number, true);
+        }
+        if (number.length() <= 18) {
+            return narrow(Long.parseLong(number));
+        }
+        return narrow(new BigInteger(number));
+    }
+
+    /**
+     * Skip whitespace and return the next character without consuming it, or -1 at the end of the text
+     */
+    private int peek() {
+        while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+            position++;
+        }
+        return position < text.length() ? text.charAt(position) : -1;
+    }
+
+    private void skipDigits() {
+        while (position < text.length() && isDigit(text.charAt(position))) {
+            position++;
+        }
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw error("Expression is nested more than " + MAX_DEPTH + " levels deep");
+        }
+    }
+
+    private InvalidRequestException unexpected() {
+        return position < text.length()
+                ? error("Unexpected '" + text.charAt(position) + "' at index " + position)
+                : error("Unexpected end of expression");
+    }
+
+    private static InvalidRequestException error(String message) {
+        return new InvalidRequestException(FIELD, message);
+    }
+
+    private static Number negate(Number value) {
+        if (value instanceof Integer integer) {
+            return narrow(-integer.longValue());
+        } else if (value instanceof Long longValue) {
+            return longValue == Long.MIN_VALUE ? BigInteger.valueOf(longValue).negate() : narrow(-longValue);
+        } else if (value instanceof BigInteger integer) {
+            return narrow(integer.negate());
+        }
+        return -value.doubleValue();
+    }
+
+    private static Number narrow(long value) {
+        return value == (int) value ? (Number) (int) value : (Number) value;
+    }
+
+    private static Number narrow(BigInteger value) {
+        return value.bitLength() < 64 ? narrow(value.longValue()) : value;
+    }
+
+    private static boolean isDigit(int c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isNameStart(int c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_';
+    }
+
+    private static boolean isNamePart(int c) {
+        return isNameStart(c) || isDigit(c);
+    }
+}
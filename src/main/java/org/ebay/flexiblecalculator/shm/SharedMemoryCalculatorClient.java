@@ -0,0 +1,121 @@
+package org.ebay.flexiblecalculator.shm;
+
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Client for a {@link SharedMemoryCalculatorServer} on the same host.
+ * <p>
+ * Safe for use by multiple threads and processes: each call claims its own slot. A call waits for its
+ * response with the client's wait strategy and fails once the timeout passes, for example while the server
+ * is not running. The timeout should be longer than the server's abandon timeout: a request queued behind a
+ * slot claimed by a caller that died is answered only once the poller has given up on that slot.
+ */
+public class SharedMemoryCalculatorClient implements AutoCloseable {
+
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(5);
+
+    private final SharedMemoryRing ring;
+    private final WaitStrategy waitStrategy;
+    private final long timeoutNanos;
+
+    private SharedMemoryCalculatorClient(SharedMemoryRing ring, WaitStrategy waitStrategy, Duration timeout) {
+        this.ring = ring;
+        this.waitStrategy = waitStrategy;
+        this.timeoutNanos = timeout.toNanos();
+    }
+
+    /**
+     * Map the ring file of a running server, waiting up to {@link #DEFAULT_TIMEOUT} per call
+     */
+    public static SharedMemoryCalculatorClient open(Path path, WaitStrategy waitStrategy) throws IOException {
+        return open(path, waitStrategy, DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * Map the ring file of a running server
+     *
+     * @param timeout how long a call waits for a free slot and its response together
+     */
+    public static SharedMemoryCalculatorClient open(Path path, WaitStrategy waitStrategy, Duration timeout)
+            throws IOException {
+        return new SharedMemoryCalculatorClient(SharedMemoryRing.open(path), waitStrategy, timeout);
+    }
+
+    /**
+     * Perform a calculation and wait for its result
+     *
+     * @throws CalculationException if the calculation fails, or no result arrives within the timeout
+     * @throws IllegalArgumentException if an operand is not an Integer, Long, Float or Double
+     */
+    public Number calculate(Operation operation, Number num1, Number num2) {
+        NumericAccumulator operand1 = NumericAccumulator.of(num1);
+        NumericAccumulator operand2 = NumericAccumulator.of(num2);
+        if (!operand1.isPrimitive() || !operand2.isPrimitive()) {
+            throw new IllegalArgumentException("Operands must be Integer, Long, Float or Double");
+        }
+        long deadline = System.nanoTime() + timeoutNanos;
+
+        long position = claim(deadline);
+        ring.writeRequest(position, operation, operand1, operand2);
+        if (!ring.publish(position, position, position + 1)) {
+            // The poller gave up on this slot before it was published and answered it with an error
+            ring.publish(position, position + 2, position + ring.capacity());
+            throw new CalculationException("Request was abandoned by the calculator before it was sent");
+        }
+
+        while (ring.sequence(position) != position + 2) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new CalculationException("Timed out waiting for the calculator");
+            }
+            waitStrategy.idle();
+        }
+        Number result;
+        CalculationException error = null;
+        try {
+            result = ring.readResponse(position, operand1);
+        } catch (CalculationException e) {
+            result = null;
+            error = e;
+        }
+        if (!ring.publish(position, position + 2, position + ring.capacity())) {
+            // The poller freed the slot while the response was read, so it may have been overwritten
+            throw new CalculationException("Response was reclaimed by the calculator before it was read");
+        }
+        if (error != null) {
+            throw error;
+        }
+        return result;
+    }
+
+    /**
+     * Claim the next position, waiting while the ring is full
+     */
+    private long claim(long deadline) {
+        while (true) {
+            long position = ring.tail();
+            long sequence = ring.sequence(position);
+            if (sequence == position) {
+                if (ring.claim(position)) {
+                    return position;
+                }
+            } else if (sequence < position) {
+                // The slot still holds a request from the previous lap
+                if (System.nanoTime() - deadline > 0) {
+                    throw new CalculationException("Timed out waiting for a free slot in the ring");
+                }
+                waitStrategy.idle();
+            }
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        ring.close();
+    }
+}
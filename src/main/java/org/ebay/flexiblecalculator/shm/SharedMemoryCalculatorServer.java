@@ -0,0 +1,178 @@
+package org.ebay.flexiblecalculator.shm;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Serves calculations from a {@link SharedMemoryRing}.
+ * <p>
+ * A dedicated poller thread waits for the next position to be published, evaluates the request directly
+ * with the registered operation strategy on primitive accumulators and publishes the response in the same slot.
+ * Requests skip the Calculator and its metrics: at this latency even a timer is a significant share of the call.
+ * <p>
+ * A slot that a client claimed but did not publish within the abandon timeout is answered with an error so
+ * the poller can move on, and a slot whose response was not read within the timeout, a lap later, is freed.
+ */
+@Slf4j
+public class SharedMemoryCalculatorServer implements SmartLifecycle {
+
+    public static final Duration DEFAULT_ABANDON_TIMEOUT = Duration.ofSeconds(1);
+
+    private final OperationRegistry operationRegistry;
+    private final Path path;
+    private final int capacity;
+    private final WaitStrategy waitStrategy;
+    private final long abandonTimeoutNanos;
+
+    private SharedMemoryRing ring;
+    private Thread poller;
+    private volatile boolean running;
+
+    public SharedMemoryCalculatorServer(OperationRegistry operationRegistry, Path path, int capacity,
+                                        WaitStrategy waitStrategy) {
+        this(operationRegistry, path, capacity, waitStrategy, DEFAULT_ABANDON_TIMEOUT);
+    }
+
+    /**
+     * @param abandonTimeout how long a claimed slot may stay unpublished, or an answered slot unread,
+     *                       before the poller gives up on its client
+     */
+    public SharedMemoryCalculatorServer(OperationRegistry operationRegistry, Path path, int capacity,
+                                        WaitStrategy waitStrategy, Duration abandonTimeout) {
+        this.operationRegistry = operationRegistry;
+        this.path = path;
+        this.capacity = capacity;
+        this.waitStrategy = waitStrategy;
+        this.abandonTimeoutNanos = abandonTimeout.toNanos();
+    }
+
+    @Override
+    public synchronized void start() {
+        if (running) {
+            return;
+        }
+        try {
+            ring = SharedMemoryRing.create(path, capacity);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create shared memory ring " + path, e);
+        }
+        running = true;
+        poller = new Thread(this::poll, "shm-poller");
+        poller.setDaemon(true);
+        poller.start();
+        log.info("Shared memory ring {} with {} slots polled with {}", path, capacity, waitStrategy);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        try {
+            poller.join();
+            ring.close();
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Error closing shared memory ring {}", path, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        log.info("Shared memory ring {} stopped", path);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void poll() {
+        NumericAccumulator accumulator = new NumericAccumulator();
+        NumericAccumulator operand = new NumericAccumulator();
+        long position = 0;
+        // When the slot at position was first seen stalled, or -1 while it is not
+        long stalledSince = -1;
+
+        while (running) {
+            long sequence = ring.sequence(position);
+            if (sequence != position + 1) {
+                if (!isStalled(position, sequence)) {
+                    stalledSince = -1;
+                } else if (stalledSince < 0) {
+                    stalledSince = System.nanoTime();
+                } else if (System.nanoTime() - stalledSince > abandonTimeoutNanos) {
+                    stalledSince = -1;
+                    if (abandon(position, sequence)) {
+                        position++;
+                    }
+                    continue;
+                }
+                waitStrategy.idle();
+                continue;
+            }
+            stalledSince = -1;
+            try {
+                Operation operation = ring.readRequest(position, accumulator, operand);
+                OperationStrategy strategy = operationRegistry.getStrategy(operation).orElse(null);
+                CalculationResult result = strategy != null
+                        ? strategy.evaluateInPlace(accumulator, operand)
+                        : CalculationResult.error("Unsupported operation: " + operation);
+                if (!result.isSuccess()) {
+                    ring.writeError(position, result.getError());
+                } else if (!accumulator.isPrimitive()) {
+                    // Promoted past a long, which the slot format has no tag for
+                    ring.writeError(position, "Result is out of range: " + accumulator.toNumber());
+                } else {
+                    ring.writeResult(position, accumulator);
+                }
+            } catch (IllegalArgumentException e) {
+                ring.writeError(position, e.getMessage());
+            } catch (RuntimeException e) {
+                log.error("Unexpected error handling shared memory request at {}", position, e);
+                ring.writeError(position, "An unexpected error occurred");
+            }
+            ring.publish(position, position + 2);
+            position++;
+        }
+    }
+
+    /**
+     * Check whether the slot at position is held by a client: claimed but not yet published,
+     * or still holding its response from the previous lap
+     */
+    private boolean isStalled(long position, long sequence) {
+        return (sequence == position && ring.tail() > position) || sequence == position - capacity + 2;
+    }
+
+    /**
+     * Give up on the client holding the slot at position
+     *
+     * @return true if the slot was claimed but unpublished and has been answered with an error,
+     * false if it was freed for this lap or the client published it meanwhile
+     */
+    private boolean abandon(long position, long sequence) {
+        if (sequence != position) {
+            if (ring.publish(position, sequence, position)) {
+                log.warn("Freed shared memory slot at {} whose response was not read", position - capacity);
+            }
+            return false;
+        }
+        ring.writeError(position, "Request was not published in time");
+        if (!ring.publish(position, position, position + 2)) {
+            return false;
+        }
+        log.warn("Abandoned shared memory request at {} that was claimed but not published", position);
+        return true;
+    }
+}
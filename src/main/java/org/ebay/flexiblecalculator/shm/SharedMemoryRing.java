@@ -0,0 +1,264 @@
+package org.ebay.flexiblecalculator.shm;
+
+import org.ebay.flexiblecalculator.binary.BinaryProtocol;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.NumericType;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Ring of calculation slots in a memory-mapped file, shared by the calculator and client processes
+ * on the same host. Values use the native byte order.
+ * <pre>
+ * Header, 128 bytes:
+ *   int   magic          0x43414C43
+ *   int   version        1
+ *   int   capacity       number of slots, a power of two
+ *   long  tail           at 64: next position to claim, advanced by clients with compare-and-set
+ *
+ * Slot, 128 bytes:
+ *   long  sequence       state of the slot, see below
+ *   byte  operation      Operation ordinal
+ *   byte  type1          NumericType ordinal of num1
+ *   byte  type2          NumericType ordinal of num2
+ *   byte  status         0 for a result, 1 for an error
+ *   byte  resultType     NumericType ordinal of the result
+ *   long  num1           at 16; INT and LONG as a long, FLOAT and DOUBLE as double bits
+ *   long  num2           at 24
+ *   long  result         at 32
+ *   short errorLength    at 40
+ *   byte[errorLength]    at 42: UTF-8 error message, truncated to 86 bytes
+ * </pre>
+ * The slot for position p has sequence p while free, p + 1 once a client has written its request
+ * and p + 2 once the poller has written the response. The client then frees it for the next lap
+ * by setting p + capacity. Several clients can claim positions concurrently; a single poller answers
+ * them in position order, so the slots act as both the request and the response queue.
+ * <p>
+ * A client that dies between claiming and publishing would hold up every later position, so the poller
+ * answers a slot that stays claimed but unpublished past a timeout with an error, moving it from p to
+ * p + 2 itself. Clients publish and free with compare-and-set, so a client that was only slow finds
+ * its slot already answered. Likewise, a slot still answered but not freed when the poller comes
+ * back to it a lap later is freed by the poller after the same timeout.
+ */
+public final class SharedMemoryRing implements AutoCloseable {
+
+    static final int MAGIC = 0x43414C43;
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 128;
+    static final int SLOT_SIZE = 128;
+    static final int MAX_ERROR_MESSAGE_LENGTH = SLOT_SIZE - 42;
+
+    static final byte STATUS_OK = 0;
+    static final byte STATUS_ERROR = 1;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 4;
+    private static final int CAPACITY_OFFSET = 8;
+    private static final int TAIL_OFFSET = 64;
+
+    private static final int SEQUENCE = 0;
+    private static final int OPERATION = 8;
+    private static final int TYPE1 = 9;
+    private static final int TYPE2 = 10;
+    private static final int STATUS = 11;
+    private static final int RESULT_TYPE = 12;
+    private static final int NUM1 = 16;
+    private static final int NUM2 = 24;
+    private static final int RESULT = 32;
+    private static final int ERROR_LENGTH = 40;
+    private static final int ERROR_MESSAGE = 42;
+
+    private static final VarHandle LONGS =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+    private static final Operation[] OPERATIONS = Operation.values();
+    private static final NumericType[] TYPES = NumericType.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+
+    private SharedMemoryRing(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Create the ring file, replacing any previous one. Done by the calculator before its poller starts.
+     *
+     * @param capacity number of slots, a power of two
+     */
+    public static SharedMemoryRing create(Path path, int capacity) throws IOException {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a positive power of two: " + capacity);
+        }
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        try {
+            MappedByteBuffer buffer = map(channel, HEADER_SIZE + (long) capacity * SLOT_SIZE);
+            for (int i = 0; i < capacity; i++) {
+                LONGS.setRelease(buffer, HEADER_SIZE + i * SLOT_SIZE + SEQUENCE, (long) i);
+            }
+            buffer.putInt(CAPACITY_OFFSET, capacity).putInt(VERSION_OFFSET, VERSION);
+            LONGS.setRelease(buffer, TAIL_OFFSET, 0L);
+            // Written last, so a client never maps a half-initialized ring
+            buffer.putInt(MAGIC_OFFSET, MAGIC);
+            return new SharedMemoryRing(channel, buffer, capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Map an existing ring file. Done by clients.
+     *
+     * @throws IllegalStateException if the file is not an initialized ring of this version
+     */
+    public static SharedMemoryRing open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = map(channel, HEADER_SIZE);
+            if (header.getInt(MAGIC_OFFSET) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IllegalStateException("Not a calculator ring of version " + VERSION + ": " + path);
+            }
+            int capacity = header.getInt(CAPACITY_OFFSET);
+            return new SharedMemoryRing(channel, map(channel, HEADER_SIZE + (long) capacity * SLOT_SIZE), capacity);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static MappedByteBuffer map(FileChannel channel, long size) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        buffer.order(ByteOrder.nativeOrder());
+        return buffer;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    long tail() {
+        return (long) LONGS.getVolatile(buffer, TAIL_OFFSET);
+    }
+
+    boolean claim(long position) {
+        return LONGS.compareAndSet(buffer, TAIL_OFFSET, position, position + 1);
+    }
+
+    long sequence(long position) {
+        return (long) LONGS.getAcquire(buffer, slot(position) + SEQUENCE);
+    }
+
+    /**
+     * Set the slot sequence, making every field written before it visible to the other side
+     */
+    void publish(long position, long sequence) {
+        LONGS.setRelease(buffer, slot(position) + SEQUENCE, sequence);
+    }
+
+    /**
+     * Set the slot sequence if it is still the expected one, making every field written before it visible
+     *
+     * @return false if the other side changed the sequence first
+     */
+    boolean publish(long position, long expected, long sequence) {
+        return LONGS.compareAndSet(buffer, slot(position) + SEQUENCE, expected, sequence);
+    }
+
+    void writeRequest(long position, Operation operation, NumericAccumulator num1, NumericAccumulator num2) {
+        int slot = slot(position);
+        buffer.put(slot + OPERATION, (byte) operation.ordinal())
+                .put(slot + TYPE1, (byte) num1.type().ordinal())
+                .put(slot + TYPE2, (byte) num2.type().ordinal())
+                .putLong(slot + NUM1, bits(num1))
+                .putLong(slot + NUM2, bits(num2));
+    }
+
+    /**
+     * Load the operands of a request
+     *
+     * @return the requested operation
+     * @throws IllegalArgumentException if the operation code or a type tag is unknown
+     */
+    Operation readRequest(long position, NumericAccumulator num1, NumericAccumulator num2) {
+        int slot = slot(position);
+        byte code = buffer.get(slot + OPERATION);
+        if (code < 0 || code >= OPERATIONS.length) {
+            throw new IllegalArgumentException("Unsupported operation code: " + code);
+        }
+        load(num1, buffer.get(slot + TYPE1), buffer.getLong(slot + NUM1));
+        load(num2, buffer.get(slot + TYPE2), buffer.getLong(slot + NUM2));
+        return OPERATIONS[code];
+    }
+
+    void writeResult(long position, NumericAccumulator result) {
+        int slot = slot(position);
+        buffer.put(slot + STATUS, STATUS_OK)
+                .put(slot + RESULT_TYPE, (byte) result.type().ordinal())
+                .putLong(slot + RESULT, bits(result));
+    }
+
+    void writeError(long position, String message) {
+        int slot = slot(position);
+        int length = BinaryProtocol.putMessage(buffer, slot + ERROR_MESSAGE, MAX_ERROR_MESSAGE_LENGTH, message);
+        buffer.put(slot + STATUS, STATUS_ERROR)
+                .putShort(slot + ERROR_LENGTH, (short) length);
+    }
+
+    /**
+     * Read a response
+     *
+     * @throws CalculationException if the poller answered with an error
+     */
+    Number readResponse(long position, NumericAccumulator result) {
+        int slot = slot(position);
+        if (buffer.get(slot + STATUS) == STATUS_ERROR) {
+            byte[] message = new byte[buffer.getShort(slot + ERROR_LENGTH)];
+            buffer.get(slot + ERROR_MESSAGE, message);
+            throw new CalculationException(new String(message, StandardCharsets.UTF_8));
+        }
+        load(result, buffer.get(slot + RESULT_TYPE), buffer.getLong(slot + RESULT));
+        return result.toNumber();
+    }
+
+    private int slot(long position) {
+        return HEADER_SIZE + (int) (position & mask) * SLOT_SIZE;
+    }
+
+    private static long bits(NumericAccumulator value) {
+        return value.type().isIntegral() ? value.longValue() : Double.doubleToRawLongBits(value.doubleValue());
+    }
+
+    private static void load(NumericAccumulator target, byte tag, long bits) {
+        if (tag < 0 || tag >= TYPES.length) {
+            throw new IllegalArgumentException("Unsupported type tag: " + tag);
+        }
+        switch (TYPES[tag]) {
+            case INT -> target.setInt((int) bits);
+            case LONG -> target.setLong(bits);
+            case FLOAT -> target.setFloat((float) Double.longBitsToDouble(bits));
+            case DOUBLE -> target.setDouble(Double.longBitsToDouble(bits));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
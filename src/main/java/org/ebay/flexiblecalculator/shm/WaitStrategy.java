@@ -0,0 +1,46 @@
+package org.ebay.flexiblecalculator.shm;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * How a thread waits for the other side of the shared memory ring, trading CPU for latency
+ */
+public enum WaitStrategy {
+
+    /**
+     * Spin on the CPU; lowest latency, but keeps a core busy even when idle
+     */
+    BUSY_SPIN {
+        @Override
+        public void idle() {
+            Thread.onSpinWait();
+        }
+    },
+
+    /**
+     * Give the CPU to other runnable threads between checks
+     */
+    YIELD {
+        @Override
+        public void idle() {
+            Thread.yield();
+        }
+    },
+
+    /**
+     * Sleep briefly between checks; cheapest when idle, adds timer latency to every wake-up
+     */
+    PARK {
+        @Override
+        public void idle() {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    };
+
+    private static final long PARK_NANOS = 1_000;
+
+    /**
+     * Wait once before checking again
+     */
+    public abstract void idle();
+}
@@ -0,0 +1,64 @@
+package org.ebay.flexiblecalculator.integration;
+
+import org.ebay.flexiblecalculator.binary.BinaryProtocol;
+import org.ebay.flexiblecalculator.job.BatchFileFormat;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration test for the batch file job
+ * Tests that the job runs on startup, without a web server, and writes a result for every input record
+ */
+@SpringBootTest(properties = {"calculator.job.enabled=true", "spring.main.web-application-type=none"})
+public class BatchFileJobIntegrationTest {
+
+    private static final Path DIRECTORY = createDirectory();
+    private static final Path INPUT = DIRECTORY.resolve("calculations.bin");
+    private static final Path OUTPUT = DIRECTORY.resolve("results.bin");
+
+    @DynamicPropertySource
+    static void jobFiles(DynamicPropertyRegistry registry) throws IOException {
+        ByteBuffer records = ByteBuffer.allocate(BatchFileFormat.INPUT_HEADER_SIZE + 2 * BatchFileFormat.RECORD_SIZE);
+        BatchFileFormat.writeInputHeader(records, 2);
+        BatchFileFormat.writeRecord(records, 1, Operation.MULTIPLY, 1000, 7);
+        BatchFileFormat.writeRecord(records, 2, Operation.DIVIDE, 1, 0);
+        Files.write(INPUT, records.array());
+
+        registry.add("calculator.job.input", INPUT::toString);
+        registry.add("calculator.job.output", OUTPUT::toString);
+    }
+
+    @Test
+    @DisplayName("Should write the results of the input file on startup")
+    void shouldWriteResultsOnStartup() throws Exception {
+        ByteBuffer results = ByteBuffer.wrap(Files.readAllBytes(OUTPUT));
+        int first = (int) BatchFileFormat.resultsOffset(1);
+        int second = first + BatchFileFormat.RESULT_SIZE;
+
+        assertEquals(1, results.getInt(first));
+        assertEquals(BatchFileFormat.STATUS_OK, results.get(first + 4));
+        assertEquals(7000, BinaryProtocol.decode(results.get(first + 5), results.getLong(first + 8)));
+        assertEquals(2, results.getInt(second));
+        assertEquals(BatchFileFormat.STATUS_ERROR, results.get(second + 4));
+    }
+
+    private static Path createDirectory() {
+        try {
+            return Files.createTempDirectory("calculator");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package org.ebay.flexiblecalculator.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import org.ebay.flexiblecalculator.config.JacksonFormatsConfig;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test for CBOR and Smile content negotiation
+ * Tests that the endpoints read and write the Response envelope in the format chosen by Content-Type and Accept
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BinaryFormatsIntegrationTest {
+
+    private static final ObjectMapper CBOR = new CBORMapper();
+    private static final ObjectMapper SMILE = new SmileMapper();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should accept and produce CBOR for a calculation")
+    void shouldCalculateInCbor() throws Exception {
+        JsonNode response = exchange(CBOR, MediaType.APPLICATION_CBOR, "/calculate",
+                new CalculateRequest(Operation.MULTIPLY, 1000, 7), 200);
+
+        assertEquals("200", response.get("code").asText());
+        assertEquals("Success", response.get("message").asText());
+        assertEquals(7000, response.get("data").asInt());
+    }
+
+    @Test
+    @DisplayName("Should accept and produce Smile for a chain")
+    void shouldCalculateChainInSmile() throws Exception {
+        ChainRequest request = new ChainRequest(10, List.of(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.MULTIPLY, 2.5)));
+
+        JsonNode response = exchange(SMILE, JacksonFormatsConfig.APPLICATION_SMILE, "/chain", request, 200);
+
+        assertEquals(37.5, response.get("data").asDouble());
+    }
+
+    @Test
+    @DisplayName("Should produce one envelope per item for a CBOR batch")
+    void shouldCalculateBatchInCbor() throws Exception {
+        BatchCalculateRequest request = new BatchCalculateRequest(List.of(
+                new CalculateRequest(Operation.ADD, 1, 2),
+                new CalculateRequest(Operation.DIVIDE, 1, 0)));
+
+        JsonNode response = exchange(CBOR, MediaType.APPLICATION_CBOR, "/calculate/batch", request, 200);
+
+        assertEquals(3, response.get("data").get(0).get("data").asInt());
+        assertEquals("400", response.get("data").get(1).get("code").asText());
+    }
+
+    @Test
+    @DisplayName("Should write errors in the negotiated format")
+    void shouldWriteErrorsInCbor() throws Exception {
+        JsonNode response = exchange(CBOR, MediaType.APPLICATION_CBOR, "/calculate",
+                new CalculateRequest(Operation.DIVIDE, 1, 0), 400);
+
+        assertEquals("400", response.get("code").asText());
+        assertEquals("Division by zero is not allowed", response.get("message").asText());
+    }
+
+    @Test
+    @DisplayName("Should answer a JSON request in Smile when asked to")
+    void shouldAnswerJsonRequestInSmile() throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(JacksonFormatsConfig.APPLICATION_SMILE)
+                        .content("{\"operation\":\"ADD\",\"num1\":5,\"num2\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(JacksonFormatsConfig.APPLICATION_SMILE))
+                .andReturn();
+
+        assertEquals(8, SMILE.readTree(result.getResponse().getContentAsByteArray()).get("data").asInt());
+    }
+
+    @Test
+    @DisplayName("Should keep answering JSON when no format is asked for")
+    void shouldDefaultToJson() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"ADD\",\"num1\":5,\"num2\":3}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
+    private JsonNode exchange(ObjectMapper mapper, MediaType mediaType, String path, Object request,
+                              int expectedStatus) throws Exception {
+        MvcResult result = mockMvc.perform(post("/api/v1/calculator" + path)
+                        .contentType(mediaType)
+                        .accept(mediaType)
+                        .content(mapper.writeValueAsBytes(request)))
+                .andExpect(status().is(expectedStatus))
+                .andExpect(content().contentTypeCompatibleWith(mediaType))
+                .andReturn();
+        return mapper.readTree(result.getResponse().getContentAsByteArray());
+    }
+}
@@ -0,0 +1,162 @@
+package org.ebay.flexiblecalculator.integration;
+
+import org.ebay.flexiblecalculator.binary.BinaryCalculatorClient;
+import org.ebay.flexiblecalculator.binary.BinaryCalculatorServer;
+import org.ebay.flexiblecalculator.binary.BinaryProtocol;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the binary protocol TCP listener
+ * Tests calculations, chains, errors and pipelining through BinaryCalculatorClient against the running server
+ */
+@SpringBootTest(properties = {"calculator.binary.tcp.enabled=true", "calculator.binary.tcp.port=0"})
+public class BinaryTcpIntegrationTest {
+
+    @Autowired
+    private BinaryCalculatorServer server;
+
+    private BinaryCalculatorClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = BinaryCalculatorClient.connect("localhost", server.getPort());
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Should calculate with every operand type and keep the promoted result type")
+    void shouldCalculateWithEveryOperandType() {
+        assertEquals(8, client.calculate(Operation.ADD, 5, 3));
+        assertEquals(6_000_000_000L, client.calculate(Operation.MULTIPLY, 3_000_000_000L, 2));
+        assertEquals(7.5f, client.calculate(Operation.SUBTRACT, 10, 2.5f));
+        assertEquals(2.5, client.calculate(Operation.DIVIDE, 5.0, 2));
+    }
+
+    @Test
+    @DisplayName("Should answer division by zero with an error and keep the connection usable")
+    void shouldAnswerErrorsAndKeepConnection() {
+        CalculationException exception = assertThrows(CalculationException.class,
+                () -> client.calculate(Operation.DIVIDE, 10, 0));
+
+        assertTrue(exception.getMessage().contains("zero"), exception.getMessage());
+        assertEquals(2, client.calculate(Operation.DIVIDE, 10, 5));
+    }
+
+    @Test
+    @DisplayName("Should evaluate chains with the same semantics as the chain endpoint")
+    void shouldEvaluateChains() {
+        // 10 + 5 = 15, * 2 = 30, - 5 = 25, / 5 = 5
+        ChainRequest chain = new ChainRequest(10, List.of(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.MULTIPLY, 2),
+                new ChainOperation(Operation.SUBTRACT, 5),
+                new ChainOperation(Operation.DIVIDE, 5)));
+
+        assertEquals(5, client.calculateChain(chain));
+        assertThrows(CalculationException.class, () -> client.calculateChain(
+                new ChainRequest(10, List.of(new ChainOperation(Operation.DIVIDE, 0)))));
+        assertThrows(CalculationException.class, () -> client.calculateChain(new ChainRequest(10, List.of())));
+        assertEquals(11, client.calculate(Operation.ADD, 10, 1));
+    }
+
+    @Test
+    @DisplayName("Should answer a frame that cannot be sized with an error and close the connection")
+    void shouldCloseConnectionOnUnframeableRequest() throws Exception {
+        try (SocketChannel channel = SocketChannel.open(new InetSocketAddress("localhost", server.getPort()))) {
+            ByteBuffer request = ByteBuffer.allocate(BinaryProtocol.REQUEST_SIZE);
+            BinaryProtocol.writeRequest(request, 99, Operation.ADD, 1, 1);
+            request.put(7, BinaryProtocol.KIND_CHAIN).putLong(16, Long.MAX_VALUE);
+            channel.write(request.flip());
+
+            ByteBuffer response = ByteBuffer.allocate(BinaryProtocol.MAX_RESPONSE_SIZE);
+            while (channel.read(response) >= 0) {
+                // read until the server closes the connection
+            }
+
+            assertEquals(99, response.getInt(0));
+            assertEquals(BinaryProtocol.STATUS_ERROR, response.get(4));
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer many pipelined requests on one connection")
+    void shouldAnswerPipelinedRequests() throws Exception {
+        // more requests than fit in the server's buffers, so its backpressure is exercised
+        int count = 20_000;
+        List<CalculateRequest> requests = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            requests.add(new CalculateRequest(Operation.ADD, i, 1));
+        }
+
+        List<CompletableFuture<Number>> results = client.calculateAll(requests);
+
+        for (int i = 0; i < count; i++) {
+            assertEquals(i + 1, results.get(i).get(30, TimeUnit.SECONDS));
+        }
+        assertEquals(0, client.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("Should match responses to requests from concurrent callers")
+    void shouldMatchResponsesFromConcurrentCallers() throws Exception {
+        int callers = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        List<Future<?>> done = new ArrayList<>();
+        try {
+            for (int c = 0; c < callers; c++) {
+                int caller = c;
+                done.add(executor.submit(() -> {
+                    for (int i = 0; i < 500; i++) {
+                        assertEquals(caller * 1000L + i,
+                                client.calculate(Operation.ADD, caller * 1000L, i));
+                    }
+                }));
+            }
+            for (Future<?> future : done) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail requests in flight when the connection is closed")
+    void shouldFailRequestsAfterClose() throws Exception {
+        client.close();
+
+        CompletableFuture<Number> result = client.calculateAsync(Operation.ADD, 1, 2);
+
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> result.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+}
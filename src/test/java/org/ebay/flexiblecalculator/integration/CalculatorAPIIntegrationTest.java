@@ -1,9 +1,13 @@
 package org.ebay.flexiblecalculator.integration;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.ChainOperation;
 import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.request.ColumnarBatchRequest;
+import org.ebay.flexiblecalculator.dto.request.ExpressionRequest;
+import org.ebay.flexiblecalculator.model.NumericColumn;
 import org.ebay.flexiblecalculator.model.Operation;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,8 +18,11 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Arrays;
+import java.util.Map;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -49,6 +56,19 @@ public class CalculatorAPIIntegrationTest {
                 .andExpect(jsonPath("$.data").value(8));
     }
 
+    @Test
+    @DisplayName("Should echo the request correlation id on the response")
+    void shouldEchoCorrelationId() throws Exception {
+        CalculateRequest request = new CalculateRequest(Operation.ADD, 5, 3);
+
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .header("X-Correlation-Id", "test-request-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Correlation-Id", "test-request-1"));
+    }
+
     @Test
     @DisplayName("Should process chain calculation request through API")
     void shouldProcessChainCalculationRequest() throws Exception {
@@ -72,6 +92,20 @@ public class CalculatorAPIIntegrationTest {
                 .andExpect(jsonPath("$.data").value(25));
     }
 
+    @Test
+    @DisplayName("Should evaluate chain in exact division mode through API")
+    void shouldEvaluateChainInExactDivisionMode() throws Exception {
+        // 1 / 49 * 49 is 0.9999999999999999 in doubles
+        String json = "{\"initialValue\":1,\"divisionMode\":\"EXACT\",\"operations\":["
+                + "{\"operation\":\"DIVIDE\",\"value\":49},{\"operation\":\"MULTIPLY\",\"value\":49}]}";
+
+        mockMvc.perform(post("/api/v1/calculator/chain")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isOk())
+                .andExpect(content().string("{\"code\":\"200\",\"message\":\"Success\",\"data\":1}"));
+    }
+
     @Test
     @DisplayName("Should handle division by zero error")
     void shouldHandleDivisionByZeroError() throws Exception {
@@ -141,4 +175,147 @@ public class CalculatorAPIIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Success"))
                 .andExpect(jsonPath("$.data").value(70));
     }
+
+    @Test
+    @DisplayName("Should evaluate expression request through API")
+    void shouldEvaluateExpressionRequest() throws Exception {
+        // Create an expression request with a variable value
+        ExpressionRequest request = new ExpressionRequest("(3 + 4) * 2 / x", Map.of("x", 4));
+
+        // Send request and verify response
+        mockMvc.perform(post("/api/v1/calculator/expression")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data").value(3.5));
+    }
+
+    @Test
+    @DisplayName("Should report where an invalid expression fails")
+    void shouldReportWhereInvalidExpressionFails() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/expression")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"expression\":\"3 + * 4\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid parameters"))
+                .andExpect(jsonPath("$.data.expression").value("Unexpected '*' at index 4"));
+    }
+
+    @Test
+    @DisplayName("Should process batch calculation request with per-item errors")
+    void shouldProcessBatchCalculationRequest() throws Exception {
+        // Create a batch with one failing calculation
+        BatchCalculateRequest request = new BatchCalculateRequest(
+                Arrays.asList(
+                        new CalculateRequest(Operation.ADD, 5, 3),
+                        new CalculateRequest(Operation.DIVIDE, 5, 0),
+                        new CalculateRequest(Operation.MULTIPLY, 2.5, 3.5)
+                )
+        );
+
+        // Send request and verify response
+        mockMvc.perform(post("/api/v1/calculator/calculate/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data[0].code").value("200"))
+                .andExpect(jsonPath("$.data[0].data").value(8))
+                .andExpect(jsonPath("$.data[1].code").value("400"))
+                .andExpect(jsonPath("$.data[1].message").value("Division by zero is not allowed"))
+                .andExpect(jsonPath("$.data[2].data").value(8.75));
+    }
+
+    @Test
+    @DisplayName("Should process columnar batch request through API")
+    void shouldProcessColumnarBatchRequest() throws Exception {
+        // Create a columnar request whose second pair divides by zero
+        ColumnarBatchRequest request = new ColumnarBatchRequest(Operation.DIVIDE,
+                NumericColumn.ofLongs(10, 7, 9), NumericColumn.ofLongs(4, 0, 3));
+
+        // Send request and verify response
+        mockMvc.perform(post("/api/v1/calculator/calculate/columnar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data.values[0]").value(2.5))
+                .andExpect(jsonPath("$.data.values[2]").value(3.0))
+                .andExpect(jsonPath("$.data.errors[0]").value(1))
+                .andExpect(jsonPath("$.data.error").value("Division by zero is not allowed"));
+    }
+
+    @Test
+    @DisplayName("Should reject columnar batch with columns of different lengths")
+    void shouldRejectColumnarBatchWithDifferentLengths() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/calculate/columnar")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"operation\":\"ADD\",\"num1\":[1,2],\"num2\":[1]}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.data.num2").value("Must have as many values as num1"));
+    }
+
+    @Test
+    @DisplayName("Should stream CSV calculation results through API")
+    void shouldStreamCsvCalculationResults() throws Exception {
+        String csv = "operation,num1,num2\nADD,5,3\nDIVIDE,1,0\n10,ADD,5,MULTIPLY,2\n";
+
+        mockMvc.perform(post("/api/v1/calculator/calculate/stream")
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "text/csv;charset=UTF-8"))
+                .andExpect(content().string("200,Success,8\n400,Division by zero is not allowed,\n200,Success,30\n"));
+    }
+
+    @Test
+    @DisplayName("Should stream NDJSON calculation results through API")
+    void shouldStreamNdjsonCalculationResults() throws Exception {
+        String ndjson = "{\"operation\":\"MULTIPLY\",\"num1\":6,\"num2\":7}\n"
+                + "{\"initialValue\":1,\"operations\":[{\"operation\":\"ADD\",\"value\":1}]}\n";
+
+        mockMvc.perform(post("/api/v1/calculator/calculate/stream")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", MediaType.APPLICATION_NDJSON_VALUE))
+                .andExpect(content().string("{\"code\":\"200\",\"message\":\"Success\",\"data\":42}\n"
+                        + "{\"code\":\"200\",\"message\":\"Success\",\"data\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("Should process streamed chain calculation request through API")
+    void shouldProcessStreamedChainCalculationRequest() throws Exception {
+        // Serialize a regular chain request; the streaming endpoint accepts the same body
+        ChainRequest request = new ChainRequest(
+                10,
+                Arrays.asList(
+                        new ChainOperation(Operation.ADD, 5),
+                        new ChainOperation(Operation.MULTIPLY, 2),
+                        new ChainOperation(Operation.SUBTRACT, 5)
+                )
+        );
+
+        // Send request and verify response
+        mockMvc.perform(post("/api/v1/calculator/chain/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.code").value("200"))
+                .andExpect(jsonPath("$.data").value(25));
+    }
+
+    @Test
+    @DisplayName("Should report failing index for invalid streamed chain")
+    void shouldReportFailingIndexForInvalidStreamedChain() throws Exception {
+        String invalidJson = "{\"initialValue\":1,\"operations\":[{\"operation\":\"ADD\",\"value\":1},{\"operation\":\"ADD\"}]}";
+
+        mockMvc.perform(post("/api/v1/calculator/chain/stream")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(invalidJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.data['operations[1].value']").value("Operation value is required"));
+    }
 }
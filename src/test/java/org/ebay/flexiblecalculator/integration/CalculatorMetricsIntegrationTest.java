@@ -0,0 +1,59 @@
+package org.ebay.flexiblecalculator.integration;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test for the calculation metrics
+ * Tests that calculations and their failures are reported through the actuator metrics endpoint
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@DirtiesContext(classMode = DirtiesContext.ClassMode.BEFORE_CLASS)
+public class CalculatorMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    @DisplayName("Should expose calculation timer and error counter per operation")
+    void shouldExposeCalculationTimerAndErrorCounter() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CalculateRequest(Operation.DIVIDE, 10, 2))))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CalculateRequest(Operation.DIVIDE, 10, 0))))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/actuator/metrics/" + CalculatorMetrics.CALCULATION_TIMER)
+                        .param("tag", "operation:DIVIDE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.measurements[?(@.statistic == 'COUNT')].value").value(1.0));
+
+        mockMvc.perform(get("/actuator/metrics/" + CalculatorMetrics.ERROR_COUNTER)
+                        .param("tag", "operation:DIVIDE")
+                        .param("tag", "exception:CalculationException"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.measurements[0].value").value(1.0));
+    }
+}
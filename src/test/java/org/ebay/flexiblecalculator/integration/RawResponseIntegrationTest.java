@@ -0,0 +1,78 @@
+package org.ebay.flexiblecalculator.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Integration test for the raw response mode and the fast envelope writer
+ * Tests that text/plain returns the bare result or error message, and that JSON stays the default
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class RawResponseIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    @DisplayName("Should write the bare result when plain text is accepted")
+    void shouldWriteRawResult() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_PLAIN)
+                        .content("{\"operation\":\"MULTIPLY\",\"num1\":1000,\"num2\":7}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("7000"));
+
+        mockMvc.perform(post("/api/v1/calculator/chain")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_PLAIN)
+                        .content("{\"initialValue\":10,\"operations\":"
+                                + "[{\"operation\":\"ADD\",\"value\":5},{\"operation\":\"MULTIPLY\",\"value\":2.5}]}"))
+                .andExpect(status().isOk())
+                .andExpect(content().string("37.5"));
+    }
+
+    @Test
+    @DisplayName("Should write the bare error message when plain text is accepted")
+    void shouldWriteRawError() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.TEXT_PLAIN)
+                        .content("{\"operation\":\"DIVIDE\",\"num1\":1,\"num2\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string("Division by zero is not allowed"));
+    }
+
+    @Test
+    @DisplayName("Should write the JSON envelope for results and errors by default")
+    void shouldDefaultToJsonEnvelope() throws Exception {
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.ALL)
+                        .content("{\"operation\":\"ADD\",\"num1\":2.5,\"num2\":1}"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().string("{\"code\":\"200\",\"message\":\"Success\",\"data\":3.5}"))
+                .andExpect(header().longValue("Content-Length", 45));
+
+        mockMvc.perform(post("/api/v1/calculator/calculate")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.ALL)
+                        .content("{\"operation\":\"DIVIDE\",\"num1\":1,\"num2\":0}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.code").value("400"))
+                .andExpect(jsonPath("$.message").value("Division by zero is not allowed"));
+    }
+}
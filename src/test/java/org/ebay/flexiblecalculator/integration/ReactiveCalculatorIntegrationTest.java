@@ -0,0 +1,269 @@
+package org.ebay.flexiblecalculator.integration;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.ebay.flexiblecalculator.dto.request.BatchCalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.logging.CorrelationIdFilter;
+import org.ebay.flexiblecalculator.logging.RequestLogger;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.netty.NettyWebServer;
+import org.springframework.boot.web.reactive.context.ReactiveWebServerApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Integration test for the reactive calculator API
+ * Tests the endpoints served by the reactive controller on Netty
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"spring.main.web-application-type=reactive", "calculator.logging.sample-rate=1"})
+public class ReactiveCalculatorIntegrationTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ReactiveWebServerApplicationContext context;
+
+    @Test
+    @DisplayName("Should serve the reactive API on Netty")
+    void shouldServeOnNetty() {
+        assertInstanceOf(NettyWebServer.class, context.getWebServer());
+    }
+
+    @Test
+    @DisplayName("Should process basic calculation request")
+    void shouldProcessBasicCalculationRequest() {
+        webTestClient.post().uri("/api/v1/calculator/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CalculateRequest(Operation.ADD, 5, 3))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("200")
+                .jsonPath("$.message").isEqualTo("Success")
+                .jsonPath("$.data").isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Should echo the correlation id and log the request with it in the MDC")
+    void shouldEchoCorrelationIdAndLogItInMdc() {
+        // Arrange: capture the request log, copying each event's MDC on the thread that logged it
+        Logger requestLog = (Logger) LoggerFactory.getLogger(RequestLogger.LOGGER_NAME);
+        List<String> correlationIds = new CopyOnWriteArrayList<>();
+        AppenderBase<ILoggingEvent> appender = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                correlationIds.add(String.valueOf(event.getMDCPropertyMap().get(CorrelationIdFilter.MDC_KEY)));
+            }
+        };
+        appender.start();
+        requestLog.addAppender(appender);
+
+        try {
+            // Act
+            webTestClient.post().uri("/api/v1/calculator/calculate")
+                    .header("X-Correlation-Id", "reactive-request-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .bodyValue(new CalculateRequest(Operation.ADD, 5, 3))
+                    .exchange()
+                    .expectStatus().isOk()
+                    .expectHeader().valueEquals("X-Correlation-Id", "reactive-request-1");
+        } finally {
+            requestLog.detachAppender(appender);
+        }
+
+        // Assert
+        assertEquals(List.of("reactive-request-1"), correlationIds);
+    }
+
+    @Test
+    @DisplayName("Should generate a correlation id when the request has none")
+    void shouldGenerateCorrelationId() {
+        String correlationId = webTestClient.post().uri("/api/v1/calculator/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CalculateRequest(Operation.ADD, 5, 3))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Response.class)
+                .getResponseHeaders()
+                .getFirst("X-Correlation-Id");
+
+        assertTrue(correlationId != null && correlationId.matches("[0-9a-f]{16}"));
+    }
+
+    @Test
+    @DisplayName("Should accept and produce CBOR")
+    void shouldProcessCborCalculationRequest() throws Exception {
+        ObjectMapper cbor = new CBORMapper();
+
+        byte[] body = webTestClient.post().uri("/api/v1/calculator/calculate")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .bodyValue(cbor.writeValueAsBytes(new CalculateRequest(Operation.ADD, 5, 3)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR)
+                .expectBody(byte[].class)
+                .returnResult()
+                .getResponseBody();
+
+        assertEquals(8, cbor.readTree(body).get("data").asInt());
+    }
+
+    @Test
+    @DisplayName("Should process chain calculation request")
+    void shouldProcessChainCalculationRequest() {
+        ChainRequest request = new ChainRequest(10, Arrays.asList(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.MULTIPLY, 2),
+                new ChainOperation(Operation.SUBTRACT, 5)
+        ));
+
+        webTestClient.post().uri("/api/v1/calculator/chain")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").isEqualTo(25);
+    }
+
+    @Test
+    @DisplayName("Should process streamed chain calculation request")
+    void shouldProcessStreamedChainCalculationRequest() {
+        webTestClient.post().uri("/api/v1/calculator/chain/stream")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"initialValue\":10,\"operations\":[{\"operation\":\"ADD\",\"value\":5},{\"operation\":\"DIVIDE\",\"value\":3}]}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Should stream CSV calculation results")
+    void shouldStreamCsvCalculationResults() {
+        webTestClient.post().uri("/api/v1/calculator/calculate/stream")
+                .contentType(MediaType.parseMediaType("text/csv"))
+                .bodyValue("ADD,5,3\nDIVIDE,1,0\n")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(String.class)
+                .isEqualTo("200,Success,8\n400,Division by zero is not allowed,\n");
+    }
+
+    @Test
+    @DisplayName("Should evaluate expression request")
+    void shouldEvaluateExpressionRequest() {
+        webTestClient.post().uri("/api/v1/calculator/expression")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"expression\":\"price * (1 + rate)\",\"variables\":{\"price\":200,\"rate\":0.25}}")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data").isEqualTo(250.0);
+    }
+
+    @Test
+    @DisplayName("Should return 400 for division by zero")
+    void shouldReturn400ForDivisionByZero() {
+        webTestClient.post().uri("/api/v1/calculator/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new CalculateRequest(Operation.DIVIDE, 10, 0))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.code").isEqualTo("400")
+                .jsonPath("$.message").isEqualTo("Division by zero is not allowed");
+    }
+
+    @Test
+    @DisplayName("Should return validation errors for invalid request")
+    void shouldReturnValidationErrorsForInvalidRequest() {
+        webTestClient.post().uri("/api/v1/calculator/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"operation\":\"ADD\",\"num1\":5}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid parameters")
+                .jsonPath("$.data.num2").exists();
+    }
+
+    @Test
+    @DisplayName("Should return 400 for invalid operation")
+    void shouldReturn400ForInvalidOperation() {
+        webTestClient.post().uri("/api/v1/calculator/calculate")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"operation\":\"INVALID\",\"num1\":5,\"num2\":3}")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Invalid operation value. Supported operations are: ADD, SUBTRACT, MULTIPLY, DIVIDE");
+    }
+
+    @Test
+    @DisplayName("Should return batch results in a single response")
+    void shouldReturnBatchResultsInSingleResponse() {
+        BatchCalculateRequest request = new BatchCalculateRequest(List.of(
+                new CalculateRequest(Operation.ADD, 5, 3),
+                new CalculateRequest(Operation.DIVIDE, 1, 0)
+        ));
+
+        webTestClient.post().uri("/api/v1/calculator/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.data[0].data").isEqualTo(8)
+                .jsonPath("$.data[1].code").isEqualTo("400");
+    }
+
+    @Test
+    @DisplayName("Should stream large batch results in request order")
+    void shouldStreamLargeBatchResultsInRequestOrder() {
+        List<CalculateRequest> calculations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            calculations.add(new CalculateRequest(Operation.MULTIPLY, i, 2));
+        }
+
+        List<Response> results = webTestClient.post().uri("/api/v1/calculator/calculate/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(new BatchCalculateRequest(calculations))
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(Response.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertEquals(1000, results.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i * 2, results.get(i).getData());
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.ebay.flexiblecalculator.integration;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.calculator.CachingCalculator;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration test for the calculation result cache
+ * Tests that the caching calculator is wired in and reports its statistics through the actuator
+ */
+@SpringBootTest(properties = "calculator.cache.enabled=true")
+@AutoConfigureMockMvc
+public class ResultCacheIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private Calculator calculator;
+
+    @Test
+    @DisplayName("Should serve repeated calculations from cache and expose statistics")
+    void shouldServeRepeatedCalculationsFromCacheAndExposeStatistics() throws Exception {
+        assertInstanceOf(CachingCalculator.class, calculator);
+
+        assertEquals(8, calculator.calculate(Operation.ADD, 5, 3));
+        assertEquals(8, calculator.calculate(Operation.ADD, 5, 3));
+
+        mockMvc.perform(get("/actuator/metrics/cache.gets")
+                        .param("tag", "cache:" + CachingCalculator.CACHE_NAME)
+                        .param("tag", "result:hit"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.measurements[0].value").value(1.0));
+    }
+}
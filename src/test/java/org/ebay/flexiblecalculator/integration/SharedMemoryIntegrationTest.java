@@ -0,0 +1,49 @@
+package org.ebay.flexiblecalculator.integration;
+
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.shm.SharedMemoryCalculatorClient;
+import org.ebay.flexiblecalculator.shm.WaitStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Integration test for the shared memory ring transport
+ * Tests that the poller is started with the application and serves a client mapping the ring file
+ */
+@SpringBootTest(properties = "calculator.shm.enabled=true")
+public class SharedMemoryIntegrationTest {
+
+    private static final Path RING_PATH = createRingPath();
+
+    @DynamicPropertySource
+    static void ringPath(DynamicPropertyRegistry registry) {
+        registry.add("calculator.shm.path", RING_PATH::toString);
+    }
+
+    @Test
+    @DisplayName("Should serve calculations through the ring file")
+    void shouldServeCalculationsThroughRingFile() throws Exception {
+        try (SharedMemoryCalculatorClient client = SharedMemoryCalculatorClient.open(RING_PATH, WaitStrategy.YIELD)) {
+            assertEquals(7000, client.calculate(Operation.MULTIPLY, 1000, 7));
+            assertEquals(2.5, client.calculate(Operation.DIVIDE, 5.0, 2));
+        }
+    }
+
+    private static Path createRingPath() {
+        try {
+            return Files.createTempDirectory("calculator").resolve("calculator.ring");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
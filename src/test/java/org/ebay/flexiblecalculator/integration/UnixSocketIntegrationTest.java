@@ -0,0 +1,118 @@
+package org.ebay.flexiblecalculator.integration;
+
+import org.ebay.flexiblecalculator.binary.BinaryCalculatorClient;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration test for the Unix domain socket listener
+ * Tests calculate and chain semantics against the REST endpoints and socket file permissions.
+ * Round-trip latency against loopback HTTP is compared by BinaryProtocolLatencyBenchmark.
+ */
+@EnabledOnOs(OS.LINUX)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "calculator.binary.unix.enabled=true",
+        "calculator.binary.unix.permissions=rw-------"
+})
+public class UnixSocketIntegrationTest {
+
+    private static final Path SOCKET_PATH = createSocketPath();
+
+    private static final String CALCULATE_BODY = "{\"operation\":\"MULTIPLY\",\"num1\":1000,\"num2\":7}";
+
+    @LocalServerPort
+    private int port;
+
+    private BinaryCalculatorClient client;
+    private HttpClient httpClient;
+
+    @DynamicPropertySource
+    static void socketPath(DynamicPropertyRegistry registry) {
+        registry.add("calculator.binary.unix.path", SOCKET_PATH::toString);
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        client = BinaryCalculatorClient.connect(SOCKET_PATH);
+        httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+    }
+
+    @Test
+    @DisplayName("Should serve calculations and chains with the same results as the REST endpoints")
+    void shouldMatchRestResults() throws Exception {
+        assertEquals(7000, client.calculate(Operation.MULTIPLY, 1000, 7));
+        assertTrue(post("/calculate", CALCULATE_BODY).contains("\"data\":7000"));
+
+        ChainRequest chain = new ChainRequest(10, List.of(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.MULTIPLY, 2.5)));
+        assertEquals(37.5, client.calculateChain(chain));
+        assertTrue(post("/chain", "{\"initialValue\":10,\"operations\":"
+                + "[{\"operation\":\"ADD\",\"value\":5},{\"operation\":\"MULTIPLY\",\"value\":2.5}]}")
+                .contains("\"data\":37.5"));
+
+        CalculationException exception = assertThrows(CalculationException.class,
+                () -> client.calculate(Operation.DIVIDE, 1, 0));
+        assertTrue(post("/calculate", "{\"operation\":\"DIVIDE\",\"num1\":1,\"num2\":0}")
+                .contains(exception.getMessage()));
+    }
+
+    @Test
+    @DisplayName("Should apply the configured permissions to the socket file")
+    void shouldApplySocketPermissions() throws Exception {
+        assertEquals("rw-------", PosixFilePermissions.toString(Files.getPosixFilePermissions(SOCKET_PATH)));
+    }
+
+    private String post(String path, String body) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/v1/calculator" + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        try {
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Path createSocketPath() {
+        try {
+            return Files.createTempDirectory("calculator").resolve("calculator.sock");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.ebay.flexiblecalculator.unit.binary;
+
+import org.ebay.flexiblecalculator.binary.BinaryProtocol;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BinaryProtocol frame layout
+ */
+class BinaryProtocolTest {
+
+    @Test
+    @DisplayName("Should write request frames of fixed size with operation and type tags")
+    void shouldWriteRequestFrames() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.REQUEST_SIZE);
+
+        BinaryProtocol.writeRequest(buffer, 42, Operation.DIVIDE, 7L, 2.5f);
+
+        assertEquals(BinaryProtocol.REQUEST_SIZE, buffer.position());
+        buffer.flip();
+        assertEquals(42, buffer.getInt());
+        assertEquals(Operation.DIVIDE, BinaryProtocol.operation(buffer.get()));
+        byte type1 = buffer.get();
+        byte type2 = buffer.get();
+        buffer.get();
+        assertEquals(7L, BinaryProtocol.decode(type1, buffer.getLong()));
+        assertEquals(2.5f, BinaryProtocol.decode(type2, buffer.getLong()));
+    }
+
+    @Test
+    @DisplayName("Should round trip every supported number type")
+    void shouldRoundTripEveryNumberType() {
+        Number[] values = {-5, Long.MAX_VALUE, -0.1f, Double.NaN, Double.MIN_VALUE};
+        for (Number value : values) {
+            ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.SUCCESS_RESPONSE_SIZE);
+            BinaryProtocol.writeResult(buffer, 1, value);
+
+            assertEquals(BinaryProtocol.SUCCESS_RESPONSE_SIZE, buffer.position());
+            assertEquals(BinaryProtocol.STATUS_OK, buffer.get(4));
+            assertEquals(value, BinaryProtocol.decode(buffer.get(5), buffer.getLong(8)));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write error frames and truncate long messages")
+    void shouldWriteErrorFrames() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.MAX_RESPONSE_SIZE);
+
+        BinaryProtocol.writeError(buffer, 3, "x".repeat(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH + 10));
+
+        assertEquals(BinaryProtocol.MAX_RESPONSE_SIZE, buffer.position());
+        assertEquals(3, buffer.getInt(0));
+        assertEquals(BinaryProtocol.STATUS_ERROR, buffer.get(4));
+        assertEquals(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH, buffer.getShort(6));
+
+        buffer.clear();
+        BinaryProtocol.writeError(buffer, 4, "Division by zero");
+        byte[] message = new byte[buffer.getShort(6)];
+        buffer.flip().position(BinaryProtocol.RESPONSE_HEADER_SIZE);
+        buffer.get(message);
+        assertEquals("Division by zero", new String(message, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should truncate long error messages before a character that does not fit whole")
+    void shouldTruncateErrorMessagesOnCharacterBoundary() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.MAX_RESPONSE_SIZE);
+        // 1023 ASCII bytes leave one byte, too few for the 3-byte euro sign or the 4-byte emoji after it
+        String message = "x".repeat(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH - 1) + "\u20ac\ud83d\ude00";
+
+        BinaryProtocol.writeError(buffer, 5, message);
+
+        int length = buffer.getShort(6);
+        assertEquals(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH - 1, length);
+        assertEquals(BinaryProtocol.RESPONSE_HEADER_SIZE + length, buffer.position());
+        byte[] bytes = new byte[length];
+        buffer.get(BinaryProtocol.RESPONSE_HEADER_SIZE, bytes);
+        assertEquals("x".repeat(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH - 1),
+                new String(bytes, StandardCharsets.UTF_8));
+
+        buffer.clear();
+        BinaryProtocol.writeError(buffer, 6, "x".repeat(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH - 4) + "\ud83d\ude00!");
+        assertEquals(BinaryProtocol.MAX_ERROR_MESSAGE_LENGTH, buffer.getShort(6));
+    }
+
+    @Test
+    @DisplayName("Should write chain request frames sized from their header")
+    void shouldWriteChainRequestFrames() {
+        List<ChainOperation> operations = List.of(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.MULTIPLY, 1.5));
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.MAX_REQUEST_SIZE);
+
+        BinaryProtocol.writeChainRequest(buffer, 7, 10L, operations);
+
+        assertEquals(BinaryProtocol.chainRequestSize(2), buffer.position());
+        buffer.flip();
+        assertEquals(BinaryProtocol.chainRequestSize(2), BinaryProtocol.requestSize(buffer));
+        assertEquals(10L, BinaryProtocol.decode(buffer.get(5), buffer.getLong(8)));
+        buffer.position(BinaryProtocol.REQUEST_SIZE + BinaryProtocol.CHAIN_OPERATION_SIZE);
+        assertEquals(Operation.MULTIPLY, BinaryProtocol.operation(buffer.get()));
+        byte type = buffer.get();
+        assertEquals(1.5, BinaryProtocol.decode(type, buffer.getLong()));
+    }
+
+    @Test
+    @DisplayName("Should report incomplete headers and reject frames that cannot be sized")
+    void shouldSizeRequestFrames() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.REQUEST_SIZE);
+        BinaryProtocol.writeRequest(buffer, 1, Operation.ADD, 1, 2);
+
+        buffer.flip().limit(BinaryProtocol.REQUEST_SIZE - 1);
+        assertEquals(-1, BinaryProtocol.requestSize(buffer));
+        buffer.limit(BinaryProtocol.REQUEST_SIZE);
+        assertEquals(BinaryProtocol.REQUEST_SIZE, BinaryProtocol.requestSize(buffer));
+
+        buffer.put(7, BinaryProtocol.KIND_CHAIN).putLong(16, BinaryProtocol.MAX_CHAIN_LENGTH + 1);
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.requestSize(buffer));
+        buffer.put(7, (byte) 9);
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.requestSize(buffer));
+    }
+
+    @Test
+    @DisplayName("Should reject unsupported operands, operation codes and type tags")
+    void shouldRejectUnsupportedValues() {
+        ByteBuffer buffer = ByteBuffer.allocate(BinaryProtocol.REQUEST_SIZE);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> BinaryProtocol.writeRequest(buffer, 1, Operation.ADD, BigDecimal.ONE, 1));
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.operation((byte) 99));
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.decode((byte) -1, 0));
+        assertThrows(IllegalArgumentException.class, () -> BinaryProtocol.writeChainRequest(buffer, 1, 1,
+                Collections.nCopies(BinaryProtocol.MAX_CHAIN_LENGTH + 1, new ChainOperation(Operation.ADD, 1))));
+        assertEquals(0, buffer.position());
+    }
+}
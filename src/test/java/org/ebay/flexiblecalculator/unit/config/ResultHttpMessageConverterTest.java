@@ -0,0 +1,82 @@
+package org.ebay.flexiblecalculator.unit.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.config.JacksonNumbersConfig;
+import org.ebay.flexiblecalculator.config.ResultHttpMessageConverter;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResultHttpMessageConverter
+ */
+class ResultHttpMessageConverterTest {
+
+    private static final List<Number> VALUES = List.of(0, 7, -7, Integer.MAX_VALUE, Integer.MIN_VALUE,
+            Long.MAX_VALUE, Long.MIN_VALUE, 1_000_000_000_000L, 2.5, -0.1, 1e-7, 1.0E20, 2e23, 6.84798354874497E18,
+            2.5f, 0.1f, Double.NaN, Double.POSITIVE_INFINITY, Float.NEGATIVE_INFINITY, new BigDecimal("123.4500"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper(JacksonNumbersConfig.jsonFactory());
+
+    @Test
+    @DisplayName("Should write the same envelope bytes as Jackson")
+    void shouldMatchJacksonEnvelope() throws Exception {
+        ResultHttpMessageConverter converter = ResultHttpMessageConverter.envelope();
+
+        for (Number value : VALUES) {
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            converter.write(value, MediaType.APPLICATION_JSON, message);
+
+            String expected = objectMapper.writeValueAsString(
+                    Response.builder().code("200").message("Success").data(value).build());
+            assertEquals(expected, message.getBodyAsString(), "for " + value);
+            assertEquals(expected.length(), message.getHeaders().getContentLength());
+            assertEquals(MediaType.APPLICATION_JSON, message.getHeaders().getContentType());
+        }
+    }
+
+    @Test
+    @DisplayName("Should write the bare number in raw mode")
+    void shouldWriteRawNumbers() throws Exception {
+        ResultHttpMessageConverter converter = ResultHttpMessageConverter.raw();
+
+        for (Number value : VALUES) {
+            MockHttpOutputMessage message = new MockHttpOutputMessage();
+            converter.write(value, MediaType.TEXT_PLAIN, message);
+
+            // the same text as in JSON, without the quotes around NaN and infinities
+            String expected = objectMapper.writeValueAsString(value).replace("\"", "");
+            assertEquals(expected, message.getBodyAsString(), "for " + value);
+            assertTrue(MediaType.TEXT_PLAIN.isCompatibleWith(message.getHeaders().getContentType()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should write error messages as plain text in raw mode")
+    void shouldWriteRawErrors() throws Exception {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+
+        ResultHttpMessageConverter.raw().write(Response.builder().code("400").message("Division by zero ÷").build(),
+                MediaType.TEXT_PLAIN, message);
+
+        assertEquals("Division by zero ÷", message.getBodyAsString());
+        assertEquals("UTF-8", message.getHeaders().getContentType().getCharset().name());
+    }
+
+    @Test
+    @DisplayName("Should only write Response objects in raw mode")
+    void shouldLeaveEnvelopesToJackson() {
+        assertFalse(ResultHttpMessageConverter.envelope().canWrite(Response.class, MediaType.APPLICATION_JSON));
+        assertFalse(ResultHttpMessageConverter.raw().canWrite(Response.class, MediaType.APPLICATION_JSON));
+        assertTrue(ResultHttpMessageConverter.raw().canWrite(Response.class, MediaType.TEXT_PLAIN));
+        assertTrue(ResultHttpMessageConverter.envelope().canWrite(Double.class, MediaType.APPLICATION_JSON));
+        assertFalse(ResultHttpMessageConverter.envelope().canRead(Integer.class, MediaType.APPLICATION_JSON));
+    }
+}
@@ -5,6 +5,7 @@ import org.ebay.flexiblecalculator.controller.CalculatorController;
 import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.ChainOperation;
 import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.logging.RequestLogger;
 import org.ebay.flexiblecalculator.model.Operation;
 import org.ebay.flexiblecalculator.service.CalculatorService;
 import org.junit.jupiter.api.DisplayName;
@@ -38,6 +39,9 @@ class CalculatorControllerTest {
     @MockitoBean
     private CalculatorService calculatorService;
 
+    @MockitoBean
+    private RequestLogger requestLogger;
+
     @Test
     @DisplayName("Should process single calculation request correctly")
     void shouldProcessSingleCalculationRequestCorrectly() throws Exception {
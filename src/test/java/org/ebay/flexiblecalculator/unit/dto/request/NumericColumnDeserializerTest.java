@@ -0,0 +1,69 @@
+package org.ebay.flexiblecalculator.unit.dto.request;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.config.JacksonNumbersConfig;
+import org.ebay.flexiblecalculator.dto.request.ColumnarBatchRequest;
+import org.ebay.flexiblecalculator.model.NumericColumn;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for NumericColumnDeserializer
+ */
+class NumericColumnDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper(JacksonNumbersConfig.jsonFactory());
+
+    @Test
+    @DisplayName("Should read integers as a long column and switch to doubles at the first fraction")
+    void shouldReadLongAndDoubleColumns() throws Exception {
+        ColumnarBatchRequest request = read("[1, -5000000000, 3]", "[4, 5.5, 1e2]");
+
+        assertEquals(NumericColumn.ofLongs(1, -5_000_000_000L, 3), request.getNum1());
+        assertEquals(NumericColumn.ofDoubles(4, 5.5, 100), request.getNum2());
+    }
+
+    @Test
+    @DisplayName("Should grow past the initial capacity and read empty columns")
+    void shouldReadLargeAndEmptyColumns() throws Exception {
+        StringBuilder values = new StringBuilder("[");
+        for (int i = 0; i < 1000; i++) {
+            values.append(i > 0 ? "," : "").append(i);
+        }
+        ColumnarBatchRequest request = read(values.append(']').toString(), "[]");
+
+        assertEquals(1000, request.getNum1().size());
+        assertEquals(999, request.getNum1().longs()[999]);
+        assertEquals(0, request.getNum2().size());
+    }
+
+    @Test
+    @DisplayName("Should reject values a column cannot hold")
+    void shouldRejectValuesColumnsCannotHold() {
+        assertThrows(JsonMappingException.class, () -> read("[1, 12345678901234567890]", "[1, 2]"));
+        assertThrows(JsonMappingException.class, () -> read("[1, null]", "[1, 2]"));
+        assertThrows(JsonMappingException.class, () -> read("[1, \"2\"]", "[1, 2]"));
+        assertThrows(JsonMappingException.class, () -> read("1", "[1]"));
+    }
+
+    @Test
+    @DisplayName("Should write a column as a plain array")
+    void shouldWriteColumnAsArray() throws Exception {
+        ColumnarBatchRequest request = new ColumnarBatchRequest(Operation.ADD,
+                NumericColumn.ofLongs(1, 2), NumericColumn.ofDoubles(0.5));
+
+        String json = objectMapper.writeValueAsString(request);
+
+        assertEquals("{\"operation\":\"ADD\",\"num1\":[1,2],\"num2\":[0.5]}", json);
+        assertEquals(request, objectMapper.readValue(json, ColumnarBatchRequest.class));
+    }
+
+    private ColumnarBatchRequest read(String num1, String num2) throws Exception {
+        return objectMapper.readValue("{\"operation\":\"DIVIDE\",\"num1\":" + num1 + ",\"num2\":" + num2 + "}",
+                ColumnarBatchRequest.class);
+    }
+}
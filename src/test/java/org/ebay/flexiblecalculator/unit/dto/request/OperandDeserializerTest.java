@@ -0,0 +1,103 @@
+package org.ebay.flexiblecalculator.unit.dto.request;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.ebay.flexiblecalculator.config.JacksonNumbersConfig;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for OperandDeserializer and the fast number settings of the JSON mapper
+ */
+class OperandDeserializerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper(JacksonNumbersConfig.jsonFactory());
+
+    @Test
+    @DisplayName("Should bind each numeric literal to the narrowest matching type")
+    void shouldBindNarrowestType() throws Exception {
+        assertOperands("5", "5000000000", Integer.valueOf(5), Long.valueOf(5_000_000_000L));
+        assertOperands("-2.5", "1e3", Double.valueOf(-2.5), Double.valueOf(1000.0));
+        assertOperands("12345678901234567890", "0", new BigInteger("12345678901234567890"), Integer.valueOf(0));
+    }
+
+    @Test
+    @DisplayName("Should still accept numbers in strings and reject other text")
+    void shouldFallBackForNonNumericTokens() throws Exception {
+        CalculateRequest request = read("\"7\"", "\"2.5\"");
+        assertEquals(7, request.getNum1().intValue());
+        assertEquals(2.5, request.getNum2().doubleValue());
+
+        assertThrows(JsonMappingException.class, () -> read("\"abc\"", "1"));
+        assertNull(read("null", "1").getNum1());
+    }
+
+    @Test
+    @DisplayName("Should keep the float and decimal types carried by a binary format")
+    void shouldKeepBinaryFormatTypes() throws Exception {
+        ObjectMapper cbor = new CBORMapper();
+        byte[] body = cbor.writeValueAsBytes(new CalculateRequest(Operation.ADD, 2.5f, new BigDecimal("0.1")));
+
+        CalculateRequest request = cbor.readValue(body, CalculateRequest.class);
+
+        assertEquals(Float.valueOf(2.5f), request.getNum1());
+        assertEquals(new BigDecimal("0.1"), request.getNum2());
+    }
+
+    @Test
+    @DisplayName("Should round-trip every value of a 100k chain exactly, in the shortest text")
+    void shouldRoundTripChainValues() throws Exception {
+        Random random = new Random(42);
+        List<ChainOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            Number value = switch (i % 4) {
+                case 0 -> random.nextInt();
+                case 1 -> random.nextLong();
+                case 2 -> random.nextDouble() * Math.pow(10, random.nextInt(40) - 20);
+                default -> Double.longBitsToDouble(random.nextLong() & 0x7FEF_FFFF_FFFF_FFFFL);
+            };
+            operations.add(new ChainOperation(Operation.ADD, value));
+        }
+        ChainRequest original = new ChainRequest(2e23, operations);
+
+        String json = objectMapper.writeValueAsString(original);
+        ChainRequest copy = objectMapper.readValue(json, ChainRequest.class);
+
+        assertTrue(json.contains("\"initialValue\":2.0E23"), "2e23 is written in its shortest form");
+        assertEquals(original.getInitialValue(), copy.getInitialValue());
+        for (int i = 0; i < operations.size(); i++) {
+            Number expected = operations.get(i).getValue();
+            Number actual = copy.getOperations().get(i).getValue();
+            assertEquals(expected.getClass(), actual.getClass(), "type of value " + i);
+            assertEquals(expected, actual, "value " + i);
+            if (expected instanceof Double d) {
+                assertTrue(objectMapper.writeValueAsString(d).length() <= Double.toString(d).length(),
+                        "shortest text for " + d);
+            }
+        }
+    }
+
+    private void assertOperands(String num1, String num2, Number expected1, Number expected2) throws Exception {
+        CalculateRequest request = read(num1, num2);
+        assertEquals(expected1, request.getNum1());
+        assertEquals(expected2, request.getNum2());
+    }
+
+    private CalculateRequest read(String num1, String num2) throws Exception {
+        return objectMapper.readValue("{\"operation\":\"ADD\",\"num1\":" + num1 + ",\"num2\":" + num2 + "}",
+                CalculateRequest.class);
+    }
+}
@@ -0,0 +1,227 @@
+package org.ebay.flexiblecalculator.unit.job;
+
+import org.ebay.flexiblecalculator.binary.BinaryProtocol;
+import org.ebay.flexiblecalculator.job.BatchFileFormat;
+import org.ebay.flexiblecalculator.job.BatchFileJob;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BatchFileJob class
+ */
+class BatchFileJobTest {
+
+    private static final int CHUNK_SIZE = 4;
+
+    @TempDir
+    Path tempDir;
+
+    private OperationRegistry registry;
+    private ForkJoinPool executor;
+    private Path input;
+    private Path output;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        executor = new ForkJoinPool(2);
+        input = tempDir.resolve("calculations.bin");
+        output = tempDir.resolve("results.bin");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should evaluate every record and report failed records by status")
+    void shouldEvaluateEveryRecord() throws Exception {
+        // Arrange
+        ByteBuffer records = inputFile(10);
+        BatchFileFormat.writeRecord(records, 100, Operation.ADD, 5, 3);
+        BatchFileFormat.writeRecord(records, 101, Operation.ADD, Integer.MAX_VALUE, 1);
+        BatchFileFormat.writeRecord(records, 102, Operation.MULTIPLY, Long.MAX_VALUE, 2);
+        BatchFileFormat.writeRecord(records, 103, Operation.DIVIDE, 10, 0);
+        BatchFileFormat.writeRecord(records, 104, Operation.SUBTRACT, 10, 2.5f);
+        BatchFileFormat.writeRecord(records, 105, Operation.DIVIDE, 5.0, 2);
+        BatchFileFormat.writeRecord(records, 106, Operation.DIVIDE, 7, 2);
+        records.putInt(107).put((byte) 9).put(new byte[3]).putLong(1).putLong(2);
+        BatchFileFormat.writeRecord(records, 108, Operation.MULTIPLY, 1000, 7);
+        BatchFileFormat.writeRecord(records, 109, Operation.SUBTRACT, 1L, 3L);
+        write(records);
+
+        // Act
+        BatchFileJob.Summary summary = newJob().run(input, output);
+
+        // Assert
+        assertEquals(new BatchFileJob.Summary(10, 3, 3, 0), summary);
+        ByteBuffer results = readResults(10);
+        assertResult(results, 0, 100, 8);
+        assertResult(results, 1, 101, 2_147_483_648L);
+        assertStatus(results, 2, 102, BatchFileFormat.STATUS_OUT_OF_RANGE);
+        assertStatus(results, 3, 103, BatchFileFormat.STATUS_ERROR);
+        assertResult(results, 4, 104, 7.5f);
+        assertResult(results, 5, 105, 2.5);
+        assertResult(results, 6, 106, 3.5);
+        assertStatus(results, 7, 107, BatchFileFormat.STATUS_INVALID);
+        assertResult(results, 8, 108, 7000);
+        assertResult(results, 9, 109, -2L);
+    }
+
+    @Test
+    @DisplayName("Should resume from the chunks not marked done")
+    void shouldResumeFromChunksNotMarkedDone() throws Exception {
+        // Arrange
+        ByteBuffer records = inputFile(10);
+        for (int i = 0; i < 10; i++) {
+            BatchFileFormat.writeRecord(records, i, Operation.MULTIPLY, i, 10);
+        }
+        write(records);
+        newJob().run(input, output);
+
+        // Simulate a crash while the second chunk was being written
+        try (FileChannel channel = FileChannel.open(output, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(1), BatchFileFormat.OUTPUT_HEADER_SIZE + 1);
+            channel.write(ByteBuffer.allocate(CHUNK_SIZE * BatchFileFormat.RESULT_SIZE),
+                    BatchFileFormat.resultsOffset(3) + CHUNK_SIZE * BatchFileFormat.RESULT_SIZE);
+        }
+
+        // Act
+        BatchFileJob.Summary summary = newJob().run(input, output);
+
+        // Assert
+        assertEquals(new BatchFileJob.Summary(CHUNK_SIZE, 0, 3, 2), summary);
+        ByteBuffer results = readResults(10);
+        for (int i = 0; i < 10; i++) {
+            assertResult(results, i, i, i * 10);
+        }
+    }
+
+    @Test
+    @DisplayName("Should wait for every chunk before rethrowing a failure, and leave failed chunks to resume")
+    void shouldWaitForEveryChunkBeforeRethrowingFailure() throws Exception {
+        // Arrange: a strategy that fails slowly, so chunks are still running when the first failure is seen
+        ByteBuffer records = inputFile(CHUNK_SIZE * 3);
+        for (int i = 0; i < CHUNK_SIZE * 3; i++) {
+            BatchFileFormat.writeRecord(records, i, Operation.ADD, i, 1);
+        }
+        write(records);
+        AtomicInteger running = new AtomicInteger();
+        registry.registerStrategy(new OperationStrategy() {
+            @Override
+            public Number execute(Number num1, Number num2) {
+                running.incrementAndGet();
+                try {
+                    Thread.sleep(50);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                throw new IllegalStateException("Strategy failed");
+            }
+
+            @Override
+            public Operation getSupportedOperation() {
+                return Operation.ADD;
+            }
+        });
+
+        // Act
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> newJob().run(input, output));
+
+        // Assert
+        assertEquals("Strategy failed", exception.getMessage());
+        assertEquals(0, running.get());
+        for (Throwable suppressed : exception.getSuppressed()) {
+            assertEquals("Strategy failed", suppressed.getMessage());
+        }
+        registry.registerStrategy(new AddOperation());
+        assertEquals(new BatchFileJob.Summary(CHUNK_SIZE * 3, 0, 3, 0), newJob().run(input, output));
+        assertResult(readResults(CHUNK_SIZE * 3), 5, 5, 6);
+    }
+
+    @Test
+    @DisplayName("Should refuse to resume an output written with a different chunk size")
+    void shouldRefuseOutputOfDifferentChunkSize() throws Exception {
+        // Arrange
+        ByteBuffer records = inputFile(2);
+        BatchFileFormat.writeRecord(records, 0, Operation.ADD, 1, 2);
+        BatchFileFormat.writeRecord(records, 1, Operation.ADD, 3, 4);
+        write(records);
+        newJob().run(input, output);
+
+        // Act & Assert
+        BatchFileJob job = new BatchFileJob(registry, executor, CHUNK_SIZE * 2);
+        IllegalStateException exception = assertThrows(IllegalStateException.class, () -> job.run(input, output));
+        assertTrue(exception.getMessage().contains("different input or chunk size"), exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject an input file without the batch header")
+    void shouldRejectInputWithoutHeader() throws Exception {
+        // Arrange
+        Files.write(input, new byte[BatchFileFormat.INPUT_HEADER_SIZE]);
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> newJob().run(input, output));
+    }
+
+    private BatchFileJob newJob() {
+        return new BatchFileJob(registry, executor, CHUNK_SIZE);
+    }
+
+    private static ByteBuffer inputFile(int count) {
+        ByteBuffer buffer = ByteBuffer.allocate(BatchFileFormat.INPUT_HEADER_SIZE + count * BatchFileFormat.RECORD_SIZE);
+        BatchFileFormat.writeInputHeader(buffer, count);
+        return buffer;
+    }
+
+    private void write(ByteBuffer records) throws IOException {
+        Files.write(input, records.array());
+    }
+
+    private ByteBuffer readResults(int count) throws IOException {
+        byte[] bytes = Files.readAllBytes(output);
+        int offset = (int) BatchFileFormat.resultsOffset(BatchFileFormat.chunks(count, CHUNK_SIZE));
+        return ByteBuffer.wrap(bytes, offset, count * BatchFileFormat.RESULT_SIZE).slice();
+    }
+
+    private static void assertResult(ByteBuffer results, int index, int id, Number expected) {
+        int offset = index * BatchFileFormat.RESULT_SIZE;
+        assertEquals(id, results.getInt(offset));
+        assertEquals(BatchFileFormat.STATUS_OK, results.get(offset + 4), "status of record " + index);
+        assertEquals(expected, BinaryProtocol.decode(results.get(offset + 5), results.getLong(offset + 8)));
+    }
+
+    private static void assertStatus(ByteBuffer results, int index, int id, byte status) {
+        int offset = index * BatchFileFormat.RESULT_SIZE;
+        assertEquals(id, results.getInt(offset));
+        assertEquals(status, results.get(offset + 4), "status of record " + index);
+        assertEquals(0, results.getLong(offset + 8));
+    }
+}
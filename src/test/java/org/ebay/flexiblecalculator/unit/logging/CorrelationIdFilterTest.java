@@ -0,0 +1,68 @@
+package org.ebay.flexiblecalculator.unit.logging;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.ebay.flexiblecalculator.logging.CorrelationIdFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the CorrelationIdFilter class
+ */
+class CorrelationIdFilterTest {
+
+    private static final String HEADER = "X-Correlation-Id";
+
+    private final CorrelationIdFilter filter = new CorrelationIdFilter(HEADER);
+
+    @Test
+    @DisplayName("Should keep a well-formed correlation id from the request")
+    void shouldKeepWellFormedCorrelationId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HEADER, "order-42.retry_1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> duringRequest = new AtomicReference<>();
+
+        filter.doFilter(request, response, new MockFilterChain() {
+            @Override
+            public void doFilter(ServletRequest req, ServletResponse res) {
+                duringRequest.set(MDC.get(CorrelationIdFilter.MDC_KEY));
+            }
+        });
+
+        assertEquals("order-42.retry_1", duringRequest.get());
+        assertEquals("order-42.retry_1", response.getHeader(HEADER));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Should generate a correlation id when the request has none")
+    void shouldGenerateCorrelationIdWhenMissing() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest(), response, new MockFilterChain());
+
+        assertTrue(response.getHeader(HEADER).matches("[0-9a-f]{16}"));
+        assertNull(MDC.get(CorrelationIdFilter.MDC_KEY));
+    }
+
+    @Test
+    @DisplayName("Should replace a malformed correlation id")
+    void shouldReplaceMalformedCorrelationId() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(HEADER, "forged\nERROR line");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, new MockFilterChain());
+
+        assertTrue(response.getHeader(HEADER).matches("[0-9a-f]{16}"));
+    }
+}
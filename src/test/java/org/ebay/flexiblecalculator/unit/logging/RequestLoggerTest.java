@@ -0,0 +1,89 @@
+package org.ebay.flexiblecalculator.unit.logging;
+
+import org.ebay.flexiblecalculator.config.RequestLoggingProperties;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.logging.RequestLogger;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RequestLogger class
+ */
+class RequestLoggerTest {
+
+    private static final BiConsumer<StringBuilder, ChainOperation> APPEND_OPERATION =
+            (summary, operation) -> summary.append(operation.getOperation()).append(' ').append(operation.getValue());
+
+    @Test
+    @DisplayName("Should never sample when the sample rate is zero")
+    void shouldNeverSampleWhenSampleRateIsZero() {
+        RequestLogger requestLogger = newRequestLogger(0);
+
+        for (int i = 0; i < 1000; i++) {
+            assertFalse(requestLogger.isSampled());
+        }
+    }
+
+    @Test
+    @DisplayName("Should always sample when the sample rate is one")
+    void shouldAlwaysSampleWhenSampleRateIsOne() {
+        RequestLogger requestLogger = newRequestLogger(1);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(requestLogger.isSampled());
+        }
+    }
+
+    @Test
+    @DisplayName("Should sample roughly the configured fraction of requests")
+    void shouldSampleConfiguredFraction() {
+        RequestLogger requestLogger = newRequestLogger(0.25);
+
+        int sampled = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (requestLogger.isSampled()) {
+                sampled++;
+            }
+        }
+
+        assertTrue(sampled > 23_000 && sampled < 27_000, "sampled " + sampled);
+    }
+
+    @Test
+    @DisplayName("Should cap chain summaries at the configured number of operations")
+    void shouldCapChainSummaries() {
+        List<ChainOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            operations.add(new ChainOperation(Operation.ADD, i));
+        }
+
+        String summary = RequestLogger.summarize(operations, 3, APPEND_OPERATION);
+
+        assertEquals("size=100000 [ADD 0, ADD 1, ADD 2, ... 99997 more]", summary);
+    }
+
+    @Test
+    @DisplayName("Should list every operation of a short chain")
+    void shouldListEveryOperationOfShortChain() {
+        List<ChainOperation> operations = List.of(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.DIVIDE, 2.5)
+        );
+
+        assertEquals("size=2 [ADD 5, DIVIDE 2.5]", RequestLogger.summarize(operations, 3, APPEND_OPERATION));
+        assertEquals("size=2 [... 2 more]", RequestLogger.summarize(operations, 0, APPEND_OPERATION));
+    }
+
+    private static RequestLogger newRequestLogger(double sampleRate) {
+        RequestLoggingProperties properties = new RequestLoggingProperties();
+        properties.setSampleRate(sampleRate);
+        return new RequestLogger(properties);
+    }
+}
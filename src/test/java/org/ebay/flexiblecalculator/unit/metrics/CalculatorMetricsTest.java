@@ -0,0 +1,97 @@
+package org.ebay.flexiblecalculator.unit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Unit tests for the CalculatorMetrics class
+ */
+class CalculatorMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CalculatorMetrics calculatorMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        calculatorMetrics = new CalculatorMetrics(meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should register one calculation timer per operation")
+    void shouldRegisterOneTimerPerOperation() {
+        assertEquals(Operation.values().length,
+                meterRegistry.get(CalculatorMetrics.CALCULATION_TIMER).timers().size());
+    }
+
+    @Test
+    @DisplayName("Should record calculation duration under the operation tag")
+    void shouldRecordCalculationDuration() {
+        // Act
+        calculatorMetrics.recordCalculation(Operation.MULTIPLY, 2_000);
+        calculatorMetrics.recordCalculation(Operation.MULTIPLY, 4_000);
+
+        // Assert
+        Timer timer = meterRegistry.get(CalculatorMetrics.CALCULATION_TIMER).tag("operation", "MULTIPLY").timer();
+        assertEquals(2, timer.count());
+        assertEquals(6_000, timer.totalTime(TimeUnit.NANOSECONDS));
+        assertEquals(0, meterRegistry.get(CalculatorMetrics.CALCULATION_TIMER).tag("operation", "ADD").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should count errors by operation and exception type")
+    void shouldCountErrorsByOperationAndExceptionType() {
+        // Act
+        calculatorMetrics.recordError(Operation.DIVIDE, new CalculationException("Division by zero is not allowed"));
+        calculatorMetrics.recordError(Operation.DIVIDE, new CalculationException("Division by zero is not allowed"));
+        calculatorMetrics.recordError(Operation.ADD, new IllegalStateException());
+
+        // Assert
+        assertEquals(2, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tags("operation", "DIVIDE", "exception", "CalculationException").counter().count());
+        assertEquals(1, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tags("operation", "ADD", "exception", "IllegalStateException").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should register one calculation error counter per operation")
+    void shouldRegisterOneErrorCounterPerOperation() {
+        // Act
+        calculatorMetrics.recordError(Operation.DIVIDE);
+
+        // Assert
+        assertEquals(Operation.values().length, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tag("exception", "CalculationException").counters().size());
+        assertEquals(1, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tags("operation", "DIVIDE", "exception", "CalculationException").counter().count());
+        assertEquals(0, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tags("operation", "ADD", "exception", "CalculationException").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should record chain length and batch size distributions")
+    void shouldRecordChainLengthAndBatchSize() {
+        // Act
+        calculatorMetrics.recordChainLength(10);
+        calculatorMetrics.recordChainLength(1000);
+        calculatorMetrics.recordBatchSize(64);
+
+        // Assert
+        DistributionSummary chainLength = meterRegistry.get(CalculatorMetrics.CHAIN_LENGTH).summary();
+        assertEquals(2, chainLength.count());
+        assertEquals(1000, chainLength.max());
+        assertEquals(64, meterRegistry.get(CalculatorMetrics.BATCH_SIZE).summary().totalAmount());
+    }
+}
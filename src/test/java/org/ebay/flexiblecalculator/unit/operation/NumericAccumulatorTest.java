@@ -0,0 +1,78 @@
+package org.ebay.flexiblecalculator.unit.operation;
+
+import org.ebay.flexiblecalculator.model.NumericType;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.AddOperation;
+import org.ebay.flexiblecalculator.operation.strategy.DivideOperation;
+import org.ebay.flexiblecalculator.operation.strategy.MultiplyOperation;
+import org.ebay.flexiblecalculator.operation.strategy.SubtractOperation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the NumericAccumulator class
+ */
+class NumericAccumulatorTest {
+
+    private static final List<OperationStrategy> STRATEGIES = List.of(
+            new AddOperation(),
+            new SubtractOperation(),
+            new MultiplyOperation(),
+            new DivideOperation()
+    );
+
+    private static final List<Number> OPERANDS = List.of(
+            7, -3, Integer.MAX_VALUE,
+            7L, 1L << 40,
+            2.5f, 16777217f,
+            1.5, -0.25,
+            new BigDecimal("2.5")
+    );
+
+    @Test
+    @DisplayName("Should keep value and type of boxed inputs")
+    void shouldKeepValueAndTypeOfBoxedInputs() {
+        assertEquals(NumericType.INT, NumericAccumulator.of(5).type());
+        assertEquals(NumericType.LONG, NumericAccumulator.of(5L).type());
+        assertEquals(NumericType.FLOAT, NumericAccumulator.of(5f).type());
+        assertEquals(NumericType.DOUBLE, NumericAccumulator.of(5.0).type());
+
+        assertEquals(5, NumericAccumulator.of(5).toNumber());
+        assertEquals(5L, NumericAccumulator.of(5L).toNumber());
+        assertEquals(5f, NumericAccumulator.of(5f).toNumber());
+        assertEquals(5.0, NumericAccumulator.of(5.0).toNumber());
+    }
+
+    @Test
+    @DisplayName("Should keep other Number types boxed")
+    void shouldKeepOtherNumberTypesBoxed() {
+        BigDecimal value = new BigDecimal("2.5");
+
+        NumericAccumulator accumulator = NumericAccumulator.of(value);
+
+        assertFalse(accumulator.isPrimitive());
+        assertSame(value, accumulator.toNumber());
+    }
+
+    @Test
+    @DisplayName("Should match boxed execute for every operand type combination")
+    void shouldMatchBoxedExecuteForEveryOperandTypeCombination() {
+        for (OperationStrategy strategy : STRATEGIES) {
+            for (Number num1 : OPERANDS) {
+                for (Number num2 : OPERANDS) {
+                    NumericAccumulator accumulator = NumericAccumulator.of(num1);
+                    strategy.executeInPlace(accumulator, NumericAccumulator.of(num2));
+
+                    assertEquals(strategy.execute(num1, num2), accumulator.toNumber(),
+                            strategy.getSupportedOperation() + " " + num1 + ", " + num2);
+                }
+            }
+        }
+    }
+}
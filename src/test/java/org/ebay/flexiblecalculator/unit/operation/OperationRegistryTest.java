@@ -7,9 +7,16 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -111,4 +118,90 @@ class OperationRegistryTest {
         assertFalse(strategy.isPresent());
         assertFalse(registry.supportsOperation(Operation.ADD));
     }
+
+    @Test
+    @DisplayName("Should hot-swap strategies while lookups are in flight")
+    void shouldHotSwapStrategiesWhileLookupsAreInFlight() throws Exception {
+        // Arrange - two writers swap ADD and MULTIPLY between constant strategies while readers look up all four
+        OperationStrategy[] addStrategies = {constantStrategy(Operation.ADD, 1), constantStrategy(Operation.ADD, 2)};
+        OperationStrategy[] multiplyStrategies = {
+                constantStrategy(Operation.MULTIPLY, 3), constantStrategy(Operation.MULTIPLY, 4)};
+        int swaps = 1_000;
+        int readers = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(readers + 2);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> futures = new ArrayList<>();
+        registry.registerStrategy(addStrategies[0]);
+        registry.registerStrategy(multiplyStrategies[0]);
+
+        try {
+            // Act
+            for (int i = 0; i < readers; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    long lookups = 0;
+                    while (writing.get() || lookups == 0) {
+                        Number sum = registry.getStrategy(Operation.ADD).orElseThrow().execute(5, 3);
+                        Number product = registry.getStrategy(Operation.MULTIPLY).orElseThrow().execute(5, 3);
+                        assertTrue(sum.equals(1) || sum.equals(2), "ADD returned " + sum);
+                        assertTrue(product.equals(3) || product.equals(4), "MULTIPLY returned " + product);
+                        assertSame(subtractOperation, registry.getStrategy(Operation.SUBTRACT).orElseThrow());
+                        assertSame(divideOperation, registry.getStrategy(Operation.DIVIDE).orElseThrow());
+                        lookups++;
+                    }
+                    return null;
+                }));
+            }
+            Future<?> addWriter = executor.submit(() -> swap(start, addStrategies, swaps));
+            Future<?> multiplyWriter = executor.submit(() -> swap(start, multiplyStrategies, swaps));
+            start.countDown();
+            addWriter.get(30, TimeUnit.SECONDS);
+            multiplyWriter.get(30, TimeUnit.SECONDS);
+            writing.set(false);
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            writing.set(false);
+            executor.shutdownNow();
+        }
+
+        // Assert - neither writer's last registration was lost to the other's copy
+        assertSame(addStrategies[(swaps - 1) % 2], registry.getStrategy(Operation.ADD).orElseThrow());
+        assertSame(multiplyStrategies[(swaps - 1) % 2], registry.getStrategy(Operation.MULTIPLY).orElseThrow());
+    }
+
+    @Test
+    @DisplayName("Should return the shared empty optional for a null operation")
+    void shouldReturnEmptyOptionalForNullOperation() {
+        // Act
+        Optional<OperationStrategy> strategy = registry.getStrategy(null);
+
+        // Assert
+        assertSame(Optional.empty(), strategy);
+        assertFalse(registry.supportsOperation(null));
+    }
+
+    private Void swap(CountDownLatch start, OperationStrategy[] strategies, int swaps) throws InterruptedException {
+        start.await();
+        for (int i = 0; i < swaps; i++) {
+            registry.registerStrategy(strategies[i % 2]);
+        }
+        return null;
+    }
+
+    private static OperationStrategy constantStrategy(Operation operation, int result) {
+        return new OperationStrategy() {
+            @Override
+            public Number execute(Number num1, Number num2) {
+                return result;
+            }
+
+            @Override
+            public Operation getSupportedOperation() {
+                return operation;
+            }
+        };
+    }
 }
@@ -0,0 +1,158 @@
+package org.ebay.flexiblecalculator.unit.operation;
+
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the RationalAccumulator class
+ */
+class RationalAccumulatorTest {
+
+    @Test
+    @DisplayName("Should stay exact through a division and multiplication by the same value")
+    void shouldStayExactThroughDivideAndMultiply() {
+        // Arrange
+        RationalAccumulator accumulator = new RationalAccumulator().set(10);
+
+        // Act
+        accumulator.divide(NumericAccumulator.of(3));
+        accumulator.multiply(NumericAccumulator.of(3));
+
+        // Assert
+        assertEquals(10, accumulator.toNumber());
+    }
+
+    @Test
+    @DisplayName("Should keep large longs exact where doubles would round them")
+    void shouldKeepLargeLongsExact() {
+        // Arrange
+        RationalAccumulator accumulator = new RationalAccumulator().set(Long.MAX_VALUE);
+
+        // Act
+        accumulator.divide(NumericAccumulator.of(7L));
+        accumulator.add(NumericAccumulator.of(1));
+        accumulator.multiply(NumericAccumulator.of(7));
+
+        // Assert: Long.MAX_VALUE + 7, promoted to BigInteger
+        assertEquals(new BigInteger("9223372036854775814"), toBigInteger(accumulator.toNumber()));
+    }
+
+    @Test
+    @DisplayName("Should return whole results in the widest operand type")
+    void shouldReturnWholeResultsInWidestOperandType() {
+        RationalAccumulator ints = new RationalAccumulator().set(6);
+        ints.divide(NumericAccumulator.of(2));
+        assertEquals(3, ints.toNumber());
+
+        RationalAccumulator longs = new RationalAccumulator().set(6);
+        longs.divide(NumericAccumulator.of(2L));
+        assertEquals(3L, longs.toNumber());
+
+        RationalAccumulator bigIntegers = new RationalAccumulator().set(6);
+        bigIntegers.divide(NumericAccumulator.of(BigInteger.TWO));
+        assertEquals(BigInteger.valueOf(3), bigIntegers.toNumber());
+    }
+
+    @Test
+    @DisplayName("Should round fractions only when converting the result")
+    void shouldRoundFractionsOnlyOnConversion() {
+        RationalAccumulator thirds = new RationalAccumulator().set(1);
+        thirds.divide(NumericAccumulator.of(3));
+        assertEquals(1.0 / 3, thirds.toNumber());
+
+        RationalAccumulator bigThirds = new RationalAccumulator().set(BigInteger.ONE);
+        bigThirds.divide(NumericAccumulator.of(3));
+        assertEquals(BigDecimal.ONE.divide(BigDecimal.valueOf(3), MathContext.DECIMAL128), bigThirds.toNumber());
+    }
+
+    @Test
+    @DisplayName("Should reject division by zero")
+    void shouldRejectDivisionByZero() {
+        RationalAccumulator accumulator = new RationalAccumulator().set(1);
+
+        assertThrows(CalculationException.class, () -> accumulator.divide(NumericAccumulator.of(0)));
+        assertThrows(CalculationException.class, () -> accumulator.divide(NumericAccumulator.of(BigInteger.ZERO)));
+    }
+
+    @Test
+    @DisplayName("Should match BigInteger fractions for random chains that overflow longs")
+    void shouldMatchBigIntegerFractionsForRandomChains() {
+        Random random = new Random(42);
+
+        for (int chain = 0; chain < 2_000; chain++) {
+            long initialValue = randomLong(random);
+            RationalAccumulator accumulator = new RationalAccumulator().set(initialValue);
+            BigInteger numerator = BigInteger.valueOf(initialValue);
+            BigInteger denominator = BigInteger.ONE;
+            StringBuilder description = new StringBuilder().append(initialValue);
+
+            int length = 1 + random.nextInt(20);
+            for (int i = 0; i < length; i++) {
+                long value = randomLong(random);
+                BigInteger operand = BigInteger.valueOf(value);
+                NumericAccumulator operandValue = NumericAccumulator.of(value);
+                switch (random.nextInt(4)) {
+                    case 0 -> {
+                        accumulator.add(operandValue);
+                        numerator = numerator.add(operand.multiply(denominator));
+                        description.append(" + ").append(value);
+                    }
+                    case 1 -> {
+                        accumulator.subtract(operandValue);
+                        numerator = numerator.subtract(operand.multiply(denominator));
+                        description.append(" - ").append(value);
+                    }
+                    case 2 -> {
+                        accumulator.multiply(operandValue);
+                        numerator = numerator.multiply(operand);
+                        description.append(" * ").append(value);
+                    }
+                    default -> {
+                        if (value == 0) {
+                            continue;
+                        }
+                        accumulator.divide(operandValue);
+                        numerator = numerator.multiply(operand.signum() < 0 ? BigInteger.ONE.negate() : BigInteger.ONE);
+                        denominator = denominator.multiply(operand.abs());
+                        description.append(" / ").append(value);
+                    }
+                }
+            }
+
+            Number result = accumulator.toNumber();
+            BigInteger[] quotientAndRemainder = numerator.divideAndRemainder(denominator);
+            if (quotientAndRemainder[1].signum() == 0) {
+                assertEquals(quotientAndRemainder[0], toBigInteger(result), description.toString());
+            } else {
+                double expected = new BigDecimal(numerator).divide(new BigDecimal(denominator), MathContext.DECIMAL128)
+                        .doubleValue();
+                assertEquals(expected, result.doubleValue(), Math.ulp(expected), description.toString());
+            }
+        }
+    }
+
+    private static long randomLong(Random random) {
+        return switch (random.nextInt(6)) {
+            case 0 -> random.nextInt(7) - 3;
+            case 1 -> random.nextInt(1_000) + 1;
+            case 2 -> random.nextLong();
+            case 3 -> random.nextBoolean() ? Long.MAX_VALUE : Long.MIN_VALUE;
+            case 4 -> 1L << random.nextInt(63);
+            default -> random.nextInt();
+        };
+    }
+
+    private static BigInteger toBigInteger(Number value) {
+        return value instanceof BigInteger integer ? integer : BigInteger.valueOf(value.longValue());
+    }
+}
@@ -0,0 +1,166 @@
+package org.ebay.flexiblecalculator.unit.operation.columnar;
+
+import org.ebay.flexiblecalculator.model.CalculationResult;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernel;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernels;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests comparing the column kernels lane by lane with the built-in operation strategies
+ */
+class ColumnarKernelTest {
+
+    // Not a multiple of any vector length, so every kernel also runs its scalar tail
+    private static final int SIZE = 1003;
+
+    private static final long[] EDGE_VALUES = {
+            0, 1, -1, 2, -2, 7, Integer.MAX_VALUE, Integer.MIN_VALUE, (long) Integer.MAX_VALUE + 1,
+            (long) Integer.MIN_VALUE - 1, 3_037_000_499L, 3_037_000_500L, -3_037_000_500L,
+            Long.MAX_VALUE, Long.MIN_VALUE, Long.MAX_VALUE / 2, Long.MIN_VALUE / 2
+    };
+
+    private final OperationRegistry registry = new OperationRegistry(Arrays.asList(
+            new AddOperation(),
+            new SubtractOperation(),
+            new MultiplyOperation(),
+            new DivideOperation()
+    ));
+
+    private final List<ColumnarKernel> kernels = List.of(ColumnarKernels.scalar(), ColumnarKernels.best());
+
+    @Test
+    @DisplayName("Should use the Vector API kernel when its module is available")
+    void shouldUseVectorKernelWhenAvailable() {
+        // The build adds the incubator module to test runs
+        assertTrue(ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent());
+        assertTrue(ColumnarKernels.best().toString().startsWith("vector"), ColumnarKernels.best().toString());
+    }
+
+    @Test
+    @DisplayName("Should match the strategies for long columns, failing lanes they promote past a long")
+    void shouldMatchStrategiesForLongColumns() {
+        Random random = new Random(42);
+        long[] num1 = longColumn(random);
+        long[] num2 = longColumn(random);
+
+        for (ColumnarKernel kernel : kernels) {
+            for (Operation operation : List.of(Operation.ADD, Operation.SUBTRACT, Operation.MULTIPLY)) {
+                long[] result = new long[SIZE];
+                boolean[] failed = new boolean[SIZE];
+                int failures = kernel.longs(operation, num1, num2, result, failed);
+
+                int expectedFailures = 0;
+                for (int i = 0; i < SIZE; i++) {
+                    Number expected = strategy(operation).execute(num1[i], num2[i]);
+                    String lane = kernel + " " + num1[i] + " " + operation + " " + num2[i];
+                    if (expected instanceof BigInteger) {
+                        expectedFailures++;
+                        assertTrue(failed[i], lane);
+                        assertEquals(0, result[i], lane);
+                    } else {
+                        assertFalse(failed[i], lane);
+                        assertEquals(expected, result[i], lane);
+                    }
+                }
+                assertTrue(expectedFailures > 0);
+                assertEquals(expectedFailures, failures);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the strategy for long quotients, failing division by zero")
+    void shouldMatchStrategyForLongQuotients() {
+        Random random = new Random(7);
+        long[] num1 = longColumn(random);
+        long[] num2 = longColumn(random);
+
+        for (ColumnarKernel kernel : kernels) {
+            double[] result = new double[SIZE];
+            boolean[] failed = new boolean[SIZE];
+            int failures = kernel.divideLongs(num1, num2, result, failed);
+
+            int expectedFailures = 0;
+            for (int i = 0; i < SIZE; i++) {
+                CalculationResult expected = strategy(Operation.DIVIDE).evaluate(num1[i], num2[i]);
+                String lane = kernel + " " + num1[i] + " / " + num2[i];
+                if (!expected.isSuccess()) {
+                    expectedFailures++;
+                    assertTrue(failed[i], lane);
+                    assertEquals(0.0, result[i], lane);
+                } else {
+                    assertFalse(failed[i], lane);
+                    assertEquals(expected.getValue(), result[i], lane);
+                }
+            }
+            assertTrue(expectedFailures > 0);
+            assertEquals(expectedFailures, failures);
+        }
+    }
+
+    @Test
+    @DisplayName("Should match the strategies for double columns, including signed zeros and non-finite values")
+    void shouldMatchStrategiesForDoubleColumns() {
+        Random random = new Random(11);
+        double[] specials = {0.0, -0.0, 1.5, -2.25, Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                Double.MIN_VALUE, Double.MAX_VALUE};
+        double[] num1 = new double[SIZE];
+        double[] num2 = new double[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            num1[i] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextGaussian() * 1e6;
+            num2[i] = random.nextInt(4) == 0 ? specials[random.nextInt(specials.length)] : random.nextGaussian() * 1e6;
+        }
+
+        for (ColumnarKernel kernel : kernels) {
+            for (Operation operation : Operation.values()) {
+                double[] result = new double[SIZE];
+                boolean[] failed = new boolean[SIZE];
+                int failures = kernel.doubles(operation, num1, num2, result, failed);
+
+                int expectedFailures = 0;
+                for (int i = 0; i < SIZE; i++) {
+                    CalculationResult expected = strategy(operation).evaluate(num1[i], num2[i]);
+                    String lane = kernel + " " + num1[i] + " " + operation + " " + num2[i];
+                    if (!expected.isSuccess()) {
+                        expectedFailures++;
+                        assertTrue(failed[i], lane);
+                    } else {
+                        assertFalse(failed[i], lane);
+                        assertEquals(expected.getValue(), result[i], lane);
+                    }
+                }
+                assertEquals(expectedFailures, failures);
+            }
+        }
+    }
+
+    private OperationStrategy strategy(Operation operation) {
+        return registry.getStrategy(operation).orElseThrow();
+    }
+
+    /**
+     * Mostly small values, which take the vector path, with edge values that overflow or divide by zero
+     */
+    private static long[] longColumn(Random random) {
+        long[] column = new long[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            column[i] = switch (random.nextInt(3)) {
+                case 0 -> EDGE_VALUES[random.nextInt(EDGE_VALUES.length)];
+                case 1 -> random.nextLong();
+                default -> random.nextInt(2001) - 1000;
+            };
+        }
+        return column;
+    }
+}
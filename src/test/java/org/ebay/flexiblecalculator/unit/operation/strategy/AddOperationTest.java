@@ -2,10 +2,16 @@ package org.ebay.flexiblecalculator.unit.operation.strategy;
 
 import org.ebay.flexiblecalculator.model.Operation;
 import org.ebay.flexiblecalculator.operation.strategy.AddOperation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -76,6 +82,66 @@ class AddOperationTest {
         assertEquals(8.8, result.doubleValue(), 0.001);
     }
 
+    @Test
+    @DisplayName("Should promote integer overflow to Long")
+    void shouldPromoteIntegerOverflowToLong() {
+        // Act
+        Number result = addOperation.execute(Integer.MAX_VALUE, 1);
+
+        // Assert
+        assertEquals(2_147_483_648L, result);
+    }
+
+    @Test
+    @DisplayName("Should promote long overflow to BigInteger")
+    void shouldPromoteLongOverflowToBigInteger() {
+        // Act
+        Number result = addOperation.execute(Long.MAX_VALUE, 1);
+
+        // Assert
+        assertEquals(new BigInteger("9223372036854775808"), result);
+    }
+
+    @Test
+    @DisplayName("Should add big operands without truncating them")
+    void shouldAddBigOperandsWithoutTruncating() {
+        // Arrange
+        Number big = new BigInteger("100000000000000000000");
+
+        // Act & Assert
+        assertEquals(new BigInteger("100000000000000000001"), addOperation.execute(big, 1));
+        assertEquals(new BigDecimal("100000000000000000000.25"), addOperation.execute(big, new BigDecimal("0.25")));
+    }
+
+    @Test
+    @DisplayName("Should round decimal results to the configured MathContext")
+    void shouldRoundDecimalResultsToMathContext() {
+        // Arrange
+        AddOperation threeDigits = new AddOperation(new MathContext(3, RoundingMode.HALF_UP));
+
+        // Act
+        Number result = threeDigits.execute(new BigDecimal("1.25"), 1000);
+
+        // Assert
+        assertEquals(new BigDecimal("1.00E+3"), result);
+    }
+
+    @Test
+    @DisplayName("Should promote in-place results like execute")
+    void shouldPromoteInPlaceResultsLikeExecute() {
+        // Arrange
+        NumericAccumulator intAccumulator = NumericAccumulator.of(Integer.MAX_VALUE);
+        NumericAccumulator longAccumulator = NumericAccumulator.of(Long.MAX_VALUE);
+
+        // Act
+        addOperation.executeInPlace(intAccumulator, NumericAccumulator.of(1));
+        addOperation.executeInPlace(longAccumulator, NumericAccumulator.of(1));
+
+        // Assert
+        assertEquals(2_147_483_648L, intAccumulator.toNumber());
+        assertEquals(new BigInteger("9223372036854775808"), longAccumulator.toNumber());
+    }
+
     @Test
     @DisplayName("Should return correct operation type")
     void shouldReturnCorrectOperationType() {
@@ -2,11 +2,17 @@ package org.ebay.flexiblecalculator.unit.operation.strategy;
 
 import org.ebay.flexiblecalculator.exception.CalculationException;
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
 import org.ebay.flexiblecalculator.operation.strategy.DivideOperation;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -89,6 +95,77 @@ class DivideOperationTest {
         assertThrows(CalculationException.class, () -> divideOperation.execute(num1, num2));
     }
 
+    @Test
+    @DisplayName("Should throw exception when dividing by zero in place")
+    void shouldThrowExceptionWhenDividingByZeroInPlace() {
+        // Arrange
+        NumericAccumulator accumulator = NumericAccumulator.of(5);
+        NumericAccumulator operand = NumericAccumulator.of(0L);
+
+        // Act & Assert
+        assertThrows(CalculationException.class, () -> divideOperation.executeInPlace(accumulator, operand));
+    }
+
+    @Test
+    @DisplayName("Should keep integer type for whole in-place division")
+    void shouldKeepIntegerTypeForWholeInPlaceDivision() {
+        // Arrange
+        NumericAccumulator accumulator = NumericAccumulator.of(6);
+
+        // Act
+        divideOperation.executeInPlace(accumulator, NumericAccumulator.of(3));
+
+        // Assert
+        assertEquals(2, accumulator.toNumber());
+    }
+
+    @Test
+    @DisplayName("Should promote the quotient of Integer.MIN_VALUE by -1")
+    void shouldPromoteMinValueDividedByMinusOne() {
+        // Arrange
+        NumericAccumulator accumulator = NumericAccumulator.of(Integer.MIN_VALUE);
+
+        // Act
+        divideOperation.executeInPlace(accumulator, NumericAccumulator.of(-1));
+
+        // Assert
+        assertEquals(2_147_483_648L, divideOperation.execute(Integer.MIN_VALUE, -1));
+        assertEquals(2_147_483_648L, accumulator.toNumber());
+    }
+
+    @Test
+    @DisplayName("Should divide in place to the same value, type and sign of zero as execute")
+    void shouldMatchExecuteInPlace() {
+        Number[] operands = {0, 7, -5, 0L, 7L, -5L, Long.MIN_VALUE, 0.0f, -0.0f, 2.5f, -5f, 0.0, -0.0, 2.5, -5.0};
+
+        for (Number num1 : operands) {
+            for (Number num2 : operands) {
+                if (num2.doubleValue() == 0) {
+                    continue;
+                }
+                NumericAccumulator accumulator = NumericAccumulator.of(num1);
+
+                divideOperation.executeInPlace(accumulator, NumericAccumulator.of(num2));
+
+                assertEquals(divideOperation.execute(num1, num2), accumulator.toNumber(), num1 + " / " + num2);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should divide big operands exactly where possible")
+    void shouldDivideBigOperandsExactly() {
+        // Arrange
+        DivideOperation fiveDigits = new DivideOperation(new MathContext(5, RoundingMode.HALF_EVEN));
+
+        // Act & Assert
+        assertEquals(new BigInteger("50000000000000000000"),
+                fiveDigits.execute(new BigInteger("100000000000000000000"), 2));
+        assertEquals(new BigDecimal("0.33333"), fiveDigits.execute(BigInteger.ONE, 3));
+        assertEquals(new BigDecimal("1.25"), fiveDigits.execute(new BigDecimal("2.5"), 2));
+        assertThrows(CalculationException.class, () -> fiveDigits.execute(1, new BigDecimal("0.00")));
+    }
+
     @Test
     @DisplayName("Should return correct operation type")
     void shouldReturnCorrectOperationType() {
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -90,6 +93,23 @@ class MultiplyOperationTest {
         assertEquals(0, result);
     }
 
+    @Test
+    @DisplayName("Should promote overflowing products")
+    void shouldPromoteOverflowingProducts() {
+        // Act & Assert
+        assertEquals(4_611_686_014_132_420_609L, multiplyOperation.execute(Integer.MAX_VALUE, Integer.MAX_VALUE));
+        assertEquals(new BigInteger("18446744073709551614"), multiplyOperation.execute(Long.MAX_VALUE, 2));
+    }
+
+    @Test
+    @DisplayName("Should multiply big operands without truncating them")
+    void shouldMultiplyBigOperandsWithoutTruncating() {
+        // Act & Assert
+        assertEquals(new BigInteger("30000000000000000000"),
+                multiplyOperation.execute(new BigInteger("10000000000000000000"), 3));
+        assertEquals(new BigDecimal("7.5"), multiplyOperation.execute(new BigDecimal("2.5"), 3));
+    }
+
     @Test
     @DisplayName("Should return correct operation type")
     void shouldReturnCorrectOperationType() {
@@ -6,6 +6,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.math.BigInteger;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
@@ -118,6 +120,14 @@ class SubtractOperationTest {
         assertEquals(5, result);
     }
 
+    @Test
+    @DisplayName("Should promote overflowing differences")
+    void shouldPromoteOverflowingDifferences() {
+        // Act & Assert
+        assertEquals(-2_147_483_649L, subtractOperation.execute(Integer.MIN_VALUE, 1));
+        assertEquals(new BigInteger("-9223372036854775809"), subtractOperation.execute(Long.MIN_VALUE, 1));
+    }
+
     @Test
     @DisplayName("Should return correct operation type")
     void shouldReturnCorrectOperationType() {
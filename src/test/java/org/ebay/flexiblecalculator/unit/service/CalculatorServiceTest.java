@@ -1,12 +1,21 @@
 package org.ebay.flexiblecalculator.unit.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
 import org.ebay.flexiblecalculator.dto.request.ChainOperation;
 import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.DivisionMode;
 import org.ebay.flexiblecalculator.model.Operation;
 import org.ebay.flexiblecalculator.service.CalculatorService;
+import org.ebay.flexiblecalculator.service.batch.BatchCalculator;
+import org.ebay.flexiblecalculator.service.batch.ColumnarBatchCalculator;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator;
 import org.ebay.flexiblecalculator.service.calculator.Calculator;
-import org.ebay.flexiblecalculator.service.chain.ChainedCalculator;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.ebay.flexiblecalculator.service.chain.ChainPlanner;
+import org.ebay.flexiblecalculator.service.chain.StreamingChainEvaluator;
+import org.ebay.flexiblecalculator.service.expression.ExpressionEvaluator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -31,13 +40,33 @@ class CalculatorServiceTest {
     private Calculator calculator;
 
     @Mock
-    private ChainedCalculator chainedCalculator;
+    private ChainPlanner chainPlanner;
+
+    @Mock
+    private ChainEvaluator chainEvaluator;
+
+    @Mock
+    private BatchCalculator batchCalculator;
+
+    @Mock
+    private ColumnarBatchCalculator columnarBatchCalculator;
+
+    @Mock
+    private StreamingBatchCalculator streamingBatchCalculator;
+
+    @Mock
+    private StreamingChainEvaluator streamingChainEvaluator;
+
+    @Mock
+    private ExpressionEvaluator expressionEvaluator;
 
     private CalculatorService calculatorService;
 
     @BeforeEach
     void setUp() {
-        calculatorService = new CalculatorService(calculator, chainedCalculator);
+        calculatorService = new CalculatorService(calculator, chainPlanner, chainEvaluator, batchCalculator,
+                columnarBatchCalculator, streamingBatchCalculator, streamingChainEvaluator, expressionEvaluator,
+                new CalculatorMetrics(new SimpleMeterRegistry()));
     }
 
     @Test
@@ -65,21 +94,18 @@ class CalculatorServiceTest {
         Number operand = 3;
         Number expectedResult = 8;
 
-        ChainOperation chainOperation = new ChainOperation(Operation.ADD, operand);
-        ChainRequest request = new ChainRequest(initialValue, Collections.singletonList(chainOperation));
+        List<ChainOperation> operations = Collections.singletonList(new ChainOperation(Operation.ADD, operand));
+        ChainRequest request = new ChainRequest(initialValue, operations);
 
-        when(chainedCalculator.start(initialValue)).thenReturn(chainedCalculator);
-        when(chainedCalculator.apply(Operation.ADD, operand)).thenReturn(chainedCalculator);
-        when(chainedCalculator.getResult()).thenReturn(expectedResult);
+        when(chainPlanner.plan(request)).thenReturn(request);
+        when(chainEvaluator.evaluate(initialValue, operations, DivisionMode.DOUBLE)).thenReturn(expectedResult);
 
         // Act
         Number result = calculatorService.calculateChain(request);
 
         // Assert
         assertEquals(expectedResult, result);
-        verify(chainedCalculator).start(initialValue);
-        verify(chainedCalculator).apply(Operation.ADD, operand);
-        verify(chainedCalculator).getResult();
+        verify(chainEvaluator).evaluate(initialValue, operations, DivisionMode.DOUBLE);
     }
 
     @Test
@@ -96,21 +122,16 @@ class CalculatorServiceTest {
 
         ChainRequest request = new ChainRequest(initialValue, operations);
 
-        when(chainedCalculator.start(initialValue)).thenReturn(chainedCalculator);
-        when(chainedCalculator.apply(any(Operation.class), any(Number.class))).thenReturn(chainedCalculator);
-        when(chainedCalculator.getResult()).thenReturn(expectedResult);
+        when(chainPlanner.plan(request)).thenReturn(request);
+        when(chainEvaluator.evaluate(initialValue, operations, DivisionMode.DOUBLE)).thenReturn(expectedResult);
 
         // Act
         Number result = calculatorService.calculateChain(request);
 
         // Assert
         assertEquals(expectedResult, result);
-        verify(chainedCalculator).start(initialValue);
-        verify(chainedCalculator, times(3)).apply(any(Operation.class), any(Number.class));
-        verify(chainedCalculator).apply(Operation.ADD, 3);
-        verify(chainedCalculator).apply(Operation.MULTIPLY, 2);
-        verify(chainedCalculator).apply(Operation.DIVIDE, 4);
-        verify(chainedCalculator).getResult();
+        verify(chainEvaluator).evaluate(initialValue, operations, DivisionMode.DOUBLE);
+        verifyNoInteractions(calculator);
     }
 
     @Test
@@ -121,16 +142,36 @@ class CalculatorServiceTest {
         List<ChainOperation> operations = Collections.emptyList();
         ChainRequest request = new ChainRequest(initialValue, operations);
 
-        when(chainedCalculator.start(initialValue)).thenReturn(chainedCalculator);
-        when(chainedCalculator.getResult()).thenReturn(initialValue);
+        when(chainPlanner.plan(request)).thenReturn(request);
+        when(chainEvaluator.evaluate(initialValue, operations, DivisionMode.DOUBLE)).thenReturn(initialValue);
 
         // Act
         Number result = calculatorService.calculateChain(request);
 
         // Assert
         assertEquals(initialValue, result);
-        verify(chainedCalculator).start(initialValue);
-        verify(chainedCalculator, never()).apply(any(Operation.class), any(Number.class));
-        verify(chainedCalculator).getResult();
+        verify(chainEvaluator).evaluate(initialValue, operations, DivisionMode.DOUBLE);
+    }
+
+    @Test
+    @DisplayName("Should evaluate the planned chain instead of the original")
+    void shouldEvaluatePlannedChain() {
+        // Arrange
+        List<ChainOperation> operations = Arrays.asList(
+                new ChainOperation(Operation.ADD, 1),
+                new ChainOperation(Operation.ADD, 2)
+        );
+        List<ChainOperation> plannedOperations = Collections.singletonList(new ChainOperation(Operation.ADD, 3));
+        ChainRequest request = new ChainRequest(5, operations);
+
+        when(chainPlanner.plan(request)).thenReturn(new ChainRequest(5, plannedOperations));
+        when(chainEvaluator.evaluate(5, plannedOperations, DivisionMode.DOUBLE)).thenReturn(8);
+
+        // Act
+        Number result = calculatorService.calculateChain(request);
+
+        // Assert
+        assertEquals(8, result);
+        verify(chainEvaluator).evaluate(5, plannedOperations, DivisionMode.DOUBLE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,133 @@
+package org.ebay.flexiblecalculator.unit.service.batch;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.config.BatchProperties;
+import org.ebay.flexiblecalculator.dto.request.CalculateRequest;
+import org.ebay.flexiblecalculator.dto.response.Response;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.batch.BatchCalculator;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the BatchCalculator class
+ */
+class BatchCalculatorTest {
+
+    private ForkJoinPool batchExecutor;
+    private BatchCalculator batchCalculator;
+
+    @BeforeEach
+    void setUp() {
+        OperationRegistry registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setParallelThreshold(4);
+
+        batchExecutor = new ForkJoinPool(4);
+        batchCalculator = new BatchCalculator(new CalculatorImpl(registry, new CalculatorMetrics(new SimpleMeterRegistry())), batchExecutor, batchProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchExecutor.shutdown();
+    }
+
+    @Test
+    @DisplayName("Should evaluate small batch in order")
+    void shouldEvaluateSmallBatchInOrder() {
+        // Act
+        List<Response> results = batchCalculator.calculate(List.of(
+                new CalculateRequest(Operation.ADD, 5, 3),
+                new CalculateRequest(Operation.MULTIPLY, 2.5, 2)
+        ));
+
+        // Assert
+        assertEquals(2, results.size());
+        assertEquals(8, results.get(0).getData());
+        assertEquals(5.0, results.get(1).getData());
+    }
+
+    @Test
+    @DisplayName("Should report failing items without failing the batch")
+    void shouldReportFailingItemsWithoutFailingBatch() {
+        // Act
+        List<Response> results = batchCalculator.calculate(List.of(
+                new CalculateRequest(Operation.DIVIDE, 5, 0),
+                new CalculateRequest(Operation.SUBTRACT, 5, 3)
+        ));
+
+        // Assert
+        assertEquals("400", results.get(0).getCode());
+        assertEquals("Division by zero is not allowed", results.get(0).getMessage());
+        assertNull(results.get(0).getData());
+        assertEquals("200", results.get(1).getCode());
+        assertEquals(2, results.get(1).getData());
+    }
+
+    @Test
+    @DisplayName("Should evaluate large batch in parallel preserving order")
+    void shouldEvaluateLargeBatchInParallelPreservingOrder() {
+        // Arrange: item i computes i * 2, except every tenth item divides by zero
+        List<CalculateRequest> calculations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            calculations.add(i % 10 == 0
+                    ? new CalculateRequest(Operation.DIVIDE, i, 0)
+                    : new CalculateRequest(Operation.MULTIPLY, i, 2));
+        }
+
+        // Act
+        List<Response> results = batchCalculator.calculate(calculations);
+
+        // Assert
+        assertEquals(1000, results.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 == 0) {
+                assertEquals("400", results.get(i).getCode());
+            } else {
+                assertEquals(i * 2, results.get(i).getData());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream large batch in chunks preserving order")
+    void shouldStreamLargeBatchInChunksPreservingOrder() {
+        // Arrange: item i computes i * 2, except every tenth item divides by zero
+        List<CalculateRequest> calculations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            calculations.add(i % 10 == 0
+                    ? new CalculateRequest(Operation.DIVIDE, i, 0)
+                    : new CalculateRequest(Operation.MULTIPLY, i, 2));
+        }
+
+        // Act
+        List<Response> results = batchCalculator.calculateFlux(calculations).collectList().block();
+
+        // Assert
+        assertEquals(1000, results.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 10 == 0) {
+                assertEquals("400", results.get(i).getCode());
+            } else {
+                assertEquals(i * 2, results.get(i).getData());
+            }
+        }
+    }
+}
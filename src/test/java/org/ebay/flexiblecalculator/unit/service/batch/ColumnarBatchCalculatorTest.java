@@ -0,0 +1,115 @@
+package org.ebay.flexiblecalculator.unit.service.batch;
+
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.model.ColumnarResult;
+import org.ebay.flexiblecalculator.model.NumericColumn;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.columnar.ColumnarKernels;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.batch.ColumnarBatchCalculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ColumnarBatchCalculator class
+ */
+class ColumnarBatchCalculatorTest {
+
+    private OperationRegistry registry;
+    private ColumnarBatchCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        calculator = new ColumnarBatchCalculator(registry, ColumnarKernels.scalar());
+    }
+
+    @Test
+    @DisplayName("Should keep long results and list overflowing lanes")
+    void shouldKeepLongResultsAndListOverflowingLanes() {
+        // Act
+        ColumnarResult result = calculator.calculate(Operation.MULTIPLY,
+                NumericColumn.ofLongs(3, Long.MAX_VALUE, -4), NumericColumn.ofLongs(5, 2, 6));
+
+        // Assert
+        assertEquals(NumericColumn.ofLongs(15, 0, -24), result.getValues());
+        assertArrayEquals(new int[]{1}, result.getErrors());
+        assertEquals("Result is out of range", result.getError());
+    }
+
+    @Test
+    @DisplayName("Should divide long columns into doubles and list division by zero")
+    void shouldDivideLongColumnsIntoDoubles() {
+        // Act
+        ColumnarResult result = calculator.calculate(Operation.DIVIDE,
+                NumericColumn.ofLongs(10, 7, 1), NumericColumn.ofLongs(2, 0, 4));
+
+        // Assert
+        assertEquals(NumericColumn.ofDoubles(5.0, 0, 0.25), result.getValues());
+        assertArrayEquals(new int[]{1}, result.getErrors());
+        assertEquals("Division by zero is not allowed", result.getError());
+    }
+
+    @Test
+    @DisplayName("Should promote both columns to doubles when one is")
+    void shouldPromoteToDoubles() {
+        // Act
+        ColumnarResult result = calculator.calculate(Operation.ADD,
+                NumericColumn.ofLongs(1, 2), NumericColumn.ofDoubles(0.5, 0.25));
+
+        // Assert
+        assertEquals(NumericColumn.ofDoubles(1.5, 2.25), result.getValues());
+        assertEquals(0, result.getErrors().length);
+        assertNull(result.getError());
+    }
+
+    @Test
+    @DisplayName("Should reject columns of different lengths")
+    void shouldRejectColumnsOfDifferentLengths() {
+        // Act & Assert
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class, () ->
+                calculator.calculate(Operation.ADD, NumericColumn.ofLongs(1, 2), NumericColumn.ofLongs(1)));
+        assertEquals("num2", exception.getField());
+    }
+
+    @Test
+    @DisplayName("Should evaluate a custom strategy lane by lane")
+    void shouldEvaluateCustomStrategyLaneByLane() {
+        // Arrange
+        registry.registerStrategy(new OperationStrategy() {
+            @Override
+            public Number execute(Number num1, Number num2) {
+                if (num2.longValue() == 0) {
+                    throw new CalculationException("Modulo by zero");
+                }
+                return num1.longValue() % num2.longValue();
+            }
+
+            @Override
+            public Operation getSupportedOperation() {
+                return Operation.DIVIDE;
+            }
+        });
+
+        // Act
+        ColumnarResult result = calculator.calculate(Operation.DIVIDE,
+                NumericColumn.ofLongs(7, 9, 5), NumericColumn.ofLongs(4, 0, 5));
+
+        // Assert
+        assertEquals(NumericColumn.ofLongs(3, 0, 0), result.getValues());
+        assertArrayEquals(new int[]{1}, result.getErrors());
+        assertEquals("Modulo by zero", result.getError());
+    }
+}
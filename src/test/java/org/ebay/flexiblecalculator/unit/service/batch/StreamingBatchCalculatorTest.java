@@ -0,0 +1,189 @@
+package org.ebay.flexiblecalculator.unit.service.batch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.validation.Validation;
+import org.ebay.flexiblecalculator.config.BatchProperties;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator;
+import org.ebay.flexiblecalculator.service.batch.StreamingBatchCalculator.Format;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.ebay.flexiblecalculator.service.chain.ChainPlanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the StreamingBatchCalculator class
+ */
+class StreamingBatchCalculatorTest {
+
+    private StreamingBatchCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        OperationRegistry registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        CalculatorMetrics calculatorMetrics = new CalculatorMetrics(new SimpleMeterRegistry());
+        CalculatorImpl calculatorImpl = new CalculatorImpl(registry, calculatorMetrics);
+        BatchProperties batchProperties = new BatchProperties();
+        batchProperties.setMaxLineLength(128);
+
+        calculator = new StreamingBatchCalculator(calculatorImpl, new ChainPlanner(registry),
+                new ChainEvaluator(calculatorImpl), new ObjectMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), calculatorMetrics, batchProperties);
+    }
+
+    @Test
+    @DisplayName("Should evaluate CSV calculations and chains, skipping the header and blank lines")
+    void shouldEvaluateCsvLines() throws IOException {
+        // Arrange
+        String body = "operation,num1,num2\r\n"
+                + "ADD,5,3\r\n"
+                + "\n"
+                + "DIVIDE,1,0\n"
+                + "10,ADD,5,MULTIPLY,2\n"
+                + "MULTIPLY,2.5,4000000000\n"
+                + "MODULO,1,2\n"
+                + "ADD,1,x";
+
+        // Act
+        String results = calculate(body, Format.CSV);
+
+        // Assert
+        assertEquals("200,Success,8\n"
+                + "400,Division by zero is not allowed,\n"
+                + "200,Success,30\n"
+                + "200,Success,1.0E10\n"
+                + "400,\"Invalid operation value. Supported operations are: ADD, SUBTRACT, MULTIPLY, DIVIDE\",\n"
+                + "400,Invalid number: x,\n", results);
+    }
+
+    @Test
+    @DisplayName("Should evaluate NDJSON calculations and chains and report invalid lines")
+    void shouldEvaluateNdjsonLines() throws IOException {
+        // Arrange
+        String body = "{\"operation\":\"ADD\",\"num1\":5,\"num2\":3}\n"
+                + "{\"initialValue\":1,\"divisionMode\":\"EXACT\",\"operations\":"
+                + "[{\"operation\":\"DIVIDE\",\"value\":3},{\"operation\":\"MULTIPLY\",\"value\":3}]}\n"
+                + "{\"operation\":\"ADD\",\"num1\":5}\n"
+                + "{\"operation\":\"ADD\",\"num1\":\n";
+
+        // Act
+        String results = calculate(body, Format.NDJSON);
+
+        // Assert
+        assertEquals("{\"code\":\"200\",\"message\":\"Success\",\"data\":8}\n"
+                + "{\"code\":\"200\",\"message\":\"Success\",\"data\":1}\n"
+                + "{\"code\":\"400\",\"message\":\"Second operand is required\",\"data\":null}\n"
+                + "{\"code\":\"400\",\"message\":\"Invalid request format\",\"data\":null}\n", results);
+    }
+
+    @Test
+    @DisplayName("Should answer an over-long line with an error and continue with the next line")
+    void shouldRejectOverLongLine() throws IOException {
+        // Arrange
+        String body = "ADD,1," + "1".repeat(200) + "\nADD,1,2\n";
+
+        // Act
+        String results = calculate(body, Format.CSV);
+
+        // Assert
+        assertEquals("400,Line is longer than 128 bytes,\n200,Success,3\n", results);
+    }
+
+    @Test
+    @DisplayName("Should write each result before waiting for the next line")
+    void shouldWriteEachResultBeforeWaitingForNextLine() throws IOException {
+        // Arrange: a body that only ever has one line available, and records what was written before each read
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> writtenBeforeRead = new ArrayList<>();
+        InputStream body = new OneLineAtATimeInputStream(List.of("ADD,1,2\n", "ADD,3,4\n", "ADD,5,6\n"),
+                () -> writtenBeforeRead.add(out.size()));
+
+        // Act
+        calculator.calculate(body, out, Format.CSV);
+
+        // Assert
+        assertEquals(List.of(0, 14, 28, 43), writtenBeforeRead);
+        assertEquals("200,Success,3\n200,Success,7\n200,Success,11\n", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("Should read a line only when the reactive subscriber requests a result")
+    void shouldReadLineOnlyWhenResultRequested() {
+        // Arrange
+        List<Integer> reads = new ArrayList<>();
+        InputStream body = new OneLineAtATimeInputStream(List.of("ADD,1,2\n", "ADD,3,4\n", "ADD,5,6\n"),
+                () -> reads.add(reads.size()));
+
+        // Act
+        List<String> results = new ArrayList<>();
+        calculator.calculateFlux(body, Format.CSV)
+                .take(1)
+                .subscribe(line -> results.add(new String(line, StandardCharsets.UTF_8)));
+
+        // Assert
+        assertEquals(List.of("200,Success,3\n"), results);
+        assertEquals(1, reads.size());
+    }
+
+    private String calculate(String body, Format format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        calculator.calculate(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), out, format);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Serves one line per read call and reports no further available input, like a client sending lines slowly
+     */
+    private static class OneLineAtATimeInputStream extends InputStream {
+
+        private final List<String> lines;
+        private final Runnable onRead;
+        private int next;
+
+        OneLineAtATimeInputStream(List<String> lines, Runnable onRead) {
+            this.lines = lines;
+            this.onRead = onRead;
+        }
+
+        @Override
+        public int read() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) {
+            onRead.run();
+            if (next == lines.size()) {
+                return -1;
+            }
+            byte[] line = lines.get(next++).getBytes(StandardCharsets.UTF_8);
+            System.arraycopy(line, 0, buffer, offset, line.length);
+            return line.length;
+        }
+
+        @Override
+        public int available() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package org.ebay.flexiblecalculator.unit.service.calculator;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.config.ResultCacheProperties;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.strategy.AddOperation;
+import org.ebay.flexiblecalculator.operation.strategy.MultiplyOperation;
+import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
+import org.ebay.flexiblecalculator.service.calculator.CachingCalculator;
+import org.ebay.flexiblecalculator.service.calculator.Calculator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the CachingCalculator class
+ */
+@ExtendWith(MockitoExtension.class)
+class CachingCalculatorTest {
+
+    @Mock
+    private Calculator delegate;
+
+    private MeterRegistry meterRegistry;
+    private OperationRegistry operationRegistry;
+    private CachingCalculator calculator;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        operationRegistry = new OperationRegistry(List.of(new AddOperation(), new MultiplyOperation()));
+        calculator = new CachingCalculator(delegate, operationRegistry, new CalculatorMetrics(meterRegistry),
+                new ResultCacheProperties(), meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should compute repeated calculation once")
+    void shouldComputeRepeatedCalculationOnce() {
+        // Arrange
+        when(delegate.calculate(Operation.ADD, 5, 3)).thenReturn(8);
+
+        // Act
+        Number first = calculator.calculate(Operation.ADD, 5, 3);
+        Number second = calculator.calculate(Operation.ADD, 5, 3);
+
+        // Assert
+        assertEquals(8, first);
+        assertEquals(8, second);
+        verify(delegate, times(1)).calculate(Operation.ADD, 5, 3);
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should keep operands of different numeric types apart")
+    void shouldKeepOperandsOfDifferentNumericTypesApart() {
+        // Arrange
+        when(delegate.calculate(Operation.ADD, 5, 3)).thenReturn(8);
+        when(delegate.calculate(Operation.ADD, 5.0, 3)).thenReturn(8.0);
+
+        // Act & Assert
+        assertEquals(8, calculator.calculate(Operation.ADD, 5, 3));
+        assertEquals(8.0, calculator.calculate(Operation.ADD, 5.0, 3));
+        verify(delegate).calculate(Operation.ADD, 5, 3);
+        verify(delegate).calculate(Operation.ADD, 5.0, 3);
+    }
+
+    @Test
+    @DisplayName("Should not cache failed calculations")
+    void shouldNotCacheFailedCalculations() {
+        // Arrange
+        when(delegate.calculate(Operation.DIVIDE, 5, 0))
+                .thenThrow(new CalculationException("Division by zero is not allowed"));
+
+        // Act & Assert
+        assertThrows(CalculationException.class, () -> calculator.calculate(Operation.DIVIDE, 5, 0));
+        assertThrows(CalculationException.class, () -> calculator.calculate(Operation.DIVIDE, 5, 0));
+        verify(delegate, times(2)).calculate(Operation.DIVIDE, 5, 0);
+    }
+
+    @Test
+    @DisplayName("Should time cache hits as calculations")
+    void shouldTimeCacheHits() {
+        // Arrange
+        when(delegate.calculate(Operation.ADD, 5, 3)).thenReturn(8);
+        calculator.calculate(Operation.ADD, 5, 3);
+
+        // Act
+        calculator.calculate(Operation.ADD, 5, 3);
+        calculator.evaluate(Operation.ADD, 5, 3);
+
+        // Assert: the miss is timed by the delegate, so only the two hits reach this registry
+        assertEquals(2, meterRegistry.get(CalculatorMetrics.CALCULATION_TIMER)
+                .tag("operation", "ADD").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should drop cached results of an operation whose strategy is replaced")
+    void shouldInvalidateOperationOnStrategyRegistration() {
+        // Arrange
+        when(delegate.calculate(Operation.ADD, 5, 3)).thenReturn(8);
+        when(delegate.calculate(Operation.MULTIPLY, 5, 3)).thenReturn(15);
+        calculator.calculate(Operation.ADD, 5, 3);
+        calculator.calculate(Operation.MULTIPLY, 5, 3);
+
+        // Act
+        operationRegistry.registerStrategy(new AddOperation());
+        calculator.calculate(Operation.ADD, 5, 3);
+        calculator.calculate(Operation.MULTIPLY, 5, 3);
+
+        // Assert
+        verify(delegate, times(2)).calculate(Operation.ADD, 5, 3);
+        verify(delegate, times(1)).calculate(Operation.MULTIPLY, 5, 3);
+    }
+}
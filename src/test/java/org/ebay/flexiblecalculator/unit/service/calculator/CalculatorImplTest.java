@@ -1,21 +1,30 @@
 package org.ebay.flexiblecalculator.unit.service.calculator;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.CalculationResult;
 import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.NumericAccumulator;
 import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.RationalAccumulator;
 import org.ebay.flexiblecalculator.operation.strategy.AddOperation;
+import org.ebay.flexiblecalculator.operation.strategy.DivideOperation;
 import org.ebay.flexiblecalculator.operation.strategy.OperationRegistry;
 import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -28,14 +37,17 @@ class CalculatorImplTest {
     @Mock
     private OperationRegistry operationRegistry;
 
-    @Mock
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private OperationStrategy operationStrategy;
 
+    private SimpleMeterRegistry meterRegistry;
+
     private CalculatorImpl calculator;
 
     @BeforeEach
     void setUp() {
-        calculator = new CalculatorImpl(operationRegistry);
+        meterRegistry = new SimpleMeterRegistry();
+        calculator = new CalculatorImpl(operationRegistry, new CalculatorMetrics(meterRegistry));
     }
 
     @Test
@@ -72,6 +84,25 @@ class CalculatorImplTest {
         verify(operationRegistry).getStrategy(Operation.ADD);
     }
 
+    @Test
+    @DisplayName("Should reject a missing operation without counting it as a calculation error")
+    void shouldRejectMissingOperation() {
+        // Arrange
+        when(operationRegistry.getStrategy(null)).thenReturn(Optional.empty());
+
+        // Act
+        CalculationException calculateException = assertThrows(CalculationException.class, () ->
+                calculator.calculate(null, 5, 3));
+        CalculationException exactException = assertThrows(CalculationException.class, () ->
+                calculator.calculateExact(null, new RationalAccumulator().set(5), NumericAccumulator.of(3)));
+
+        // Assert
+        assertEquals("Unsupported operation: null", calculateException.getMessage());
+        assertEquals("Unsupported operation: null", exactException.getMessage());
+        assertEquals(0, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER).counters().stream()
+                .mapToDouble(counter -> counter.count()).sum());
+    }
+
     @Test
     @DisplayName("Should handle the strategy's exception")
     void shouldHandleStrategyException() {
@@ -86,6 +117,10 @@ class CalculatorImplTest {
                 calculator.calculate(Operation.DIVIDE, 5, 0));
 
         verify(operationRegistry).getStrategy(Operation.DIVIDE);
+        assertEquals(1, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tag("operation", "DIVIDE")
+                .tag("exception", "CalculationException")
+                .counter().count());
     }
 
     @Test
@@ -102,5 +137,77 @@ class CalculatorImplTest {
         // Assert
         assertEquals(8, result);
         verify(operationRegistry).getStrategy(Operation.ADD);
+        assertEquals(1, meterRegistry.get(CalculatorMetrics.CALCULATION_TIMER)
+                .tag("operation", "ADD")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should calculate in place through the strategy's primitive path")
+    void shouldCalculateInPlaceThroughPrimitivePath() {
+        // Arrange
+        when(operationRegistry.getStrategy(Operation.ADD))
+                .thenReturn(Optional.of(new AddOperation()));
+        NumericAccumulator accumulator = NumericAccumulator.of(5L);
+
+        // Act
+        calculator.calculateInPlace(Operation.ADD, accumulator, NumericAccumulator.of(3));
+
+        // Assert
+        assertEquals(8L, accumulator.toNumber());
+        verify(operationRegistry).getStrategy(Operation.ADD);
+    }
+
+    @Test
+    @DisplayName("Should return division by zero as an error result without throwing")
+    void shouldReturnDivisionByZeroAsErrorResult() {
+        // Arrange
+        when(operationRegistry.getStrategy(Operation.DIVIDE))
+                .thenReturn(Optional.of(new DivideOperation()));
+
+        // Act
+        CalculationResult result = calculator.evaluate(Operation.DIVIDE, 5, 0);
+
+        // Assert
+        assertFalse(result.isSuccess());
+        assertEquals("Division by zero is not allowed", result.getError());
+        assertEquals(1, meterRegistry.get(CalculatorMetrics.ERROR_COUNTER)
+                .tag("operation", "DIVIDE")
+                .tag("exception", "CalculationException")
+                .counter().count());
+        assertEquals(0, meterRegistry.get(CalculatorMetrics.CALCULATION_TIMER)
+                .tag("operation", "DIVIDE")
+                .timer().count());
+    }
+
+    @Test
+    @DisplayName("Should return an unsupported operation as an error result")
+    void shouldReturnUnsupportedOperationAsErrorResult() {
+        // Arrange
+        when(operationRegistry.getStrategy(Operation.ADD)).thenReturn(Optional.empty());
+
+        // Act
+        CalculationResult result = calculator.evaluate(Operation.ADD, 5, 3);
+
+        // Assert
+        assertEquals(CalculationResult.error("Unsupported operation: ADD"), result);
+    }
+
+    @Test
+    @DisplayName("Should leave the accumulator unchanged when an in-place step fails")
+    void shouldLeaveAccumulatorUnchangedWhenInPlaceStepFails() {
+        // Arrange
+        when(operationRegistry.getStrategy(Operation.DIVIDE))
+                .thenReturn(Optional.of(new DivideOperation()));
+        NumericAccumulator accumulator = NumericAccumulator.of(5);
+
+        // Act
+        CalculationResult result = calculator.evaluateInPlace(Operation.DIVIDE, accumulator, NumericAccumulator.of(0));
+        CalculationResult success = calculator.evaluateInPlace(Operation.DIVIDE, accumulator, NumericAccumulator.of(2));
+
+        // Assert
+        assertEquals("Division by zero is not allowed", result.getError());
+        assertSame(CalculationResult.inPlace(), success);
+        assertEquals(2.5, accumulator.toNumber());
     }
-}
\ No newline at end of file
+}
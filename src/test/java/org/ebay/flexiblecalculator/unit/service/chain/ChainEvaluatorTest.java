@@ -0,0 +1,149 @@
+package org.ebay.flexiblecalculator.unit.service.chain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.DivisionMode;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChainEvaluator class
+ */
+class ChainEvaluatorTest {
+
+    private ChainEvaluator chainEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        OperationRegistry registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        chainEvaluator = new ChainEvaluator(new CalculatorImpl(registry, new CalculatorMetrics(new SimpleMeterRegistry())));
+    }
+
+    @Test
+    @DisplayName("Should evaluate chain of operations correctly")
+    void shouldEvaluateChainOfOperations() {
+        // Arrange: 10 + 5 = 15, * 2 = 30, - 5 = 25, / 5 = 5
+        List<ChainOperation> operations = Arrays.asList(
+                new ChainOperation(Operation.ADD, 5),
+                new ChainOperation(Operation.MULTIPLY, 2),
+                new ChainOperation(Operation.SUBTRACT, 5),
+                new ChainOperation(Operation.DIVIDE, 5)
+        );
+
+        // Act
+        Number result = chainEvaluator.evaluate(10, operations);
+
+        // Assert
+        assertEquals(5, result);
+    }
+
+    @Test
+    @DisplayName("Should return initial value when no operations are given")
+    void shouldReturnInitialValueWhenNoOperationsGiven() {
+        assertEquals(10, chainEvaluator.evaluate(10, List.of()));
+    }
+
+    @Test
+    @DisplayName("Should propagate division by zero")
+    void shouldPropagateDivisionByZero() {
+        List<ChainOperation> operations = List.of(new ChainOperation(Operation.DIVIDE, 0));
+
+        assertThrows(CalculationException.class, () -> chainEvaluator.evaluate(10, operations));
+    }
+
+    @Test
+    @DisplayName("Should keep integer chains exact in exact division mode")
+    void shouldKeepIntegerChainsExactInExactDivisionMode() {
+        // Arrange
+        List<ChainOperation> operations = List.of(
+                new ChainOperation(Operation.DIVIDE, 49),
+                new ChainOperation(Operation.MULTIPLY, 49)
+        );
+
+        // Act & Assert
+        assertEquals(0.9999999999999999, chainEvaluator.evaluate(1, operations, DivisionMode.DOUBLE));
+        assertEquals(1, chainEvaluator.evaluate(1, operations, DivisionMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("Should continue in floating point after a decimal operand in exact division mode")
+    void shouldContinueInFloatingPointAfterDecimalOperand() {
+        // Arrange: 1 / 3 is converted to a double when 0.5 is added
+        List<ChainOperation> operations = List.of(
+                new ChainOperation(Operation.DIVIDE, 3),
+                new ChainOperation(Operation.ADD, 0.5),
+                new ChainOperation(Operation.MULTIPLY, 6)
+        );
+
+        // Act
+        Number result = chainEvaluator.evaluate(1, operations, DivisionMode.EXACT);
+
+        // Assert
+        assertEquals((1.0 / 3 + 0.5) * 6, result);
+    }
+
+    @Test
+    @DisplayName("Should propagate division by zero in exact division mode")
+    void shouldPropagateDivisionByZeroInExactDivisionMode() {
+        List<ChainOperation> operations = List.of(new ChainOperation(Operation.DIVIDE, 0));
+
+        assertThrows(CalculationException.class, () -> chainEvaluator.evaluate(10, operations, DivisionMode.EXACT));
+    }
+
+    @Test
+    @DisplayName("Should evaluate concurrent chains independently")
+    void shouldEvaluateConcurrentChainsIndependently() throws Exception {
+        // Arrange: chain i adds 1 a hundred times to i, so each result is i + 100
+        int chains = 128;
+        List<ChainOperation> operations = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            operations.add(new ChainOperation(Operation.ADD, 1));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(chains);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Number>> results = new ArrayList<>();
+
+        try {
+            // Act
+            for (int i = 0; i < chains; i++) {
+                int initialValue = i;
+                results.add(executor.submit(() -> {
+                    startSignal.await();
+                    return chainEvaluator.evaluate(initialValue, operations);
+                }));
+            }
+            startSignal.countDown();
+
+            // Assert
+            for (int i = 0; i < chains; i++) {
+                assertEquals(i + 100, results.get(i).get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package org.ebay.flexiblecalculator.unit.service.chain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.dto.request.ChainOperation;
+import org.ebay.flexiblecalculator.dto.request.ChainRequest;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.ebay.flexiblecalculator.service.chain.ChainEvaluator;
+import org.ebay.flexiblecalculator.service.chain.ChainPlanner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ChainPlanner class
+ */
+class ChainPlannerTest {
+
+    private OperationRegistry registry;
+    private ChainPlanner chainPlanner;
+    private ChainEvaluator chainEvaluator;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        chainPlanner = new ChainPlanner(registry);
+        chainEvaluator = new ChainEvaluator(new CalculatorImpl(registry, new CalculatorMetrics(new SimpleMeterRegistry())));
+    }
+
+    @Test
+    @DisplayName("Should fold additive and multiplicative runs")
+    void shouldFoldAdditiveAndMultiplicativeRuns() {
+        // Arrange
+        ChainRequest request = new ChainRequest(10, List.of(
+                new ChainOperation(Operation.ADD, 1),
+                new ChainOperation(Operation.ADD, 2),
+                new ChainOperation(Operation.SUBTRACT, 4),
+                new ChainOperation(Operation.MULTIPLY, 2),
+                new ChainOperation(Operation.MULTIPLY, 5)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertEquals(List.of(
+                new ChainOperation(Operation.ADD, -1),
+                new ChainOperation(Operation.MULTIPLY, 10)
+        ), plan.getOperations());
+        assertEquals(90, chainEvaluator.evaluate(plan.getInitialValue(), plan.getOperations()));
+    }
+
+    @Test
+    @DisplayName("Should drop identity operations")
+    void shouldDropIdentityOperations() {
+        // Arrange
+        ChainRequest request = new ChainRequest(2.5, List.of(
+                new ChainOperation(Operation.MULTIPLY, 1),
+                new ChainOperation(Operation.SUBTRACT, 0),
+                new ChainOperation(Operation.DIVIDE, 1.0),
+                new ChainOperation(Operation.ADD, 1)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertEquals(List.of(new ChainOperation(Operation.ADD, 1)), plan.getOperations());
+    }
+
+    @Test
+    @DisplayName("Should keep floating point additions that are not exact to fold")
+    void shouldKeepFloatingPointAdditions() {
+        // Arrange: (x + 0.1) + 0.2 differs from x + 0.3, and x + 0 changes -0.0
+        ChainRequest request = new ChainRequest(-0.0, List.of(
+                new ChainOperation(Operation.ADD, 0),
+                new ChainOperation(Operation.ADD, 0.1),
+                new ChainOperation(Operation.ADD, 0.2)
+        ));
+
+        // Act & Assert
+        assertSame(request, chainPlanner.plan(request));
+    }
+
+    @Test
+    @DisplayName("Should keep subtracting negative zero, which turns -0.0 into 0.0")
+    void shouldKeepSubtractingNegativeZero() {
+        // Arrange
+        ChainRequest request = new ChainRequest(-0.0, List.of(new ChainOperation(Operation.SUBTRACT, -0.0)));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertSame(request, plan);
+        assertEquals(0.0, chainEvaluator.evaluate(plan.getInitialValue(), plan.getOperations()));
+    }
+
+    @Test
+    @DisplayName("Should leave a step without an operation for the evaluator to reject")
+    void shouldLeaveStepWithoutOperationUnplanned() {
+        // Arrange
+        ChainRequest request = new ChainRequest(10, Arrays.asList(
+                new ChainOperation(Operation.ADD, 0),
+                new ChainOperation(null, 5),
+                new ChainOperation(Operation.MULTIPLY, 0)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertEquals(List.of(new ChainOperation(null, 5), new ChainOperation(Operation.MULTIPLY, 0)),
+                plan.getOperations());
+        assertEquals("Unsupported operation: null", evaluate(plan));
+        assertEquals(evaluate(request), evaluate(plan));
+    }
+
+    @Test
+    @DisplayName("Should discard operations before a multiplication by zero")
+    void shouldDiscardOperationsBeforeMultiplicationByZero() {
+        // Arrange
+        ChainRequest request = new ChainRequest(7, List.of(
+                new ChainOperation(Operation.DIVIDE, 3),
+                new ChainOperation(Operation.ADD, 2.5),
+                new ChainOperation(Operation.MULTIPLY, 0),
+                new ChainOperation(Operation.ADD, 4)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert: DIVIDE 3 makes the type unknown, so the zero is only folded once the type is known again
+        assertEquals(evaluate(request), evaluate(plan));
+    }
+
+    @Test
+    @DisplayName("Should keep division by zero before a multiplication by zero")
+    void shouldKeepDivisionByZeroBeforeMultiplicationByZero() {
+        // Arrange
+        ChainRequest request = new ChainRequest(7L, List.of(
+                new ChainOperation(Operation.DIVIDE, 0),
+                new ChainOperation(Operation.MULTIPLY, 0L)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertThrows(CalculationException.class,
+                () -> chainEvaluator.evaluate(plan.getInitialValue(), plan.getOperations()));
+    }
+
+    @Test
+    @DisplayName("Should replace prefix with zero on multiplication by zero")
+    void shouldReplacePrefixWithZeroOnMultiplicationByZero() {
+        // Arrange
+        ChainRequest request = new ChainRequest(7L, List.of(
+                new ChainOperation(Operation.ADD, 3),
+                new ChainOperation(Operation.MULTIPLY, 0),
+                new ChainOperation(Operation.ADD, 4)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertEquals(0L, plan.getInitialValue());
+        assertEquals(List.of(new ChainOperation(Operation.ADD, 4)), plan.getOperations());
+    }
+
+    @Test
+    @DisplayName("Should not rewrite chains when a custom strategy is registered")
+    void shouldNotRewriteChainsWithCustomStrategy() {
+        // Arrange
+        registry.registerStrategy(new OperationStrategy() {
+            @Override
+            public Number execute(Number num1, Number num2) {
+                return num1.intValue() | num2.intValue();
+            }
+
+            @Override
+            public Operation getSupportedOperation() {
+                return Operation.ADD;
+            }
+        });
+        ChainRequest request = new ChainRequest(1, List.of(
+                new ChainOperation(Operation.ADD, 1),
+                new ChainOperation(Operation.ADD, 1)
+        ));
+
+        // Act & Assert
+        assertSame(request, chainPlanner.plan(request));
+    }
+
+    @Test
+    @DisplayName("Should not fold runs past an overflow that promotes the value")
+    void shouldNotFoldRunsPastOverflow() {
+        // Arrange: MAX_VALUE + 1 becomes a Long, so subtracting 1 again must not give back an Integer
+        ChainRequest request = new ChainRequest(Integer.MAX_VALUE, List.of(
+                new ChainOperation(Operation.ADD, 1),
+                new ChainOperation(Operation.SUBTRACT, 1),
+                new ChainOperation(Operation.MULTIPLY, 2),
+                new ChainOperation(Operation.MULTIPLY, 0)
+        ));
+
+        // Act
+        ChainRequest plan = chainPlanner.plan(request);
+
+        // Assert
+        assertEquals(0L, evaluate(request));
+        assertEquals(evaluate(request), evaluate(plan));
+    }
+
+    @Test
+    @DisplayName("Should match unplanned evaluation for random chains")
+    void shouldMatchUnplannedEvaluationForRandomChains() {
+        Random random = new Random(42);
+        Operation[] operations = Operation.values();
+
+        for (int chain = 0; chain < 500; chain++) {
+            List<ChainOperation> chainOperations = new ArrayList<>();
+            int length = 1 + random.nextInt(12);
+            for (int i = 0; i < length; i++) {
+                chainOperations.add(new ChainOperation(operations[random.nextInt(operations.length)], randomNumber(random)));
+            }
+            ChainRequest request = new ChainRequest(randomNumber(random), chainOperations);
+
+            assertEquals(evaluate(request), evaluate(chainPlanner.plan(request)), request.toString());
+        }
+    }
+
+    /**
+     * Evaluate a chain, returning either its result or its error message
+     */
+    private Object evaluate(ChainRequest request) {
+        try {
+            return chainEvaluator.evaluate(request.getInitialValue(), request.getOperations());
+        } catch (CalculationException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static Number randomNumber(Random random) {
+        return switch (random.nextInt(8)) {
+            case 0 -> 0;
+            case 1 -> 1;
+            case 2 -> random.nextInt(7) - 3;
+            case 3 -> random.nextInt();
+            case 4 -> random.nextInt(7) - 3L;
+            case 5 -> random.nextLong();
+            case 6 -> random.nextInt(7) / 2.0f - 1.5f;
+            default -> random.nextInt(7) / 2.0 - 1.5;
+        };
+    }
+}
@@ -1,5 +1,7 @@
 package org.ebay.flexiblecalculator.unit.service.chain;
 
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.CalculationResult;
 import org.ebay.flexiblecalculator.model.Operation;
 import org.ebay.flexiblecalculator.service.calculator.Calculator;
 import org.ebay.flexiblecalculator.service.chain.ChainedCalculator;
@@ -7,10 +9,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 /**
@@ -19,7 +23,8 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class ChainedCalculatorTest {
 
-    @Mock
+    // Real default methods route the in-place fast path through the stubbed calculate
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
     private Calculator calculator;
 
     private ChainedCalculator chainedCalculator;
@@ -143,4 +148,40 @@ class ChainedCalculatorTest {
         assertEquals(initialValue, result);
         verifyNoInteractions(calculator);
     }
+
+    @Test
+    @DisplayName("Should stop at the first failing step and report its error")
+    void shouldStopAtFirstFailingStep() {
+        // Arrange
+        when(calculator.calculate(Operation.DIVIDE, 5, 0))
+                .thenThrow(new CalculationException("Division by zero is not allowed"));
+
+        // Act
+        chainedCalculator
+                .start(5)
+                .apply(Operation.DIVIDE, 0)
+                .apply(Operation.ADD, 1);
+
+        // Assert
+        assertEquals(CalculationResult.error("Division by zero is not allowed"),
+                chainedCalculator.getCalculationResult());
+        CalculationException exception = assertThrows(CalculationException.class, chainedCalculator::getResult);
+        assertEquals(0, exception.getStackTrace().length);
+        verify(calculator, never()).calculate(eq(Operation.ADD), any(), any());
+    }
+
+    @Test
+    @DisplayName("Should clear a previous error when a new chain starts")
+    void shouldClearErrorOnStart() {
+        // Arrange
+        when(calculator.calculate(Operation.DIVIDE, 5, 0))
+                .thenThrow(new CalculationException("Division by zero is not allowed"));
+        chainedCalculator.start(5).apply(Operation.DIVIDE, 0);
+
+        // Act
+        Number result = chainedCalculator.start(7).getResult();
+
+        // Assert
+        assertEquals(7, result);
+    }
 }
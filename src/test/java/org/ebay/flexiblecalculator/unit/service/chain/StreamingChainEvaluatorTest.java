@@ -0,0 +1,177 @@
+package org.ebay.flexiblecalculator.unit.service.chain;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.metrics.CalculatorMetrics;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.calculator.CalculatorImpl;
+import org.ebay.flexiblecalculator.service.chain.StreamingChainEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the StreamingChainEvaluator class
+ */
+class StreamingChainEvaluatorTest {
+
+    private StreamingChainEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        OperationRegistry registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        CalculatorMetrics calculatorMetrics = new CalculatorMetrics(new SimpleMeterRegistry());
+        evaluator = new StreamingChainEvaluator(new CalculatorImpl(registry, calculatorMetrics), new ObjectMapper(), calculatorMetrics);
+    }
+
+    @Test
+    @DisplayName("Should evaluate streamed chain like the bound chain request")
+    void shouldEvaluateStreamedChain() throws IOException {
+        // 100 / 4 = 25, + 15 = 40, - 5 = 35, * 2 = 70
+        String json = "{\"initialValue\":100,\"operations\":["
+                + "{\"operation\":\"DIVIDE\",\"value\":4},"
+                + "{\"value\":15,\"operation\":\"ADD\"},"
+                + "{\"operation\":\"SUBTRACT\",\"value\":5},"
+                + "{\"operation\":\"MULTIPLY\",\"value\":2}]}";
+
+        assertEquals(70, evaluator.evaluate(stream(json)));
+    }
+
+    @Test
+    @DisplayName("Should keep decimal values as doubles")
+    void shouldKeepDecimalValuesAsDoubles() throws IOException {
+        String json = "{\"initialValue\":10.5,\"operations\":[{\"operation\":\"ADD\",\"value\":5.5}]}";
+
+        assertEquals(16.0, evaluator.evaluate(stream(json)));
+    }
+
+    @Test
+    @DisplayName("Should report the index of an invalid operation")
+    void shouldReportIndexOfInvalidOperation() {
+        String json = "{\"initialValue\":1,\"operations\":["
+                + "{\"operation\":\"ADD\",\"value\":1},"
+                + "{\"operation\":\"MODULO\",\"value\":1}]}";
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class, () -> evaluator.evaluate(stream(json)));
+        assertEquals("operations[1].operation", ex.getField());
+    }
+
+    @Test
+    @DisplayName("Should report the index of a missing value")
+    void shouldReportIndexOfMissingValue() {
+        String json = "{\"initialValue\":1,\"operations\":["
+                + "{\"operation\":\"ADD\",\"value\":1},"
+                + "{\"operation\":\"ADD\",\"value\":2},"
+                + "{\"operation\":\"ADD\",\"value\":null}]}";
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class, () -> evaluator.evaluate(stream(json)));
+        assertEquals("operations[2].value", ex.getField());
+        assertEquals("Operation value is required", ex.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject a body cut off after the operations")
+    void shouldRejectTruncatedBody() {
+        String complete = "{\"initialValue\":10,\"operations\":[{\"operation\":\"ADD\",\"value\":5}]}";
+
+        for (String body : List.of(complete.substring(0, complete.length() - 1),
+                complete.substring(0, complete.length() - 3),
+                complete.substring(0, complete.indexOf('}') + 1),
+                complete + " {}")) {
+            InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                    () -> evaluator.evaluate(stream(body)), body);
+            assertEquals("body", exception.getField(), body);
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject missing initial value and empty operations")
+    void shouldRejectMissingInitialValueAndEmptyOperations() {
+        InvalidRequestException missingInitial = assertThrows(InvalidRequestException.class,
+                () -> evaluator.evaluate(stream("{\"operations\":[{\"operation\":\"ADD\",\"value\":1}]}")));
+        assertEquals("initialValue", missingInitial.getField());
+
+        InvalidRequestException emptyOperations = assertThrows(InvalidRequestException.class,
+                () -> evaluator.evaluate(stream("{\"initialValue\":1,\"operations\":[]}")));
+        assertEquals("operations", emptyOperations.getField());
+    }
+
+    @Test
+    @DisplayName("Should evaluate streamed chain in exact division mode")
+    void shouldEvaluateStreamedChainInExactDivisionMode() throws IOException {
+        String json = "{\"initialValue\":10,\"divisionMode\":\"EXACT\",\"operations\":["
+                + "{\"operation\":\"DIVIDE\",\"value\":3},"
+                + "{\"operation\":\"MULTIPLY\",\"value\":3}]}";
+
+        assertEquals(10, evaluator.evaluate(stream(json)));
+    }
+
+    @Test
+    @DisplayName("Should reject division mode after operations")
+    void shouldRejectDivisionModeAfterOperations() {
+        String json = "{\"initialValue\":10,\"operations\":[{\"operation\":\"DIVIDE\",\"value\":3}],"
+                + "\"divisionMode\":\"EXACT\"}";
+
+        InvalidRequestException ex = assertThrows(InvalidRequestException.class, () -> evaluator.evaluate(stream(json)));
+        assertEquals("divisionMode", ex.getField());
+    }
+
+    @Test
+    @DisplayName("Should propagate division by zero")
+    void shouldPropagateDivisionByZero() {
+        String json = "{\"initialValue\":1,\"operations\":[{\"operation\":\"DIVIDE\",\"value\":0}]}";
+
+        assertThrows(CalculationException.class, () -> evaluator.evaluate(stream(json)));
+    }
+
+    @Test
+    @DisplayName("Should evaluate a long chain generated on the fly")
+    void shouldEvaluateLongChainGeneratedOnTheFly() throws IOException {
+        // The body is produced lazily, so the chain is never held in memory as a whole
+        int length = 10_000;
+        byte[] operation = "{\"operation\":\"ADD\",\"value\":1},".getBytes(StandardCharsets.UTF_8);
+        Enumeration<InputStream> parts = new Enumeration<>() {
+            private int produced = -1;
+
+            @Override
+            public boolean hasMoreElements() {
+                return produced <= length;
+            }
+
+            @Override
+            public InputStream nextElement() {
+                produced++;
+                if (produced == 0) {
+                    return stream("{\"initialValue\":0,\"operations\":[");
+                } else if (produced > length) {
+                    return stream("{\"operation\":\"ADD\",\"value\":0}]}");
+                }
+                return new ByteArrayInputStream(operation);
+            }
+        };
+
+        assertEquals(length, evaluator.evaluate(new SequenceInputStream(parts)));
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,150 @@
+package org.ebay.flexiblecalculator.unit.service.expression;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.ebay.flexiblecalculator.config.ExpressionProperties;
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.service.expression.Expression;
+import org.ebay.flexiblecalculator.service.expression.ExpressionEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExpressionEvaluator class
+ */
+class ExpressionEvaluatorTest {
+
+    private OperationRegistry registry;
+    private MeterRegistry meterRegistry;
+    private ExpressionEvaluator evaluator;
+
+    @BeforeEach
+    void setUp() {
+        registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        meterRegistry = new SimpleMeterRegistry();
+        ExpressionProperties expressionProperties = new ExpressionProperties();
+        expressionProperties.setMaxLength(64);
+        evaluator = new ExpressionEvaluator(registry, expressionProperties, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should evaluate an expression with variable values")
+    void shouldEvaluateExpressionWithVariables() {
+        // Act
+        Number result = evaluator.evaluate("(3 + 4) * 2 / x", Map.of("x", 7));
+
+        // Assert
+        assertEquals(2, result);
+    }
+
+    @Test
+    @DisplayName("Should promote results like the operation strategies do")
+    void shouldPromoteResults() {
+        // Act & Assert
+        assertEquals(2147483648L, evaluator.evaluate("x + 1", Map.of("x", Integer.MAX_VALUE)));
+        assertEquals(new BigInteger("9223372036854775808"), evaluator.evaluate("-x", Map.of("x", Long.MIN_VALUE)));
+        assertEquals(7.5, evaluator.evaluate("x * 3", Map.of("x", 2.5)));
+        assertEquals(2.5, evaluator.evaluate("5 / 2", Map.of()));
+    }
+
+    @Test
+    @DisplayName("Should parse a repeated expression once and evaluate it with each binding")
+    void shouldParseRepeatedExpressionOnce() {
+        // Act
+        Number first = evaluator.evaluate("a * b + c", Map.of("a", 2, "b", 3, "c", 4));
+        Number second = evaluator.evaluate("a * b + c", Map.of("a", 5, "b", 6, "c", 7));
+
+        // Assert
+        assertEquals(10, first);
+        assertEquals(37, second);
+        assertSame(evaluator.parse("a * b + c"), evaluator.parse("a * b + c"));
+        assertEquals(3.0, meterRegistry.get("cache.gets").tag("cache", ExpressionEvaluator.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", ExpressionEvaluator.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Should evaluate deeply right-nested expressions")
+    void shouldEvaluateRightNestedExpressions() {
+        // Act
+        Number result = evaluator.evaluate("1 - (2 - (3 - (4 - (5 - x))))", Map.of("x", 6));
+
+        // Assert
+        assertEquals(-3, result);
+    }
+
+    @Test
+    @DisplayName("Should use a strategy registered after the expression was cached")
+    void shouldUseStrategyRegisteredAfterCaching() {
+        // Arrange
+        Expression expression = evaluator.parse("x + 1");
+        registry.registerStrategy(new OperationStrategy() {
+            @Override
+            public Number execute(Number num1, Number num2) {
+                return 42;
+            }
+
+            @Override
+            public Operation getSupportedOperation() {
+                return Operation.ADD;
+            }
+        });
+
+        // Act
+        Number result = evaluator.evaluate(expression, Map.of("x", 1));
+
+        // Assert
+        assertEquals(42, result);
+    }
+
+    @Test
+    @DisplayName("Should reject a variable without a value")
+    void shouldRejectUnboundVariable() {
+        // Act
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> evaluator.evaluate("x + y", Map.of("x", 1)));
+
+        // Assert
+        assertEquals("variables", exception.getField());
+        assertEquals("No value for variable y", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should reject an expression longer than the limit")
+    void shouldRejectExpressionLongerThanLimit() {
+        // Act
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> evaluator.evaluate("1" + " + 1".repeat(20), Map.of()));
+
+        // Assert
+        assertEquals("Expression is longer than 64 characters", exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for division by zero")
+    void shouldThrowExceptionForDivisionByZero() {
+        // Act
+        CalculationException exception = assertThrows(CalculationException.class,
+                () -> evaluator.evaluate("1 / (x - x)", Map.of("x", 3)));
+
+        // Assert
+        assertEquals("Division by zero is not allowed", exception.getMessage());
+    }
+}
@@ -0,0 +1,117 @@
+package org.ebay.flexiblecalculator.unit.service.expression;
+
+import org.ebay.flexiblecalculator.exception.InvalidRequestException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.service.expression.Expression;
+import org.ebay.flexiblecalculator.service.expression.ExpressionParser;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the ExpressionParser class
+ */
+class ExpressionParserTest {
+
+    @Test
+    @DisplayName("Should apply multiplication and division before addition and subtraction")
+    void shouldApplyPrecedence() {
+        // Act
+        Expression expression = ExpressionParser.parse("1 + 2 * x - 6 / 3");
+
+        // Assert
+        Expression expected = new Expression.Binary(Operation.SUBTRACT,
+                new Expression.Binary(Operation.ADD,
+                        new Expression.Literal(1),
+                        new Expression.Binary(Operation.MULTIPLY, new Expression.Literal(2), new Expression.Variable("x"))),
+                new Expression.Binary(Operation.DIVIDE, new Expression.Literal(6), new Expression.Literal(3)));
+        assertEquals(expected, expression);
+    }
+
+    @Test
+    @DisplayName("Should group parenthesized subexpressions")
+    void shouldGroupParenthesizedSubexpressions() {
+        // Act
+        Expression expression = ExpressionParser.parse("(3+4)*2/x");
+
+        // Assert
+        Expression expected = new Expression.Binary(Operation.DIVIDE,
+                new Expression.Binary(Operation.MULTIPLY,
+                        new Expression.Binary(Operation.ADD, new Expression.Literal(3), new Expression.Literal(4)),
+                        new Expression.Literal(2)),
+                new Expression.Variable("x"));
+        assertEquals(expected, expression);
+    }
+
+    @Test
+    @DisplayName("Should bind numbers to the narrowest type")
+    void shouldBindNumbersToNarrowestType() {
+        // Act & Assert
+        assertEquals(new Expression.Literal(7), ExpressionParser.parse("7"));
+        assertEquals(new Expression.Literal(4_000_000_000L), ExpressionParser.parse("4000000000"));
+        assertEquals(new Expression.Literal(new BigInteger("99999999999999999999")),
+                ExpressionParser.parse("99999999999999999999"));
+        assertEquals(new Expression.Literal(0.5), ExpressionParser.parse(".5"));
+        assertEquals(new Expression.Literal(2e23), ExpressionParser.parse("2e23"));
+    }
+
+    @Test
+    @DisplayName("Should fold signs into literals and subtract negated variables from zero")
+    void shouldFoldSignsIntoLiterals() {
+        // Act & Assert
+        assertEquals(new Expression.Literal(-3), ExpressionParser.parse("-3"));
+        assertEquals(new Expression.Literal(3), ExpressionParser.parse("- -+3"));
+        assertEquals(new Expression.Literal(-2.5), ExpressionParser.parse("-2.5"));
+        assertEquals(new Expression.Literal(Integer.MIN_VALUE), ExpressionParser.parse("-2147483648"));
+        assertEquals(new Expression.Literal(Long.MIN_VALUE), ExpressionParser.parse("-9223372036854775808"));
+        assertEquals(new Expression.Binary(Operation.SUBTRACT, new Expression.Literal(0), new Expression.Variable("x")),
+                ExpressionParser.parse("-x"));
+    }
+
+    @Test
+    @DisplayName("Should count the accumulators needed to evaluate an expression")
+    void shouldCountRegisters() {
+        // Act & Assert
+        assertEquals(1, ExpressionParser.parse("x").registers());
+        assertEquals(2, ExpressionParser.parse("a + b + c + d").registers());
+        assertEquals(4, ExpressionParser.parse("a + (b + (c + d))").registers());
+    }
+
+    @Test
+    @DisplayName("Should report where an invalid expression fails")
+    void shouldReportWhereInvalidExpressionFails() {
+        // Act & Assert
+        assertEquals("Unexpected '*' at index 4", parseError("3 + * 4"));
+        assertEquals("Unexpected end of expression", parseError("3 +"));
+        assertEquals("Missing ')' at the end of the expression", parseError("(3 + 4"));
+        assertEquals("Unexpected ')' at index 5", parseError("3 + 4)"));
+        assertEquals("Unexpected 'x' at index 1", parseError("2x"));
+        assertEquals("Invalid number at index 0", parseError("1e+"));
+        assertEquals("Unexpected end of expression", parseError("  "));
+    }
+
+    @Test
+    @DisplayName("Should reject expressions nested too deeply")
+    void shouldRejectExpressionsNestedTooDeeply() {
+        // Arrange
+        String nested = "(".repeat(300) + "1" + ")".repeat(300);
+
+        // Act
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> ExpressionParser.parse(nested));
+
+        // Assert
+        assertEquals("expression", exception.getField());
+        assertEquals("Expression is nested more than 256 levels deep", exception.getMessage());
+    }
+
+    private static String parseError(String text) {
+        InvalidRequestException exception = assertThrows(InvalidRequestException.class,
+                () -> ExpressionParser.parse(text));
+        assertEquals("expression", exception.getField());
+        return exception.getMessage();
+    }
+}
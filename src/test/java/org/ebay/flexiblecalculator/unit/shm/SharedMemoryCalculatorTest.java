@@ -0,0 +1,206 @@
+package org.ebay.flexiblecalculator.unit.shm;
+
+import org.ebay.flexiblecalculator.exception.CalculationException;
+import org.ebay.flexiblecalculator.model.Operation;
+import org.ebay.flexiblecalculator.operation.OperationStrategy;
+import org.ebay.flexiblecalculator.operation.strategy.*;
+import org.ebay.flexiblecalculator.shm.SharedMemoryCalculatorClient;
+import org.ebay.flexiblecalculator.shm.SharedMemoryCalculatorServer;
+import org.ebay.flexiblecalculator.shm.SharedMemoryRing;
+import org.ebay.flexiblecalculator.shm.WaitStrategy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the shared memory ring transport
+ */
+class SharedMemoryCalculatorTest {
+
+    // Small enough that the concurrent test wraps around the ring many times
+    private static final int CAPACITY = 8;
+
+    private static final Duration ABANDON_TIMEOUT = Duration.ofMillis(100);
+
+    // Size of the ring file header, and offset of its tail, the next position to claim
+    private static final int HEADER_SIZE = 128;
+    private static final int TAIL_OFFSET = 64;
+
+    // Longest error message that fits in a slot, in UTF-8 bytes
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 86;
+
+    @TempDir
+    Path tempDir;
+
+    private OperationRegistry registry;
+    private Path ringPath;
+    private SharedMemoryCalculatorServer server;
+    private SharedMemoryCalculatorClient client;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        registry = new OperationRegistry(Arrays.asList(
+                new AddOperation(),
+                new SubtractOperation(),
+                new MultiplyOperation(),
+                new DivideOperation()
+        ));
+        ringPath = tempDir.resolve("calculator.ring");
+        server = new SharedMemoryCalculatorServer(registry, ringPath, CAPACITY, WaitStrategy.YIELD, ABANDON_TIMEOUT);
+        server.start();
+        client = SharedMemoryCalculatorClient.open(ringPath, WaitStrategy.YIELD);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        client.close();
+        server.stop();
+    }
+
+    @Test
+    @DisplayName("Should calculate with every operand type and keep the promoted result type")
+    void shouldCalculateWithEveryOperandType() {
+        assertEquals(8, client.calculate(Operation.ADD, 5, 3));
+        assertEquals(6_000_000_000L, client.calculate(Operation.MULTIPLY, 3_000_000_000L, 2));
+        assertEquals(7.5f, client.calculate(Operation.SUBTRACT, 10, 2.5f));
+        assertEquals(2.5, client.calculate(Operation.DIVIDE, 5.0, 2));
+    }
+
+    @Test
+    @DisplayName("Should report division by zero and keep serving")
+    void shouldReportErrors() {
+        CalculationException exception = assertThrows(CalculationException.class,
+                () -> client.calculate(Operation.DIVIDE, 10, 0));
+
+        assertTrue(exception.getMessage().contains("zero"), exception.getMessage());
+        assertEquals(2, client.calculate(Operation.DIVIDE, 10, 5));
+        assertThrows(IllegalArgumentException.class, () -> client.calculate(Operation.ADD, BigDecimal.ONE, 1));
+    }
+
+    @Test
+    @DisplayName("Should truncate a long error message before a character that does not fit whole")
+    void shouldTruncateErrorMessageOnCharacterBoundary() {
+        // Arrange: one byte is left after the x's, too few for the 3-byte euro signs
+        String prefix = "x".repeat(MAX_ERROR_MESSAGE_LENGTH - 1);
+        registry.registerStrategy(new OperationStrategy() {
+            @Override
+            public Number execute(Number num1, Number num2) {
+                throw new CalculationException(prefix + "\u20ac".repeat(10));
+            }
+
+            @Override
+            public Operation getSupportedOperation() {
+                return Operation.ADD;
+            }
+        });
+
+        // Act
+        CalculationException exception = assertThrows(CalculationException.class,
+                () -> client.calculate(Operation.ADD, 1, 2));
+
+        // Assert
+        assertEquals(prefix, exception.getMessage());
+    }
+
+    @Test
+    @DisplayName("Should answer concurrent producers from several clients")
+    void shouldAnswerConcurrentProducers() throws Exception {
+        int producers = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<?>> done = new ArrayList<>();
+        List<SharedMemoryCalculatorClient> clients = new ArrayList<>();
+        try {
+            for (int p = 0; p < producers; p++) {
+                SharedMemoryCalculatorClient producerClient = SharedMemoryCalculatorClient.open(ringPath, WaitStrategy.YIELD);
+                clients.add(producerClient);
+                long base = p * 1_000_000L;
+                done.add(executor.submit(() -> {
+                    startSignal.await();
+                    for (int i = 0; i < 2_000; i++) {
+                        assertEquals(base + i, producerClient.calculate(Operation.ADD, base, i));
+                    }
+                    return null;
+                }));
+            }
+            startSignal.countDown();
+            for (Future<?> future : done) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+            for (SharedMemoryCalculatorClient producerClient : clients) {
+                producerClient.close();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should answer later requests after a client dies holding a claimed slot")
+    void shouldAnswerLaterRequestsAfterClientDiesHoldingClaimedSlot() throws Exception {
+        // Arrange: claim position 0 without ever publishing it, as a client that dies right after claiming
+        try (FileChannel channel = FileChannel.open(ringPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE);
+            header.order(ByteOrder.nativeOrder()).putLong(TAIL_OFFSET, 1L);
+        }
+
+        // Act: the first request waits for the poller to abandon position 0; the rest wrap around the ring
+        // onto it, which the dead client never freed
+        List<Number> results = new ArrayList<>();
+        for (int i = 0; i < 2 * CAPACITY; i++) {
+            results.add(client.calculate(Operation.ADD, i, 1));
+        }
+
+        // Assert
+        for (int i = 0; i < 2 * CAPACITY; i++) {
+            assertEquals(i + 1, results.get(i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should time out when the server is not polling the ring")
+    void shouldTimeOutWhenServerIsNotPolling() throws Exception {
+        try (SharedMemoryCalculatorClient timingOutClient =
+                     SharedMemoryCalculatorClient.open(ringPath, WaitStrategy.YIELD, Duration.ofMillis(100))) {
+            // Arrange
+            server.stop();
+
+            // Act
+            CalculationException exception = assertThrows(CalculationException.class,
+                    () -> timingOutClient.calculate(Operation.ADD, 1, 2));
+
+            // Assert
+            assertEquals("Timed out waiting for the calculator", exception.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject files that are not rings and capacities that are not powers of two")
+    void shouldRejectInvalidRings() throws Exception {
+        Path other = Files.write(tempDir.resolve("other"), new byte[256]);
+
+        assertThrows(IllegalStateException.class, () -> SharedMemoryRing.open(other));
+        assertThrows(IllegalArgumentException.class, () -> SharedMemoryRing.create(tempDir.resolve("bad"), 6));
+    }
+}